@@ -0,0 +1,101 @@
+package com.axora.backend.benchmark;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import com.axora.backend.dto.notification.NotificationResponse;
+import com.axora.backend.entity.Category;
+import com.axora.backend.entity.NotificationType;
+import com.axora.backend.entity.Role;
+import com.axora.backend.entity.Task;
+import com.axora.backend.entity.TaskPriority;
+import com.axora.backend.entity.TaskStatus;
+import com.axora.backend.entity.User;
+
+/**
+ * Ölçümler için sabit tohumlu örnek veri. Görevler 50 kullanıcı ve 10 kategoriye dağılır;
+ * başlık ve açıklama uzunlukları gerçek kayıtlara yakındır.
+ */
+final class BenchmarkData {
+
+    private static final String[] WORDS = {
+        "rapor", "hata", "müşteri", "sunucu", "fatura", "toplantı", "güncelleme", "ekran", "kontrol",
+        "yedekleme", "entegrasyon", "şablon", "istanbul", "ödeme", "bildirim", "performans"
+    };
+
+    private BenchmarkData() {
+    }
+
+    static List<Task> tasks(int count) {
+        Random random = new Random(42);
+        List<User> users = new ArrayList<>();
+        for (long i = 1; i <= 50; i++) {
+            users.add(User.builder()
+                .id(i)
+                .name("Kullanıcı " + i)
+                .email("user" + i + "@example.com")
+                .role(i == 1 ? Role.ROLE_ADMIN : Role.ROLE_USER)
+                .active(true)
+                .build());
+        }
+        List<Category> categories = new ArrayList<>();
+        for (long i = 1; i <= 10; i++) {
+            categories.add(Category.builder().id(i).name("Kategori " + i).build());
+        }
+
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 9, 0);
+        List<Task> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            tasks.add(Task.builder()
+                .id((long) i + 1)
+                .title(sentence(random, 3 + random.nextInt(4)))
+                .description(sentence(random, 20 + random.nextInt(20)))
+                .status(TaskStatus.values()[random.nextInt(TaskStatus.values().length)])
+                .priority(TaskPriority.values()[random.nextInt(TaskPriority.values().length)])
+                .dueDate(LocalDate.of(2025, 1, 1).plusDays(random.nextInt(90)))
+                .assignedUser(users.get(random.nextInt(users.size())))
+                .createdBy(users.get(0))
+                .category(categories.get(random.nextInt(categories.size())))
+                .createdAt(now.minusMinutes(count - i))
+                .updatedAt(now)
+                .commentCount(random.nextInt(20))
+                .build());
+        }
+        return tasks;
+    }
+
+    static List<NotificationResponse> notifications(int count) {
+        Random random = new Random(42);
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 9, 0);
+        List<NotificationResponse> notifications = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            boolean read = random.nextBoolean();
+            notifications.add(NotificationResponse.builder()
+                .id((long) i + 1)
+                .title("Görev Durumu Değişti")
+                .message(sentence(random, 8 + random.nextInt(8)))
+                .type(NotificationType.values()[random.nextInt(NotificationType.values().length)])
+                .taskId((long) random.nextInt(count) + 1)
+                .read(read)
+                .createdAt(now.minusMinutes(count - i))
+                .readAt(read ? now : null)
+                .build());
+        }
+        return notifications;
+    }
+
+    private static String sentence(Random random, int words) {
+        StringBuilder sentence = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                sentence.append(' ');
+            }
+            sentence.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        sentence.setCharAt(0, Character.toUpperCase(sentence.charAt(0)));
+        return sentence.toString();
+    }
+}
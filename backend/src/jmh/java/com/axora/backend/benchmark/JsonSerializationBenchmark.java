@@ -0,0 +1,51 @@
+package com.axora.backend.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.axora.backend.dto.notification.NotificationResponse;
+import com.axora.backend.dto.task.TaskResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// Liste uçlarının yanıt gövdesi; ObjectMapper Spring Boot'un varsayılan ayarlarıyla kurulur
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonSerializationBenchmark {
+
+    @Param({"100", "10000"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private List<TaskResponse> tasks;
+    private List<NotificationResponse> notifications;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        tasks = BenchmarkData.tasks(size).stream().map(TaskResponse::fromTask).collect(Collectors.toList());
+        notifications = BenchmarkData.notifications(size);
+    }
+
+    @Benchmark
+    public byte[] taskResponses() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(tasks);
+    }
+
+    @Benchmark
+    public byte[] notificationResponses() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(notifications);
+    }
+}
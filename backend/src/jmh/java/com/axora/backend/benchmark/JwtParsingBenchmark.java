@@ -0,0 +1,56 @@
+package com.axora.backend.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.axora.backend.entity.Role;
+import com.axora.backend.entity.User;
+import com.axora.backend.security.JwtService;
+
+import io.jsonwebtoken.Claims;
+
+// Her istekte JwtAuthenticationFilter'ın yaptığı imza doğrulaması ve girişte token üretimi
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtParsingBenchmark {
+
+    private static final String SECRET = "ZGV2U2VjcmV0S2V5MTIzNDU2YWJjZGVmZ2hpamtsbW5vcHFyc3R1dnd4eXo3ODk=";
+
+    private JwtService jwtService;
+    private User user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtService = new JwtService();
+        ReflectionTestUtils.setField(jwtService, "secretKey", SECRET);
+        ReflectionTestUtils.setField(jwtService, "jwtExpiration", 86_400_000L);
+        user = User.builder()
+            .id(7L)
+            .name("Test User")
+            .email("test@example.com")
+            .role(Role.ROLE_USER)
+            .active(true)
+            .build();
+        token = jwtService.generateToken(user);
+    }
+
+    @Benchmark
+    public Claims parseVerifiedClaims() {
+        return jwtService.parseVerifiedClaims(token);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateToken(user);
+    }
+}
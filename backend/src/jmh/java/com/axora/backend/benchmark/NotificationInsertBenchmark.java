@@ -0,0 +1,194 @@
+package com.axora.backend.benchmark;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Outbox'ın bir grup bildirimi yazması, Hibernate'in iki id stratejisinde ürettiği JDBC
+ * trafiğiyle. IDENTITY'de her satır ayrı INSERT'tir ve üretilen id hemen okunur; havuzlu
+ * sequence'te id'ler 50'lik bloklardan verilir ve satırlar batch olarak gönderilir.
+ *
+ * <p>Varsayılan veritabanı bellek içi H2'dir ve yalnızca sürücü içi maliyeti gösterir; ağ gidiş
+ * dönüşü dahil fark için docker-compose PostgreSQL'i ile çalıştırılır ({@code -p database=postgresql},
+ * bağlantı bilgileri backend ile aynı ortam değişkenlerinden okunur).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class NotificationInsertBenchmark {
+
+    private static final int ALLOCATION_SIZE = 50;
+    private static final String COLUMNS = "user_id, task_id, title, message, type, is_read, created_at";
+
+    @Param({"h2"})
+    private String database;
+
+    // Outbox varsayılan grup boyutu (notification.outbox.batch-size)
+    @Param({"100"})
+    private int notifications;
+
+    // hibernate.jdbc.batch_size
+    @Param({"50"})
+    private int batchSize;
+
+    // Yalnızca PostgreSQL: sürücünün batch'i çok satırlı INSERT'e çevirmesi
+    @Param({"true"})
+    private boolean reWriteBatchedInserts;
+
+    private Connection connection;
+    private String nextValueQuery;
+    private long nextId;
+    private long blockEnd;
+    private final LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 9, 0);
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        switch (database) {
+            case "h2":
+                connection = DriverManager.getConnection(
+                    "jdbc:h2:mem:notification-insert;DB_CLOSE_DELAY=-1;MODE=PostgreSQL", "sa", "");
+                nextValueQuery = "SELECT NEXT VALUE FOR bench_notifications_seq";
+                break;
+            case "postgresql":
+                connection = DriverManager.getConnection(
+                    String.format("jdbc:postgresql://%s:%s/%s?reWriteBatchedInserts=%s",
+                        env("DB_HOST", "localhost"), env("DB_PORT", "5434"), env("DB_NAME", "axora_db"),
+                        reWriteBatchedInserts),
+                    env("DB_USER", "postgres"), env("DB_PASSWORD", "postgres"));
+                nextValueQuery = "SELECT nextval('bench_notifications_seq')";
+                break;
+            default:
+                throw new IllegalArgumentException("Bilinmeyen veritabanı: " + database);
+        }
+        try (Statement statement = connection.createStatement()) {
+            dropTables(statement);
+            statement.execute("CREATE TABLE bench_notifications_identity ("
+                + "id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, " + columns() + ")");
+            statement.execute("CREATE TABLE bench_notifications_sequence (id BIGINT PRIMARY KEY, " + columns() + ")");
+            statement.execute("CREATE SEQUENCE bench_notifications_seq START WITH 1 INCREMENT BY " + ALLOCATION_SIZE);
+        }
+        connection.setAutoCommit(false);
+    }
+
+    // Tablolar her iterasyonda boşaltılır; indeks büyümesi ölçümleri kaydırmasın
+    @TearDown(Level.Iteration)
+    public void truncate() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("TRUNCATE TABLE bench_notifications_identity");
+            statement.execute("TRUNCATE TABLE bench_notifications_sequence");
+        }
+        connection.commit();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.setAutoCommit(true);
+        try (Statement statement = connection.createStatement()) {
+            dropTables(statement);
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public long identityPerRow() throws SQLException {
+        long lastId = 0;
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO bench_notifications_identity (" + COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, ?)",
+                new String[] {"id"})) {
+            for (int i = 0; i < notifications; i++) {
+                bind(insert, 1, i);
+                insert.executeUpdate();
+                try (ResultSet keys = insert.getGeneratedKeys()) {
+                    keys.next();
+                    lastId = keys.getLong(1);
+                }
+            }
+        }
+        connection.commit();
+        return lastId;
+    }
+
+    @Benchmark
+    public long pooledSequenceBatch() throws SQLException {
+        long lastId = 0;
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO bench_notifications_sequence (id, " + COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < notifications; i++) {
+                lastId = nextId();
+                insert.setLong(1, lastId);
+                bind(insert, 2, i);
+                insert.addBatch();
+                if ((i + 1) % batchSize == 0) {
+                    insert.executeBatch();
+                }
+            }
+            if (notifications % batchSize != 0) {
+                insert.executeBatch();
+            }
+        }
+        connection.commit();
+        return lastId;
+    }
+
+    // Hibernate'in pooled optimizer'ı gibi: sequence değeri bloğun üst sınırıdır
+    private long nextId() throws SQLException {
+        if (nextId == 0 || nextId > blockEnd) {
+            try (Statement statement = connection.createStatement();
+                 ResultSet result = statement.executeQuery(nextValueQuery)) {
+                result.next();
+                blockEnd = result.getLong(1);
+            }
+            if (blockEnd < ALLOCATION_SIZE) {
+                return nextId();
+            }
+            nextId = blockEnd - ALLOCATION_SIZE + 1;
+        }
+        return nextId++;
+    }
+
+    // first: ilk bildirim kolonunun parametre sırası (id verilen sorguda 2)
+    private void bind(PreparedStatement insert, int first, int i) throws SQLException {
+        insert.setLong(first, 1 + i % 50);
+        insert.setLong(first + 1, 1 + i % 1000);
+        insert.setString(first + 2, "Görev güncellendi");
+        insert.setString(first + 3, "Görev #" + i + " durumu Devam Ediyor olarak değiştirildi");
+        insert.setString(first + 4, "TASK_STATUS_CHANGED");
+        insert.setBoolean(first + 5, false);
+        insert.setTimestamp(first + 6, Timestamp.valueOf(createdAt));
+    }
+
+    private static String columns() {
+        return "user_id BIGINT NOT NULL, task_id BIGINT NOT NULL, title VARCHAR(255) NOT NULL, "
+            + "message VARCHAR(255) NOT NULL, type VARCHAR(32) NOT NULL, is_read BOOLEAN NOT NULL, "
+            + "created_at TIMESTAMP NOT NULL";
+    }
+
+    private static void dropTables(Statement statement) throws SQLException {
+        statement.execute("DROP TABLE IF EXISTS bench_notifications_identity");
+        statement.execute("DROP TABLE IF EXISTS bench_notifications_sequence");
+        statement.execute("DROP SEQUENCE IF EXISTS bench_notifications_seq");
+    }
+
+    private static String env(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return value == null || value.isBlank() ? defaultValue : value;
+    }
+}
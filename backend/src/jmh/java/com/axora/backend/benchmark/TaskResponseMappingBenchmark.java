@@ -0,0 +1,39 @@
+package com.axora.backend.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.axora.backend.dto.task.TaskResponse;
+import com.axora.backend.entity.Task;
+
+// Entity'den yanıt nesnesine dönüşüm; yükleme sorgusu hariç, yalnızca eşleme maliyeti
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TaskResponseMappingBenchmark {
+
+    @Param({"100", "10000"})
+    private int size;
+
+    private List<Task> tasks;
+
+    @Setup
+    public void setUp() {
+        tasks = BenchmarkData.tasks(size);
+    }
+
+    @Benchmark
+    public List<TaskResponse> fromTask() {
+        return tasks.stream().map(TaskResponse::fromTask).collect(Collectors.toList());
+    }
+}
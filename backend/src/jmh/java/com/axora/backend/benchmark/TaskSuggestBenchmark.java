@@ -0,0 +1,50 @@
+package com.axora.backend.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.axora.backend.dto.task.TaskSuggestion;
+import com.axora.backend.service.TaskTitleIndex;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// Görev seçici önerileri; kısa önek en uzun listeleri, çok kelimeli sorgu kesişimi ölçer
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TaskSuggestBenchmark {
+
+    @Param({"100000"})
+    private int size;
+
+    @Param({"ra", "rapor ha", "müşteri fatura öd"})
+    private String query;
+
+    private TaskTitleIndex index;
+
+    @Setup
+    public void setUp() {
+        // Depo yalnızca yeniden yüklemede kullanılır; görevler kancalarla eklenir
+        index = new TaskTitleIndex(null, new SimpleMeterRegistry(), 5000);
+        index.onTasksSaved(BenchmarkData.tasks(size));
+    }
+
+    @Benchmark
+    public List<TaskSuggestion> suggestForAdmin() {
+        return index.suggest(query, null, TaskTitleIndex.DEFAULT_SUGGESTIONS);
+    }
+
+    @Benchmark
+    public List<TaskSuggestion> suggestForAssignee() {
+        return index.suggest(query, 7L, TaskTitleIndex.DEFAULT_SUGGESTIONS);
+    }
+}
@@ -0,0 +1,50 @@
+package com.axora.backend.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Kategori, takım ve kullanıcı listeleri ile panel özetleri için Caffeine önbelleği. Önbellekler
+ * açılışta tanımlandığı için Actuator isabet/ıskalama metriklerini (cache.gets) otomatik yayınlar.
+ * Silme işlemleri commit sonrasına ertelenir; böylece eşzamanlı bir okuma, henüz commit
+ * olmamış değişiklikten önceki listeyi yeniden önbelleğe yazamaz.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String CATEGORIES = "categories";
+    public static final String TEAMS = "teams";
+    public static final String USERS = "users";
+    public static final String DASHBOARDS = "dashboards";
+
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${cache.reference.max-size:100}") long maxSize,
+            @Value("${cache.reference.ttl:PT10M}") Duration ttl,
+            @Value("${cache.dashboard.max-size:10000}") long dashboardMaxSize,
+            @Value("${cache.dashboard.ttl:PT30S}") Duration dashboardTtl) {
+        CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager(CATEGORIES, TEAMS, USERS);
+        caffeineCacheManager.setCaffeine(Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats());
+        caffeineCacheManager.setAllowNullValues(false);
+        // Panel özetleri silinmez; kısa TTL sonunda yeniden hesaplanır
+        caffeineCacheManager.registerCustomCache(DASHBOARDS, Caffeine.newBuilder()
+                .maximumSize(dashboardMaxSize)
+                .expireAfterWrite(dashboardTtl)
+                .recordStats()
+                .build());
+        return new TransactionAwareCacheManagerProxy(caffeineCacheManager);
+    }
+}
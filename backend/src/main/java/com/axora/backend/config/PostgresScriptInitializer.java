@@ -0,0 +1,49 @@
+package com.axora.backend.config;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Hibernate'in oluşturmadığı PostgreSQL'e özgü şema parçalarını açılışta uygular: tam metin arama
+ * kolonları ile GIN indeksleri ve id sequence'lerinin mevcut kayıtlarla hizalanması (IDENTITY'den
+ * kalan eski kayıtlar ya da yük testi verisi sequence'in önündeyse yeni id'ler çakışmasın diye).
+ * Betikler Hibernate şemayı güncelledikten sonra çalışır. Diğer veritabanlarında (testlerdeki H2)
+ * arama LIKE ile yapılır ve şema her seferinde boş başlar, bu yüzden atlanır.
+ */
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+@Slf4j
+public class PostgresScriptInitializer implements InitializingBean {
+
+    private static final List<String> SCRIPTS = List.of(
+        "db/search-postgresql.sql",
+        "db/sequences-postgresql.sql");
+
+    private final DataSource dataSource;
+
+    @Override
+    public void afterPropertiesSet() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            if (!"PostgreSQL".equals(connection.getMetaData().getDatabaseProductName())) {
+                return;
+            }
+        }
+        for (String script : SCRIPTS) {
+            new ResourceDatabasePopulator(new ClassPathResource(script)).execute(dataSource);
+            log.info("PostgreSQL betiği uygulandı: {}", script);
+        }
+    }
+}
@@ -12,6 +12,7 @@ import org.springframework.amqp.support.converter.MessageConverter;
 @Configuration
 public class RabbitMQConfig {
     public static final String QUEUE_PASSWORD_RESET = "password-reset-queue";
+    public static final String QUEUE_PASSWORD_RESET_DLQ = "password-reset-dlq";
     public static final String EXCHANGE_EMAILS = "email-exchange";
     public static final String ROUTING_KEY_PASSWORD_RESET = "password.reset";
 
@@ -19,13 +20,13 @@ public class RabbitMQConfig {
     public Queue passwordResetQueue() {
         return QueueBuilder.durable(QUEUE_PASSWORD_RESET)
                 .withArgument("x-dead-letter-exchange", "")
-                .withArgument("x-dead-letter-routing-key", "password-reset-dlq")
+                .withArgument("x-dead-letter-routing-key", QUEUE_PASSWORD_RESET_DLQ)
                 .build();
     }
 
     @Bean
     public Queue deadLetterQueue() {
-        return QueueBuilder.durable("password-reset-dlq").build();
+        return QueueBuilder.durable(QUEUE_PASSWORD_RESET_DLQ).build();
     }
 
     @Bean
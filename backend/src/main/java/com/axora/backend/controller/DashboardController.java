@@ -0,0 +1,33 @@
+package com.axora.backend.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.axora.backend.dto.dashboard.AdminDashboardResponse;
+import com.axora.backend.dto.dashboard.UserDashboardResponse;
+import com.axora.backend.service.DashboardService;
+import com.axora.backend.service.UserService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/dashboard")
+@RequiredArgsConstructor
+public class DashboardController {
+    private final DashboardService dashboardService;
+    private final UserService userService;
+
+    @GetMapping("/admin")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<AdminDashboardResponse> getAdminDashboard() {
+        return ResponseEntity.ok(dashboardService.getAdminDashboard());
+    }
+
+    @GetMapping("/me")
+    public ResponseEntity<UserDashboardResponse> getMyDashboard() {
+        return ResponseEntity.ok(dashboardService.getUserDashboard(userService.getCurrentUserId()));
+    }
+}
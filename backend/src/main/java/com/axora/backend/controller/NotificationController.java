@@ -1,16 +1,19 @@
 package com.axora.backend.controller;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.axora.backend.dto.notification.NotificationResponse;
-import com.axora.backend.entity.Notification;
+import com.axora.backend.entity.NotificationType;
 import com.axora.backend.service.NotificationService;
 import com.axora.backend.service.UserService;
 
@@ -23,19 +26,21 @@ public class NotificationController {
     private final NotificationService notificationService;
     private final UserService userService;
 
+    // Sonraki sayfanın imleci X-Next-Cursor başlığında döner
     @GetMapping
-    public ResponseEntity<List<NotificationResponse>> getNotifications() {
-        List<Notification> notifications = notificationService.getUserNotifications(
-            userService.getCurrentUser().getId()
-        );
-        List<NotificationResponse> response = notificationService.mapToResponseList(notifications);
-        return ResponseEntity.ok(response);
+    public ResponseEntity<List<NotificationResponse>> getNotifications(
+            @RequestParam(required = false) String before,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) NotificationType type) {
+        return notificationService.getNotificationFeed(
+            userService.getCurrentUserId(), before, limit, type
+        ).toResponseEntity();
     }
 
     @GetMapping("/unread/count")
     public ResponseEntity<Long> getUnreadCount() {
         return ResponseEntity.ok(notificationService.getUnreadCount(
-            userService.getCurrentUser().getId()
+            userService.getCurrentUserId()
         ));
     }
 
@@ -45,9 +50,20 @@ public class NotificationController {
         return ResponseEntity.ok().build();
     }
 
+    // upToCreatedAt ve upToId birlikte verilirse yalnızca o bildirime kadar olanlar okundu olur
     @PatchMapping("/read-all")
-    public ResponseEntity<Void> markAllAsRead() {
-        notificationService.markAllAsRead(userService.getCurrentUser().getId());
+    public ResponseEntity<Void> markAllAsRead(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime upToCreatedAt,
+            @RequestParam(required = false) Long upToId) {
+        Long userId = userService.getCurrentUserId();
+        if ((upToCreatedAt == null) != (upToId == null)) {
+            throw new IllegalArgumentException("upToCreatedAt ve upToId birlikte verilmelidir");
+        }
+        if (upToId != null) {
+            notificationService.markAllAsReadUpTo(userId, upToCreatedAt, upToId);
+        } else {
+            notificationService.markAllAsRead(userId);
+        }
         return ResponseEntity.ok().build();
     }
 } 
\ No newline at end of file
@@ -12,6 +12,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.axora.backend.dto.comment.CommentRequest;
@@ -38,8 +39,12 @@ public class TaskCommentController {
 
     @GetMapping
     @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
-    public ResponseEntity<List<CommentResponse>> getTaskComments(@PathVariable Long taskId) {
-        return ResponseEntity.ok(commentService.getTaskComments(taskId));
+    public ResponseEntity<List<CommentResponse>> getTaskComments(
+            @PathVariable Long taskId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        // Sonraki sayfanın imleci X-Next-Cursor başlığında döner
+        return commentService.getTaskComments(taskId, cursor, size).toResponseEntity();
     }
 
     @DeleteMapping("/{commentId}")
@@ -6,19 +6,30 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.axora.backend.dto.task.BulkTaskAssignRequest;
+import com.axora.backend.dto.task.BulkTaskCreateRequest;
+import com.axora.backend.dto.task.BulkTaskDeleteRequest;
+import com.axora.backend.dto.task.BulkTaskResponse;
+import com.axora.backend.dto.task.BulkTaskStatusRequest;
+import com.axora.backend.dto.task.TaskFilterRequest;
 import com.axora.backend.dto.task.TaskRequest;
 import com.axora.backend.dto.task.TaskResponse;
 import com.axora.backend.dto.task.TaskStatusUpdateRequest;
+import com.axora.backend.dto.task.TaskSuggestion;
+import com.axora.backend.service.BulkTaskService;
 import com.axora.backend.service.TaskService;
 
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
 @RestController
@@ -27,11 +38,28 @@ import lombok.RequiredArgsConstructor;
 public class TaskController {
 
     private final TaskService taskService;
+    private final BulkTaskService bulkTaskService;
 
     @GetMapping
     @PreAuthorize("hasRole('ROLE_ADMIN')")
-    public ResponseEntity<List<TaskResponse>> getAllTasks() {
-        return ResponseEntity.ok(taskService.getAllTasks());
+    public ResponseEntity<List<TaskResponse>> getAllTasks(@ModelAttribute TaskFilterRequest filter) {
+        return taskService.getAllTasks(filter).toResponseEntity();
+    }
+
+    // Sonraki sayfanın imleci X-Next-Cursor başlığında döner
+    @GetMapping("/search")
+    public ResponseEntity<List<TaskResponse>> searchTasks(
+            @RequestParam("q") String query,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        return taskService.searchTasks(query, cursor, size).toResponseEntity();
+    }
+
+    @GetMapping("/suggest")
+    public ResponseEntity<List<TaskSuggestion>> suggestTasks(
+            @RequestParam("q") String query,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(taskService.suggestTasks(query, limit));
     }
 
     @GetMapping("/my-tasks")
@@ -64,6 +92,30 @@ public class TaskController {
         return ResponseEntity.ok(taskService.updateTaskStatus(id, request.getStatus()));
     }
 
+    @PostMapping("/bulk")
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    public ResponseEntity<List<TaskResponse>> createTasks(@Valid @RequestBody BulkTaskCreateRequest request) {
+        return ResponseEntity.ok(bulkTaskService.create(request));
+    }
+
+    @PatchMapping("/bulk/status")
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    public ResponseEntity<BulkTaskResponse> updateTaskStatuses(@Valid @RequestBody BulkTaskStatusRequest request) {
+        return ResponseEntity.ok(bulkTaskService.updateStatus(request));
+    }
+
+    @PatchMapping("/bulk/assign")
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    public ResponseEntity<BulkTaskResponse> reassignTasks(@Valid @RequestBody BulkTaskAssignRequest request) {
+        return ResponseEntity.ok(bulkTaskService.reassign(request));
+    }
+
+    @DeleteMapping("/bulk")
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    public ResponseEntity<BulkTaskResponse> deleteTasks(@Valid @RequestBody BulkTaskDeleteRequest request) {
+        return ResponseEntity.ok(bulkTaskService.delete(request));
+    }
+
     @DeleteMapping("/{id}")
     @PreAuthorize("hasRole('ROLE_ADMIN')")
     public ResponseEntity<Void> deleteTask(@PathVariable Long id) {
@@ -0,0 +1,39 @@
+package com.axora.backend.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.axora.backend.dto.task.TaskStatsResponse;
+import com.axora.backend.entity.StatsScope;
+import com.axora.backend.service.TaskStatsService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/stats")
+@RequiredArgsConstructor
+public class TaskStatsController {
+    private final TaskStatsService statsService;
+
+    @GetMapping("/users/{id}")
+    @PreAuthorize("hasRole('ADMIN') or #id == authentication.principal.id")
+    public ResponseEntity<TaskStatsResponse> getUserStats(@PathVariable Long id) {
+        return ResponseEntity.ok(TaskStatsResponse.fromStats(statsService.getStats(StatsScope.USER, id)));
+    }
+
+    @GetMapping("/categories/{id}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<TaskStatsResponse> getCategoryStats(@PathVariable Long id) {
+        return ResponseEntity.ok(TaskStatsResponse.fromStats(statsService.getStats(StatsScope.CATEGORY, id)));
+    }
+
+    @GetMapping("/teams/{id}")
+    @PreAuthorize("hasRole('ADMIN') or @teamService.isMember(authentication.principal.id, #id)")
+    public ResponseEntity<TaskStatsResponse> getTeamStats(@PathVariable Long id) {
+        return ResponseEntity.ok(TaskStatsResponse.fromStats(statsService.getStats(StatsScope.TEAM, id)));
+    }
+}
@@ -13,9 +13,11 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.axora.backend.dto.team.TeamSummaryResponse;
 import com.axora.backend.dto.user.ChangePasswordRequest;
 import com.axora.backend.dto.user.UserRequest;
 import com.axora.backend.dto.user.UserResponse;
+import com.axora.backend.service.TeamService;
 import com.axora.backend.service.UserService;
 
 import jakarta.validation.Valid;
@@ -27,6 +29,7 @@ import lombok.RequiredArgsConstructor;
 public class UserController {
 
     private final UserService userService;
+    private final TeamService teamService;
 
     @GetMapping
     @PreAuthorize("hasRole('ADMIN')")
@@ -40,6 +43,12 @@ public class UserController {
         return ResponseEntity.ok(userService.getUserById(id));
     }
 
+    @GetMapping("/{id}/teams")
+    @PreAuthorize("hasRole('ADMIN') or #id == authentication.principal.id")
+    public ResponseEntity<List<TeamSummaryResponse>> getUserTeams(@PathVariable Long id) {
+        return ResponseEntity.ok(teamService.getTeamsOfUser(id));
+    }
+
     @PostMapping
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<UserResponse> createUser(@Valid @RequestBody UserRequest request) {
@@ -0,0 +1,67 @@
+package com.axora.backend.dto.common;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.Value;
+
+/**
+ * Keyset sayfalamalı liste sonucu. Gövde düz liste olarak döner, bir sonraki
+ * sayfanın imleci {@value #NEXT_CURSOR_HEADER} başlığında taşınır.
+ */
+@Data
+@AllArgsConstructor
+public class CursorPage<T> {
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    private static final String SEPARATOR = "|";
+
+    private List<T> items;
+    private String nextCursor;
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    public ResponseEntity<List<T>> toResponseEntity() {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        if (hasNext()) {
+            builder.header(NEXT_CURSOR_HEADER, nextCursor);
+        }
+        return builder.body(items);
+    }
+
+    public static String encodeCursor(String value, Long id) {
+        String raw = (value != null ? value : "") + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static Cursor decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int index = raw.lastIndexOf(SEPARATOR);
+            if (index < 0) {
+                throw new IllegalArgumentException("Geçersiz sayfa imleci");
+            }
+            String value = raw.substring(0, index);
+            return new Cursor(value.isEmpty() ? null : value, Long.parseLong(raw.substring(index + 1)));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Geçersiz sayfa imleci", e);
+        }
+    }
+
+    /**
+     * Çözülmüş imleç: son satırın sıralama değeri ve id'si.
+     */
+    @Value
+    public static class Cursor {
+        String value;
+        Long id;
+    }
+}
@@ -0,0 +1,30 @@
+package com.axora.backend.dto.dashboard;
+
+import java.util.List;
+import java.util.Map;
+
+import com.axora.backend.dto.user.UserSummary;
+import com.axora.backend.entity.TaskStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Yönetim paneli özet sayıları; görev sayıları durum bazında tek GROUP BY sorgusundan türetilir
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AdminDashboardResponse {
+    private long totalUsers;
+    private long totalCategories;
+    private long totalTeams;
+    private long activeTeams;
+    private long totalTasks;
+    private long activeTasks;
+    private long createdThisMonth;
+    private long overdueTasks;
+    private Map<TaskStatus, Long> tasksByStatus;
+    private List<UserSummary> recentUsers;
+}
@@ -0,0 +1,24 @@
+package com.axora.backend.dto.dashboard;
+
+import java.util.Map;
+
+import com.axora.backend.entity.TaskStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Kullanıcının kendisine atanmış görevlerinin özet sayıları
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserDashboardResponse {
+    private long totalTasks;
+    private long activeTasks;
+    private long upcomingTasks;
+    private long overdueTasks;
+    private long completedThisMonth;
+    private Map<TaskStatus, Long> tasksByStatus;
+}
@@ -0,0 +1,15 @@
+package com.axora.backend.dto.notification;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UnreadCountMessage {
+    private long unreadCount;
+    private long delta;
+}
@@ -0,0 +1,23 @@
+package com.axora.backend.dto.task;
+
+import java.util.Set;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkTaskAssignRequest {
+
+    @NotEmpty(message = "En az bir görev seçilmelidir")
+    private Set<Long> taskIds;
+
+    @NotNull(message = "Atanacak kullanıcı boş bırakılamaz")
+    private Long assignedUserId;
+}
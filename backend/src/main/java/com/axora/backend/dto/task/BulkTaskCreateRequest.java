@@ -0,0 +1,20 @@
+package com.axora.backend.dto.task;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkTaskCreateRequest {
+
+    @NotEmpty(message = "En az bir görev girilmelidir")
+    private List<@Valid TaskRequest> tasks;
+}
@@ -0,0 +1,19 @@
+package com.axora.backend.dto.task;
+
+import java.util.Set;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkTaskDeleteRequest {
+
+    @NotEmpty(message = "En az bir görev seçilmelidir")
+    private Set<Long> taskIds;
+}
@@ -0,0 +1,15 @@
+package com.axora.backend.dto.task;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Toplu işlemde etkilenen görev sayısı
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkTaskResponse {
+    private int affectedCount;
+}
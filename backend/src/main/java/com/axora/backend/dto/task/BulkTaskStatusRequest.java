@@ -0,0 +1,25 @@
+package com.axora.backend.dto.task;
+
+import java.util.Set;
+
+import com.axora.backend.entity.TaskStatus;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkTaskStatusRequest {
+
+    @NotEmpty(message = "En az bir görev seçilmelidir")
+    private Set<Long> taskIds;
+
+    @NotNull(message = "Görev durumu boş bırakılamaz")
+    private TaskStatus status;
+}
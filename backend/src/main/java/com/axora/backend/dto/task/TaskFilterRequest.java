@@ -0,0 +1,46 @@
+package com.axora.backend.dto.task;
+
+import java.time.LocalDate;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import com.axora.backend.entity.TaskPriority;
+import com.axora.backend.entity.TaskStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskFilterRequest {
+    private TaskStatus status;
+
+    private TaskPriority priority;
+
+    private Long categoryId;
+
+    private Long assignedUserId;
+
+    // Son tarih aralığı (dahil)
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate startDate;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate endDate;
+
+    @Builder.Default
+    private TaskSortField sort = TaskSortField.CREATED_AT;
+
+    @Builder.Default
+    private Sort.Direction direction = Sort.Direction.DESC;
+
+    // Önceki sayfanın X-Next-Cursor başlığı
+    private String cursor;
+
+    private Integer size;
+}
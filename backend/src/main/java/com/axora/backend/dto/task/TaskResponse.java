@@ -1,5 +1,6 @@
 package com.axora.backend.dto.task;
 
+import com.axora.backend.entity.Task;
 import com.axora.backend.entity.TaskPriority;
 import com.axora.backend.entity.TaskStatus;
 import lombok.AllArgsConstructor;
@@ -28,4 +29,23 @@ public class TaskResponse {
     private Long categoryId;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private long commentCount;
+
+    public static TaskResponse fromTask(Task task) {
+        return TaskResponse.builder()
+                .id(task.getId())
+                .title(task.getTitle())
+                .description(task.getDescription())
+                .dueDate(task.getDueDate())
+                .priority(task.getPriority())
+                .status(task.getStatus())
+                .assignedUser(task.getAssignedUser() != null ? task.getAssignedUser().getName() : null)
+                .assignedUserId(task.getAssignedUser() != null ? task.getAssignedUser().getId() : null)
+                .category(task.getCategory() != null ? task.getCategory().getName() : null)
+                .categoryId(task.getCategory() != null ? task.getCategory().getId() : null)
+                .createdAt(task.getCreatedAt())
+                .updatedAt(task.getUpdatedAt())
+                .commentCount(task.getCommentCount())
+                .build();
+    }
 } 
\ No newline at end of file
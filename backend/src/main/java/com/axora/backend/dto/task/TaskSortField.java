@@ -0,0 +1,17 @@
+package com.axora.backend.dto.task;
+
+public enum TaskSortField {
+    CREATED_AT("createdAt"),
+    DUE_DATE("dueDate"),
+    ID("id");
+
+    private final String attribute;
+
+    TaskSortField(String attribute) {
+        this.attribute = attribute;
+    }
+
+    public String getAttribute() {
+        return attribute;
+    }
+}
@@ -0,0 +1,41 @@
+package com.axora.backend.dto.task;
+
+import com.axora.backend.entity.StatsScope;
+import com.axora.backend.entity.TaskStats;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskStatsResponse {
+    private StatsScope scope;
+    private Long scopeId;
+    private long total;
+    private long todo;
+    private long inProgress;
+    private long done;
+    private long lowPriority;
+    private long mediumPriority;
+    private long highPriority;
+    private long overdue;
+
+    public static TaskStatsResponse fromStats(TaskStats stats) {
+        return TaskStatsResponse.builder()
+            .scope(stats.getId().getScope())
+            .scopeId(stats.getId().getScopeId())
+            .total(stats.getTodo() + stats.getInProgress() + stats.getDone())
+            .todo(stats.getTodo())
+            .inProgress(stats.getInProgress())
+            .done(stats.getDone())
+            .lowPriority(stats.getLowPriority())
+            .mediumPriority(stats.getMediumPriority())
+            .highPriority(stats.getHighPriority())
+            .overdue(stats.getOverdue())
+            .build();
+    }
+}
@@ -0,0 +1,32 @@
+package com.axora.backend.dto.task;
+
+import java.time.LocalDate;
+
+import com.axora.backend.entity.Task;
+import com.axora.backend.entity.TaskPriority;
+import com.axora.backend.entity.TaskStatus;
+
+import lombok.Value;
+
+// Görevin istatistik sayaçlarını etkileyen alanları; değişiklikten önce alınmalıdır
+@Value
+public class TaskStatsSnapshot {
+    Long userId;
+    Long categoryId;
+    TaskStatus status;
+    TaskPriority priority;
+    LocalDate dueDate;
+
+    public static TaskStatsSnapshot of(Task task) {
+        return new TaskStatsSnapshot(
+            task.getAssignedUser() != null ? task.getAssignedUser().getId() : null,
+            task.getCategory() != null ? task.getCategory().getId() : null,
+            task.getStatus(),
+            task.getPriority(),
+            task.getDueDate());
+    }
+
+    public boolean isOverdue(LocalDate today) {
+        return status != TaskStatus.DONE && dueDate != null && dueDate.isBefore(today);
+    }
+}
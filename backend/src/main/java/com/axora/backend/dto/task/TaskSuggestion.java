@@ -0,0 +1,11 @@
+package com.axora.backend.dto.task;
+
+import lombok.Value;
+
+// Görev seçicideki öneri satırı
+@Value
+public class TaskSuggestion {
+    Long id;
+    String title;
+    Long assignedUserId;
+}
@@ -0,0 +1,19 @@
+package com.axora.backend.dto.team;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Üye listesi olmadan takım özeti; kullanıcının takımlarını listelemek için
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TeamSummaryResponse {
+    private Long id;
+    private String name;
+    private String description;
+    private boolean active;
+    private Integer memberCount;
+}
@@ -0,0 +1,53 @@
+package com.axora.backend.entity;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Parça parça çalışan zamanlanmış işlerin ilerleme kaydı. Bir iş id aralıklarına bölündüğünde
+ * her bölüm ayrı bir satırdır; bölümü işleyen düğüm {@code owner} ve {@code leaseUntil} ile
+ * tutulur. Kira süresi dolan bölüm başka bir düğüm tarafından {@code lastId}'den devralınır.
+ */
+@Entity
+@Table(name = "job_checkpoints")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobCheckpoint {
+    @Id
+    @Column(name = "job_name", length = 100)
+    private String jobName;
+
+    @Column(name = "run_date", nullable = false)
+    private LocalDate runDate;
+
+    @Column(name = "last_id", nullable = false)
+    private Long lastId;
+
+    // Bölümün kapsadığı son id (dahil); bölünmemiş işlerde boş
+    @Column(name = "upper_id")
+    private Long upperId;
+
+    @Column(length = 200)
+    private String owner;
+
+    @Column(name = "lease_until")
+    private LocalDateTime leaseUntil;
+
+    @Column(nullable = false)
+    private boolean completed;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,30 @@
+package com.axora.backend.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Kullanıcı başına okunmamış bildirim sayacı. Bildirim yazıldığında ve okunduğunda aynı
+ * işlem içinde artırılıp azaltılır; satırı olmayan kullanıcı için ilk okumada hesaplanır.
+ */
+@Entity
+@Table(name = "notification_counters")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationCounter {
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(nullable = false)
+    private long unread;
+}
@@ -0,0 +1,8 @@
+package com.axora.backend.entity;
+
+// Görev istatistiklerinin toplandığı kapsam; scopeId kapsamdaki kullanıcı, kategori ya da takım id'sidir
+public enum StatsScope {
+    USER,
+    CATEGORY,
+    TEAM
+}
@@ -13,10 +13,12 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -24,14 +26,21 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "tasks")
+@Table(name = "tasks", indexes = {
+    @Index(name = "idx_tasks_status_due_date", columnList = "status, due_date"),
+    @Index(name = "idx_tasks_assigned_user_status", columnList = "assigned_user_id, status"),
+    @Index(name = "idx_tasks_category", columnList = "category_id"),
+    @Index(name = "idx_tasks_created_at_id", columnList = "created_at, id")
+})
 @Data               // Getter/Setter için
 @Builder           // Builder pattern için
 @NoArgsConstructor // Boş constructor
 @AllArgsConstructor // Tüm field'lı constructor
 public class Task {
+    // Toplu insert'lerin JDBC batch olarak gidebilmesi için IDENTITY yerine sequence
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tasks_seq")
+    @SequenceGenerator(name = "tasks_seq", sequenceName = "tasks_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -72,6 +81,11 @@ public class Task {
     @Column(name = "updated_at")
     private java.time.LocalDateTime updatedAt;
 
+    // Yorum eklenip silindikçe tek UPDATE ile artırılıp azaltılır; görev güncellemeleri bu kolona yazmaz
+    @Column(name = "comment_count", nullable = false, updatable = false, columnDefinition = "bigint default 0")
+    @Builder.Default
+    private long commentCount = 0;
+
     @OneToMany(mappedBy = "task", cascade = CascadeType.ALL, orphanRemoval = true)
     @Builder.Default
     private List<TaskComment> comments = new ArrayList<>();
@@ -8,8 +8,10 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -17,14 +19,19 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "task_comments")
+@Table(name = "task_comments", indexes = {
+    // Görevin yorumları en yeniden eskiye keyset sayfalamayla okunur
+    @Index(name = "idx_task_comments_task_created_id", columnList = "task_id, created_at DESC, id DESC")
+})
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class TaskComment {
+    // Toplu insert'lerin JDBC batch olarak gidebilmesi için IDENTITY yerine sequence
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_comments_seq")
+    @SequenceGenerator(name = "task_comments_seq", sequenceName = "task_comments_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 1000)
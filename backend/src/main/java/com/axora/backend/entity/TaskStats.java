@@ -0,0 +1,50 @@
+package com.axora.backend.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Kullanıcı, kategori ve takım başına görev sayaçları. Görev oluşturulduğunda, değiştiğinde
+ * ve silindiğinde aynı işlem içinde artırılıp azaltılır; satırı olmayan kapsam ilk okumada
+ * hesaplanır. Gecikmiş sayısı gün dönümünde değiştiği için satırlar her gece yeniden
+ * hesaplanarak eşitlenir.
+ */
+@Entity
+@Table(name = "task_stats")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskStats {
+    @EmbeddedId
+    private TaskStatsId id;
+
+    @Column(name = "todo_count", nullable = false)
+    private long todo;
+
+    @Column(name = "in_progress_count", nullable = false)
+    private long inProgress;
+
+    @Column(name = "done_count", nullable = false)
+    private long done;
+
+    @Column(name = "low_priority_count", nullable = false)
+    private long lowPriority;
+
+    @Column(name = "medium_priority_count", nullable = false)
+    private long mediumPriority;
+
+    @Column(name = "high_priority_count", nullable = false)
+    private long highPriority;
+
+    // Tamamlanmamış ve teslim tarihi bugünden önce olan görevler
+    @Column(name = "overdue_count", nullable = false)
+    private long overdue;
+}
@@ -0,0 +1,25 @@
+package com.axora.backend.entity;
+
+import java.io.Serializable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Embeddable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskStatsId implements Serializable {
+    @Enumerated(EnumType.STRING)
+    @Column(name = "scope", length = 20)
+    private StatsScope scope;
+
+    @Column(name = "scope_id")
+    private Long scopeId;
+}
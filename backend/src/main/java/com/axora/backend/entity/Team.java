@@ -31,7 +31,9 @@ public class Team {
     @JoinTable(
         name = "team_members",
         joinColumns = @JoinColumn(name = "team_id"),
-        inverseJoinColumns = @JoinColumn(name = "user_id")
+        inverseJoinColumns = @JoinColumn(name = "user_id"),
+        // Kullanıcının takımlarını bulan ters arama için
+        indexes = @Index(name = "idx_team_members_user_team", columnList = "user_id, team_id")
     )
     @Builder.Default
     private Set<User> members = new HashSet<>();
@@ -0,0 +1,27 @@
+package com.axora.backend.event;
+
+import java.time.LocalDateTime;
+
+import com.axora.backend.entity.NotificationType;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Yazılmayı bekleyen bildirim. Üreten işlem commit olduktan sonra
+ * {@link com.axora.backend.service.NotificationOutbox} kuyruğuna alınır.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationEvent {
+    private Long userId;
+    private Long taskId;
+    private String title;
+    private String message;
+    private NotificationType type;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,38 @@
+package com.axora.backend.metrics;
+
+import org.springframework.lang.NonNull;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * İstemci kanallarından geçen mesajları yön ve mesaj tipine göre sayar. Gönderilemeyen mesajlar
+ * {@code result=failure} ile ayrılır.
+ */
+public class ChannelMetricsInterceptor implements ChannelInterceptor {
+
+    public static final String METRIC_NAME = "websocket.messages";
+
+    private final MeterRegistry meterRegistry;
+    private final String direction;
+
+    public ChannelMetricsInterceptor(MeterRegistry meterRegistry, String direction) {
+        this.meterRegistry = meterRegistry;
+        this.direction = direction;
+    }
+
+    @Override
+    public void afterSendCompletion(@NonNull Message<?> message, @NonNull MessageChannel channel, boolean sent,
+                                    Exception ex) {
+        SimpMessageType type = SimpMessageHeaderAccessor.getMessageType(message.getHeaders());
+        meterRegistry.counter(METRIC_NAME,
+                "direction", direction,
+                "type", type != null ? type.name() : "OTHER",
+                "result", sent && ex == null ? "success" : "failure")
+            .increment();
+    }
+}
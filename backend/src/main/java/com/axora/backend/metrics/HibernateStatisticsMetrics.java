@@ -0,0 +1,72 @@
+package com.axora.backend.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Hibernate istatistiklerini Micrometer'a bağlar; adlar hibernate-micrometer modülüyle aynıdır.
+ * İstatistikler {@code hibernate.generate_statistics} ile açılır, kapalıysa metrik kaydedilmez.
+ * Yavaş sorgular {@code hibernate.log_slow_query} eşiğini aşan farklı SQL sayısıdır; metinleri
+ * {@code org.hibernate.SQL_SLOW} günlüğüne yazılır.
+ */
+@Component
+public class HibernateStatisticsMetrics implements MeterBinder {
+
+    private final Statistics statistics;
+
+    public HibernateStatisticsMetrics(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (!statistics.isStatisticsEnabled()) {
+            return;
+        }
+        counter(registry, "hibernate.query.executions", Statistics::getQueryExecutionCount, null, null);
+        TimeGauge.builder("hibernate.query.executions.max", statistics, TimeUnit.MILLISECONDS,
+                Statistics::getQueryExecutionMaxTime)
+            .register(registry);
+        Gauge.builder("hibernate.query.slow", statistics, stats -> stats.getSlowQueries().size())
+            .register(registry);
+
+        counter(registry, "hibernate.statements", Statistics::getPrepareStatementCount, "status", "prepared");
+        counter(registry, "hibernate.statements", Statistics::getCloseStatementCount, "status", "closed");
+        counter(registry, "hibernate.flushes", Statistics::getFlushCount, null, null);
+        counter(registry, "hibernate.connections.obtained", Statistics::getConnectCount, null, null);
+        counter(registry, "hibernate.sessions.open", Statistics::getSessionOpenCount, null, null);
+        counter(registry, "hibernate.transactions", Statistics::getSuccessfulTransactionCount, "result", "success");
+        counter(registry, "hibernate.transactions",
+            stats -> stats.getTransactionCount() - stats.getSuccessfulTransactionCount(), "result", "failure");
+
+        counter(registry, "hibernate.entities.loads", Statistics::getEntityLoadCount, null, null);
+        counter(registry, "hibernate.entities.fetches", Statistics::getEntityFetchCount, null, null);
+        counter(registry, "hibernate.entities.inserts", Statistics::getEntityInsertCount, null, null);
+        counter(registry, "hibernate.entities.updates", Statistics::getEntityUpdateCount, null, null);
+        counter(registry, "hibernate.entities.deletes", Statistics::getEntityDeleteCount, null, null);
+
+        counter(registry, "hibernate.second.level.cache.requests", Statistics::getSecondLevelCacheHitCount, "result", "hit");
+        counter(registry, "hibernate.second.level.cache.requests", Statistics::getSecondLevelCacheMissCount, "result", "miss");
+        counter(registry, "hibernate.second.level.cache.puts", Statistics::getSecondLevelCachePutCount, null, null);
+    }
+
+    private void counter(MeterRegistry registry, String name, ToDoubleFunction<Statistics> value,
+                         String tagKey, String tagValue) {
+        FunctionCounter.Builder<Statistics> builder = FunctionCounter.builder(name, statistics, value);
+        if (tagKey != null) {
+            builder.tag(tagKey, tagValue);
+        }
+        builder.register(registry);
+    }
+}
@@ -0,0 +1,64 @@
+package com.axora.backend.metrics;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.QueueInformation;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.axora.backend.config.RabbitMQConfig;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Kuyruk derinliği ve tüketici sayısı. Broker'a her ölçüm okumasında gitmemek için değerler
+ * periyodik olarak yenilenir; broker'a ulaşılamazsa son bilinen değer kalır. Yayın ve tüketim
+ * hızları Spring Boot'un {@code rabbitmq.*}, dinleyici süreleri {@code spring.rabbitmq.listener}
+ * metrikleriyle gelir.
+ */
+@Component
+@Slf4j
+public class RabbitQueueMetrics {
+
+    private static final List<String> QUEUES = List.of(
+        RabbitMQConfig.QUEUE_PASSWORD_RESET, RabbitMQConfig.QUEUE_PASSWORD_RESET_DLQ);
+
+    private final AmqpAdmin amqpAdmin;
+    private final Map<String, AtomicLong> depths = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> consumers = new ConcurrentHashMap<>();
+
+    public RabbitQueueMetrics(AmqpAdmin amqpAdmin, MeterRegistry meterRegistry) {
+        this.amqpAdmin = amqpAdmin;
+        for (String queue : QUEUES) {
+            Gauge.builder("rabbitmq.queue.messages", depths.computeIfAbsent(queue, name -> new AtomicLong()), AtomicLong::get)
+                .tag("queue", queue)
+                .register(meterRegistry);
+            Gauge.builder("rabbitmq.queue.consumers", consumers.computeIfAbsent(queue, name -> new AtomicLong()), AtomicLong::get)
+                .tag("queue", queue)
+                .register(meterRegistry);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${metrics.rabbit.queue-poll-interval:PT30S}")
+    public void refresh() {
+        for (String queue : QUEUES) {
+            try {
+                QueueInformation info = amqpAdmin.getQueueInfo(queue);
+                if (info != null) {
+                    depths.get(queue).set(info.getMessageCount());
+                    consumers.get(queue).set(info.getConsumerCount());
+                }
+            } catch (AmqpException e) {
+                log.debug("Kuyruk bilgisi alınamadı: {} - {}", queue, e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.axora.backend.metrics;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Taşıyıcı thread'e sabitlenen sanal thread'leri JFR olay akışından izler. Sanal thread
+ * {@code synchronized} blok içinde JDBC, SMTP gibi bloklayan bir çağrıda beklerse taşıyıcıyı
+ * bırakamaz; eşiği aşan her sabitlenme {@code jvm.threads.virtual.pinned} süresine yazılır.
+ * Aynı çağrı yeri günlüğe bir kez, yığın izi ile yazılır.
+ *
+ * <p>Yalnızca sanal thread'ler açıkken ve Java 21+ üzerinde oluşturulur. Geliştirmede
+ * {@code -Djdk.tracePinnedThreads=short} aynı bilgiyi standart çıktıya da yazar.
+ */
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+@Slf4j
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int LOGGED_FRAMES = 12;
+    private static final int MAX_LOGGED_SITES = 100;
+
+    private final Timer pinnedTimer;
+    private final Duration threshold;
+    private final Set<String> loggedSites = ConcurrentHashMap.newKeySet();
+
+    private volatile RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(
+            MeterRegistry meterRegistry,
+            @Value("${metrics.virtual-threads.pinned-threshold:20ms}") Duration threshold) {
+        this.threshold = threshold;
+        this.pinnedTimer = Timer.builder("jvm.threads.virtual.pinned")
+            .description("Sanal thread'in taşıyıcı thread'e sabitli kaldığı süre")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        RecordingStream recording = new RecordingStream();
+        recording.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recording.onEvent(PINNED_EVENT, this::record);
+        recording.startAsync();
+        stream = recording;
+        log.info("Sanal thread sabitlenme izleme başlatıldı - eşik {} ms", threshold.toMillis());
+    }
+
+    @Override
+    public void stop() {
+        RecordingStream recording = stream;
+        stream = null;
+        if (recording != null) {
+            recording.close();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return stream != null;
+    }
+
+    private void record(RecordedEvent event) {
+        pinnedTimer.record(event.getDuration());
+
+        List<RecordedFrame> frames = frames(event.getStackTrace());
+        String site = frames.stream()
+            .filter(frame -> frame.getMethod().getType().getName().startsWith("com.axora."))
+            .findFirst()
+            .or(() -> frames.stream().findFirst())
+            .map(VirtualThreadPinningMonitor::describe)
+            .orElse("bilinmiyor");
+        if (loggedSites.size() < MAX_LOGGED_SITES && loggedSites.add(site)) {
+            log.warn("Sanal thread {} ms taşıyıcıya sabitlendi: {}\n\tat {}", event.getDuration().toMillis(), site,
+                frames.stream()
+                    .limit(LOGGED_FRAMES)
+                    .map(VirtualThreadPinningMonitor::describe)
+                    .collect(Collectors.joining("\n\tat ")));
+        }
+    }
+
+    private static List<RecordedFrame> frames(RecordedStackTrace stackTrace) {
+        return stackTrace == null ? List.of() : stackTrace.getFrames();
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+            + ":" + frame.getLineNumber();
+    }
+}
@@ -0,0 +1,72 @@
+package com.axora.backend.metrics;
+
+import java.util.function.ToIntFunction;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.config.WebSocketMessageBrokerStats;
+import org.springframework.web.socket.messaging.StompSubProtocolHandler;
+import org.springframework.web.socket.messaging.SubProtocolWebSocketHandler;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * STOMP oturum sayıları ve bağlantı olayları. Kanal iş parçacığı havuzları
+ * (clientInboundChannelExecutor, clientOutboundChannelExecutor) Spring Boot tarafından
+ * {@code executor.*} metrikleriyle, kanaldaki mesajlar {@link ChannelMetricsInterceptor} ile
+ * ölçülür.
+ */
+@Component
+public class WebSocketMetrics implements MeterBinder {
+
+    private final WebSocketMessageBrokerStats stats;
+
+    public WebSocketMetrics(WebSocketMessageBrokerStats stats) {
+        this.stats = stats;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        sessionGauge(registry, "websocket", SubProtocolWebSocketHandler.Stats::getWebSocketSessions);
+        sessionGauge(registry, "http-streaming", SubProtocolWebSocketHandler.Stats::getHttpStreamingSessions);
+        sessionGauge(registry, "http-polling", SubProtocolWebSocketHandler.Stats::getHttpPollingSessions);
+
+        // Olağan dışı kapanan oturumlar; sayılar başlangıçtan beri birikir
+        closedCounter(registry, "limit-exceeded", SubProtocolWebSocketHandler.Stats::getLimitExceededSessions);
+        closedCounter(registry, "no-messages-received", SubProtocolWebSocketHandler.Stats::getNoMessagesReceivedSessions);
+        closedCounter(registry, "transport-error", SubProtocolWebSocketHandler.Stats::getTransportErrorSessions);
+
+        stompCounter(registry, "connect", StompSubProtocolHandler.Stats::getTotalConnect);
+        stompCounter(registry, "connected", StompSubProtocolHandler.Stats::getTotalConnected);
+        stompCounter(registry, "disconnect", StompSubProtocolHandler.Stats::getTotalDisconnect);
+    }
+
+    private void sessionGauge(MeterRegistry registry, String transport, ToIntFunction<SubProtocolWebSocketHandler.Stats> value) {
+        Gauge.builder("websocket.sessions", stats, brokerStats -> sessionValue(brokerStats, value))
+            .tag("transport", transport)
+            .register(registry);
+    }
+
+    private void closedCounter(MeterRegistry registry, String reason, ToIntFunction<SubProtocolWebSocketHandler.Stats> value) {
+        FunctionCounter.builder("websocket.sessions.closed", stats, brokerStats -> sessionValue(brokerStats, value))
+            .tag("reason", reason)
+            .register(registry);
+    }
+
+    private void stompCounter(MeterRegistry registry, String frame, ToIntFunction<StompSubProtocolHandler.Stats> value) {
+        FunctionCounter.builder("websocket.stomp.frames", stats, brokerStats -> {
+                StompSubProtocolHandler.Stats stompStats = brokerStats.getStompSubProtocolStats();
+                return stompStats != null ? value.applyAsInt(stompStats) : 0;
+            })
+            .tag("frame", frame)
+            .register(registry);
+    }
+
+    private static double sessionValue(WebSocketMessageBrokerStats brokerStats,
+                                       ToIntFunction<SubProtocolWebSocketHandler.Stats> value) {
+        SubProtocolWebSocketHandler.Stats sessionStats = brokerStats.getWebSocketSessionStats();
+        return sessionStats != null ? value.applyAsInt(sessionStats) : 0;
+    }
+}
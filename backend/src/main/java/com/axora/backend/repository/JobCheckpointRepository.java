@@ -0,0 +1,46 @@
+package com.axora.backend.repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.axora.backend.entity.JobCheckpoint;
+
+import jakarta.persistence.LockModeType;
+
+@Repository
+public interface JobCheckpointRepository extends JpaRepository<JobCheckpoint, String> {
+    // Planlamayı tek düğüme indirmek için satır kilidi (SELECT ... FOR UPDATE)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM JobCheckpoint c WHERE c.jobName = :jobName")
+    Optional<JobCheckpoint> findForUpdate(String jobName);
+
+    List<JobCheckpoint> findByJobNameStartingWithAndRunDateAndCompletedFalseOrderByJobName(String prefix, LocalDate runDate);
+
+    void deleteByJobNameStartingWith(String prefix);
+
+    // Boşta veya kirası dolmuş bölümü alır; başarılıysa 1 döner. Kirası süren bölüm aynı sahip
+    // tarafından da yeniden alınamaz, aynı düğümde eş zamanlı iki çalışma aynı bölümü işlemesin
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE JobCheckpoint c SET c.owner = :owner, c.leaseUntil = :leaseUntil "
+        + "WHERE c.jobName = :jobName AND c.completed = false "
+        + "AND (c.owner IS NULL OR c.leaseUntil < :now)")
+    int claim(String jobName, String owner, LocalDateTime leaseUntil, LocalDateTime now);
+
+    // İlerlemeyi yalnızca bölüm hâlâ bu düğümdeyse yazar; kira kaybedildiyse 0 döner
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE JobCheckpoint c SET c.lastId = :lastId, c.completed = :completed, "
+        + "c.leaseUntil = :leaseUntil, c.updatedAt = :now "
+        + "WHERE c.jobName = :jobName AND c.owner = :owner")
+    int advance(String jobName, String owner, Long lastId, boolean completed, LocalDateTime leaseUntil, LocalDateTime now);
+}
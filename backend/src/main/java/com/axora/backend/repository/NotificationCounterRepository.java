@@ -0,0 +1,23 @@
+package com.axora.backend.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import com.axora.backend.entity.NotificationCounter;
+
+@Repository
+public interface NotificationCounterRepository extends JpaRepository<NotificationCounter, Long> {
+    // Sayaç satırı yoksa 0 döner; satır ilk okumada oluşturulur
+    @Modifying
+    @Query("UPDATE NotificationCounter c SET c.unread = CASE WHEN c.unread + :delta < 0 THEN 0 ELSE c.unread + :delta END "
+        + "WHERE c.userId = :userId")
+    int adjust(Long userId, long delta);
+
+    // Tüm sayaçları gerçek okunmamış sayısıyla eşitler
+    @Modifying
+    @Query("UPDATE NotificationCounter c SET c.unread = "
+        + "(SELECT COUNT(n) FROM Notification n WHERE n.user.id = c.userId AND n.read = false)")
+    int reconcileAll();
+}
@@ -1,10 +1,17 @@
 package com.axora.backend.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.axora.backend.dto.notification.NotificationResponse;
 import com.axora.backend.entity.Notification;
 import com.axora.backend.entity.NotificationType;
 
@@ -24,4 +31,58 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     
     // Kullanıcının belirli tipteki bildirimleri
     List<Notification> findByUserIdAndTypeOrderByCreatedAtDesc(Long userId, NotificationType type);
+
+    // Bildirim akışı: (createdAt, id) imlecinden eskiler, görev id'si FK kolonundan; entity yüklenmez
+    String FEED_QUERY = "SELECT new com.axora.backend.dto.notification.NotificationResponse("
+        + "n.id, n.title, n.message, n.type, n.task.id, n.read, n.createdAt, n.readAt) "
+        + "FROM Notification n WHERE n.user.id = :userId "
+        + "AND (n.createdAt < :beforeCreatedAt OR (n.createdAt = :beforeCreatedAt AND n.id < :beforeId)) ";
+    String FEED_ORDER = "ORDER BY n.createdAt DESC, n.id DESC";
+
+    @Query(FEED_QUERY + FEED_ORDER)
+    List<NotificationResponse> findFeed(Long userId, LocalDateTime beforeCreatedAt, Long beforeId, Pageable pageable);
+
+    @Query(FEED_QUERY + "AND n.type = :type " + FEED_ORDER)
+    List<NotificationResponse> findFeedByType(Long userId, NotificationType type, LocalDateTime beforeCreatedAt,
+                                              Long beforeId, Pageable pageable);
+
+    // Okunmamışsa okundu olarak işaretler; değişen satır sayısını döner
+    @Modifying
+    @Query("UPDATE Notification n SET n.read = true, n.readAt = :readAt WHERE n.id = :id AND n.read = false")
+    int markReadIfUnread(Long id, LocalDateTime readAt);
+
+    // Saklama süresi dolan bildirimlerin id'leri; toplu silme için id sırasıyla
+    @Query("SELECT n.id FROM Notification n WHERE n.read = :read AND n.createdAt < :cutoff ORDER BY n.id")
+    List<Long> findExpiredIds(boolean read, LocalDateTime cutoff, Pageable pageable);
+
+    // Her parti kendi işleminde silinir
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM Notification n WHERE n.id IN :ids")
+    int deleteAllByIdIn(List<Long> ids);
+
+    @Modifying
+    @Query("UPDATE Notification n SET n.read = true, n.readAt = :readAt WHERE n.user.id = :userId AND n.read = false")
+    int markAllReadByUserId(Long userId, LocalDateTime readAt);
+
+    // Sınır akışla aynı (createdAt, id) sıralamasındadır; id'ler oluşturulma sırasıyla artmayabilir
+    @Modifying
+    @Query("UPDATE Notification n SET n.read = true, n.readAt = :readAt "
+        + "WHERE n.user.id = :userId AND n.read = false "
+        + "AND (n.createdAt < :upToCreatedAt OR (n.createdAt = :upToCreatedAt AND n.id <= :upToId))")
+    int markReadByUserIdUpTo(Long userId, LocalDateTime upToCreatedAt, Long upToId, LocalDateTime readAt);
+
+    // Görevler silinmeden önce sayaçlardan düşülecek okunmamış bildirimler
+    @Query("SELECT n.user.id AS userId, COUNT(n) AS unread FROM Notification n "
+        + "WHERE n.task.id IN :taskIds AND n.read = false GROUP BY n.user.id")
+    List<UnreadByUser> countUnreadByTaskIdIn(Collection<Long> taskIds);
+
+    @Modifying
+    @Query("DELETE FROM Notification n WHERE n.task.id IN :taskIds")
+    int deleteAllByTaskIdIn(Collection<Long> taskIds);
+
+    interface UnreadByUser {
+        Long getUserId();
+        long getUnread();
+    }
 } 
\ No newline at end of file
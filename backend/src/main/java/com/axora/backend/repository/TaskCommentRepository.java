@@ -1,13 +1,34 @@
 package com.axora.backend.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import com.axora.backend.dto.comment.CommentResponse;
 import com.axora.backend.entity.TaskComment;
 
 @Repository
 public interface TaskCommentRepository extends JpaRepository<TaskComment, Long> {
-    List<TaskComment> findByTaskIdOrderByCreatedAtDesc(Long taskId);
+
+    String COMMENT_RESPONSE_QUERY = "SELECT new com.axora.backend.dto.comment.CommentResponse("
+        + "c.id, c.content, u.name, u.id, c.createdAt) FROM TaskComment c JOIN c.user u ";
+
+    // Yorumlar yazar adıyla tek sorguda, (task_id, created_at, id) indeksi sırasıyla okunur
+    @Query(COMMENT_RESPONSE_QUERY + "WHERE c.task.id = :taskId ORDER BY c.createdAt DESC, c.id DESC")
+    List<CommentResponse> findPageByTaskId(Long taskId, Pageable pageable);
+
+    @Query(COMMENT_RESPONSE_QUERY + "WHERE c.task.id = :taskId "
+        + "AND (c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.id < :id)) "
+        + "ORDER BY c.createdAt DESC, c.id DESC")
+    List<CommentResponse> findPageByTaskIdAfter(Long taskId, LocalDateTime createdAt, Long id, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM TaskComment c WHERE c.task.id IN :taskIds")
+    int deleteAllByTaskIdIn(Collection<Long> taskIds);
 } 
\ No newline at end of file
@@ -1,19 +1,120 @@
 package com.axora.backend.repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import com.axora.backend.dto.task.TaskResponse;
+import com.axora.backend.dto.task.TaskStatsSnapshot;
+import com.axora.backend.dto.task.TaskSuggestion;
 import com.axora.backend.entity.Category;
 import com.axora.backend.entity.Task;
 import com.axora.backend.entity.TaskStatus;
 import com.axora.backend.entity.User;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task>, TaskRepositoryCustom {
+    // Görev satırı, atanan kullanıcı ve kategori adıyla tek sorguda; entity yüklenmez
+    String TASK_RESPONSE_QUERY = "SELECT new com.axora.backend.dto.task.TaskResponse("
+        + "t.id, t.title, t.description, t.dueDate, t.priority, t.status, "
+        + "u.name, u.id, c.name, c.id, t.createdAt, t.updatedAt, t.commentCount) "
+        + "FROM Task t LEFT JOIN t.assignedUser u LEFT JOIN t.category c ";
+
+    // Panel sayıları için durum başına tek satır; tarih kovaları koşullu toplamlarla aynı taramada sayılır
+    String STATUS_BUCKET_QUERY = "SELECT t.status AS status, COUNT(t) AS total, "
+        + "SUM(CASE WHEN t.createdAt >= :monthStart THEN 1L ELSE 0L END) AS createdSince, "
+        + "SUM(CASE WHEN t.updatedAt >= :monthStart THEN 1L ELSE 0L END) AS updatedSince, "
+        + "SUM(CASE WHEN t.dueDate < :today THEN 1L ELSE 0L END) AS overdue, "
+        + "SUM(CASE WHEN t.dueDate >= :today AND t.dueDate <= :upcomingUntil THEN 1L ELSE 0L END) AS upcoming "
+        + "FROM Task t ";
+
     List<Task> findByAssignedUser(User assignedUser);
     List<Task> findByCategory(Category category);
     List<Task> findByDueDateBeforeAndStatus(LocalDate date, TaskStatus status);
-} 
\ No newline at end of file
+
+    @Query(TASK_RESPONSE_QUERY + "WHERE t.id = :id")
+    Optional<TaskResponse> findResponseById(Long id);
+
+    @Query(TASK_RESPONSE_QUERY + "WHERE t.id IN :ids")
+    List<TaskResponse> findResponsesByIdIn(Collection<Long> ids);
+
+    @Query(TASK_RESPONSE_QUERY + "WHERE u.id = :userId ORDER BY t.createdAt DESC, t.id DESC")
+    List<TaskResponse> findResponsesByAssignedUserId(Long userId);
+
+    @Query(TASK_RESPONSE_QUERY + "WHERE c.id = :categoryId ORDER BY t.createdAt DESC, t.id DESC")
+    List<TaskResponse> findResponsesByCategoryId(Long categoryId);
+
+    @Query("SELECT COALESCE(MAX(t.id), 0) FROM Task t")
+    long findMaxId();
+
+    // (lastId, upperId] aralığındaki gecikmiş görevler id sırasıyla; bugün bildirilmiş olanlar atlanır
+    @Query("SELECT t FROM Task t LEFT JOIN FETCH t.assignedUser LEFT JOIN FETCH t.createdBy "
+        + "WHERE t.status = :status AND t.dueDate < :date AND t.id > :lastId AND t.id <= :upperId "
+        + "AND NOT EXISTS (SELECT 1 FROM Notification n WHERE n.task = t "
+        + "AND n.type = com.axora.backend.entity.NotificationType.TASK_OVERDUE AND n.createdAt >= :notifiedSince) "
+        + "ORDER BY t.id")
+    List<Task> findOverdueChunk(TaskStatus status, LocalDate date, LocalDateTime notifiedSince,
+                                Long lastId, Long upperId, Pageable pageable);
+
+    // Öneri indeksinin yüklemesi; görevler id sırasıyla parça parça okunur
+    @Query("SELECT new com.axora.backend.dto.task.TaskSuggestion(t.id, t.title, u.id) "
+        + "FROM Task t LEFT JOIN t.assignedUser u WHERE t.id > :lastId ORDER BY t.id")
+    List<TaskSuggestion> findSuggestionChunk(Long lastId, Pageable pageable);
+
+    // Öneri adaylarının güncel başlığı ve atananı; diğer replikalardaki değişiklikler için
+    @Query("SELECT new com.axora.backend.dto.task.TaskSuggestion(t.id, t.title, u.id) "
+        + "FROM Task t LEFT JOIN t.assignedUser u WHERE t.id IN :ids")
+    List<TaskSuggestion> findSuggestionsByIdIn(Collection<Long> ids);
+
+    // Toplu işlemler için görevler bildirim alıcılarıyla birlikte tek sorguda
+    @Query("SELECT t FROM Task t LEFT JOIN FETCH t.assignedUser JOIN FETCH t.createdBy WHERE t.id IN :ids")
+    List<Task> findAllWithUsersByIdIn(Collection<Long> ids);
+
+    // Yorum sayacı entity yüklenmeden artırılır; kolon entity güncellemelerinde yazılmaz
+    @Modifying
+    @Query(value = "UPDATE tasks SET comment_count = comment_count + :delta WHERE id = :taskId", nativeQuery = true)
+    int adjustCommentCount(Long taskId, long delta);
+
+    // Sayaç kaymalarını düzeltir; yalnızca gerçek sayıdan farklı olan satırlar yazılır
+    @Modifying
+    @Query(value = "UPDATE tasks t SET comment_count = (SELECT COUNT(*) FROM task_comments c WHERE c.task_id = t.id) "
+        + "WHERE t.comment_count <> (SELECT COUNT(*) FROM task_comments c WHERE c.task_id = t.id)", nativeQuery = true)
+    int reconcileCommentCounts();
+
+    @Query("SELECT t.id FROM Task t WHERE t.id IN :ids")
+    List<Long> findIdsByIdIn(Collection<Long> ids);
+
+    // Silinecek görevlerin sayaç alanları; entity yüklenmez
+    @Query("SELECT new com.axora.backend.dto.task.TaskStatsSnapshot("
+        + "t.assignedUser.id, t.category.id, t.status, t.priority, t.dueDate) FROM Task t WHERE t.id IN :ids")
+    List<TaskStatsSnapshot> findStatsSnapshotsByIdIn(Collection<Long> ids);
+
+    @Modifying
+    @Query("DELETE FROM Task t WHERE t.id IN :ids")
+    int deleteAllByIdIn(Collection<Long> ids);
+
+    @Query(STATUS_BUCKET_QUERY + "GROUP BY t.status")
+    List<StatusBucket> countByStatus(LocalDateTime monthStart, LocalDate today, LocalDate upcomingUntil);
+
+    @Query(STATUS_BUCKET_QUERY + "WHERE t.assignedUser.id = :userId GROUP BY t.status")
+    List<StatusBucket> countByStatusForAssignee(Long userId, LocalDateTime monthStart, LocalDate today,
+                                                LocalDate upcomingUntil);
+
+    interface StatusBucket {
+        TaskStatus getStatus();
+        long getTotal();
+        long getCreatedSince();
+        long getUpdatedSince();
+        long getOverdue();
+        long getUpcoming();
+    }
+}
@@ -0,0 +1,30 @@
+package com.axora.backend.repository;
+
+import java.util.List;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.axora.backend.dto.task.TaskResponse;
+import com.axora.backend.dto.task.TaskSortField;
+import com.axora.backend.entity.Task;
+
+import lombok.Value;
+
+public interface TaskRepositoryCustom {
+    // Keyset sayfalama: (sort, id) sırasıyla en fazla limit kadar görev, COUNT sorgusu olmadan
+    List<TaskResponse> findSlice(Specification<Task> spec, TaskSortField sort, Sort.Direction direction, int limit);
+
+    /**
+     * Başlık, açıklama ve yorumlarda tüm terimleri önek olarak içeren görevler, (rank, id) azalan
+     * sırasıyla. PostgreSQL'de tsvector/GIN indeksleri, diğer veritabanlarında LIKE kullanılır.
+     * {@code assignedUserId} verilirse yalnızca o kullanıcıya atanmış görevler döner.
+     */
+    List<SearchHit> search(List<String> terms, Long assignedUserId, Double afterRank, Long afterId, int limit);
+
+    @Value
+    class SearchHit {
+        Long taskId;
+        double rank;
+    }
+}
@@ -0,0 +1,160 @@
+package com.axora.backend.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.axora.backend.dto.task.TaskResponse;
+import com.axora.backend.dto.task.TaskSortField;
+import com.axora.backend.entity.Category;
+import com.axora.backend.entity.Task;
+import com.axora.backend.entity.User;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+public class TaskRepositoryImpl implements TaskRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<TaskResponse> findSlice(Specification<Task> spec, TaskSortField sort, Sort.Direction direction, int limit) {
+        // NULLS LAST için Hibernate'in kriter API'si gerekiyor, JPA Order bunu desteklemiyor
+        HibernateCriteriaBuilder cb = (HibernateCriteriaBuilder) entityManager.getCriteriaBuilder();
+        CriteriaQuery<TaskResponse> query = cb.createQuery(TaskResponse.class);
+        Root<Task> root = query.from(Task.class);
+        Join<Task, User> assignedUser = root.join("assignedUser", JoinType.LEFT);
+        Join<Task, Category> category = root.join("category", JoinType.LEFT);
+
+        // TaskRepository.TASK_RESPONSE_QUERY ile aynı kolon sırası
+        query.select(cb.construct(TaskResponse.class,
+            root.get("id"), root.get("title"), root.get("description"), root.get("dueDate"),
+            root.get("priority"), root.get("status"),
+            assignedUser.get("name"), assignedUser.get("id"),
+            category.get("name"), category.get("id"),
+            root.get("createdAt"), root.get("updatedAt"), root.get("commentCount")));
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+
+        boolean ascending = direction.isAscending();
+        List<Order> orders = new ArrayList<>();
+        if (sort != TaskSortField.ID) {
+            Path<?> sortPath = root.get(sort.getAttribute());
+            orders.add(ascending ? cb.asc(sortPath, false) : cb.desc(sortPath, false));
+        }
+        orders.add(ascending ? cb.asc(root.get("id")) : cb.desc(root.get("id")));
+        query.orderBy(orders);
+
+        return entityManager.createQuery(query)
+            .setMaxResults(limit)
+            .getResultList();
+    }
+
+    @Override
+    public List<SearchHit> search(List<String> terms, Long assignedUserId, Double afterRank, Long afterId, int limit) {
+        Query query = isPostgreSQL()
+            ? fullTextQuery(terms, assignedUserId, afterId != null)
+            : likeQuery(terms, assignedUserId, afterId != null);
+        if (assignedUserId != null) {
+            query.setParameter("userId", assignedUserId);
+        }
+        if (afterId != null) {
+            query.setParameter("afterRank", afterRank);
+            query.setParameter("afterId", afterId);
+        }
+
+        List<?> rows = query.setMaxResults(limit).getResultList();
+        return rows.stream()
+            .map(row -> (Object[]) row)
+            .map(row -> new SearchHit(((Number) row[0]).longValue(), ((Number) row[1]).doubleValue()))
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Terimler önek sorgusuna çevrilir ("rapor:* & hata:*"). Görev ve yorum eşleşmeleri GIN
+     * indeksleriyle ayrı ayrı bulunur; yorum eşleşmesi görevin kendi metnindeki eşleşmenin
+     * yarı ağırlığını alır ve görev başına en yüksek skor kullanılır.
+     */
+    private Query fullTextQuery(List<String> terms, Long assignedUserId, boolean hasCursor) {
+        StringBuilder sql = new StringBuilder()
+            .append("WITH q AS (SELECT to_tsquery('simple', :query) AS query), ")
+            .append("hits AS (")
+            .append("SELECT t.id AS task_id, ts_rank(t.search_vector, q.query)::float8 AS rank ")
+            .append("FROM tasks t, q WHERE t.search_vector @@ q.query ")
+            .append("UNION ALL ")
+            .append("SELECT c.task_id, ts_rank(c.search_vector, q.query)::float8 * 0.5 ")
+            .append("FROM task_comments c, q WHERE c.search_vector @@ q.query), ")
+            .append("ranked AS (SELECT task_id, MAX(rank) AS rank FROM hits GROUP BY task_id) ")
+            .append("SELECT r.task_id, r.rank FROM ranked r ");
+        if (assignedUserId != null) {
+            sql.append("JOIN tasks t ON t.id = r.task_id AND t.assigned_user_id = :userId ");
+        }
+        if (hasCursor) {
+            sql.append("WHERE r.rank < :afterRank OR (r.rank = :afterRank AND r.task_id < :afterId) ");
+        }
+        sql.append("ORDER BY r.rank DESC, r.task_id DESC");
+
+        return entityManager.createNativeQuery(sql.toString())
+            .setParameter("query", terms.stream().map(term -> term + ":*").collect(Collectors.joining(" & ")));
+    }
+
+    // İndeks kullanmayan yedek: her terim başlık, açıklama ya da bir yorumda geçmelidir
+    private Query likeQuery(List<String> terms, Long assignedUserId, boolean hasCursor) {
+        List<String> matches = new ArrayList<>();
+        List<String> scores = new ArrayList<>();
+        for (int i = 0; i < terms.size(); i++) {
+            String param = ":term" + i;
+            String like = " LIKE " + param + " ESCAPE '\\'";
+            matches.add("(LOWER(t.title)" + like + " OR LOWER(t.description)" + like
+                + " OR EXISTS (SELECT 1 FROM TaskComment c WHERE c.task = t AND LOWER(c.content)" + like + "))");
+            scores.add("CASE WHEN LOWER(t.title)" + like + " THEN 1.0 "
+                + "WHEN LOWER(t.description)" + like + " THEN 0.4 ELSE 0.2 END");
+        }
+        String rank = "(" + String.join(" + ", scores) + ")";
+
+        StringBuilder jpql = new StringBuilder("SELECT t.id, ").append(rank).append(" FROM Task t WHERE ")
+            .append(String.join(" AND ", matches));
+        if (assignedUserId != null) {
+            jpql.append(" AND t.assignedUser.id = :userId");
+        }
+        if (hasCursor) {
+            jpql.append(" AND (").append(rank).append(" < :afterRank OR (").append(rank)
+                .append(" = :afterRank AND t.id < :afterId))");
+        }
+        jpql.append(" ORDER BY ").append(rank).append(" DESC, t.id DESC");
+
+        Query query = entityManager.createQuery(jpql.toString());
+        for (int i = 0; i < terms.size(); i++) {
+            query.setParameter("term" + i, "%" + escapeLike(terms.get(i)) + "%");
+        }
+        return query;
+    }
+
+    // Terimdeki %, _ ve \ karakterleri joker değil, harfiyen aranır
+    private static String escapeLike(String term) {
+        return term.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    private boolean isPostgreSQL() {
+        return entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class)
+            .getJdbcServices().getDialect() instanceof PostgreSQLDialect;
+    }
+}
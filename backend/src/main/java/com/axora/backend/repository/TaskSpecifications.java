@@ -0,0 +1,111 @@
+package com.axora.backend.repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.axora.backend.dto.common.CursorPage;
+import com.axora.backend.dto.task.TaskFilterRequest;
+import com.axora.backend.dto.task.TaskSortField;
+import com.axora.backend.entity.Task;
+import com.axora.backend.entity.TaskPriority;
+import com.axora.backend.entity.TaskStatus;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+
+/**
+ * GET /tasks filtreleri ve keyset sayfalama koşulları.
+ * Boş bırakılan filtreler null predicate döner ve sorguya eklenmez.
+ */
+public final class TaskSpecifications {
+
+    private TaskSpecifications() {
+    }
+
+    public static Specification<Task> matching(TaskFilterRequest filter) {
+        return Specification.allOf(
+            hasStatus(filter.getStatus()),
+            hasPriority(filter.getPriority()),
+            inCategory(filter.getCategoryId()),
+            assignedTo(filter.getAssignedUserId()),
+            dueFrom(filter.getStartDate()),
+            dueUntil(filter.getEndDate())
+        );
+    }
+
+    public static Specification<Task> hasStatus(TaskStatus status) {
+        return (root, query, cb) -> status == null ? null : cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<Task> hasPriority(TaskPriority priority) {
+        return (root, query, cb) -> priority == null ? null : cb.equal(root.get("priority"), priority);
+    }
+
+    public static Specification<Task> inCategory(Long categoryId) {
+        return (root, query, cb) -> categoryId == null ? null
+            : cb.equal(root.get("category").get("id"), categoryId);
+    }
+
+    public static Specification<Task> assignedTo(Long userId) {
+        return (root, query, cb) -> userId == null ? null
+            : cb.equal(root.get("assignedUser").get("id"), userId);
+    }
+
+    public static Specification<Task> dueFrom(LocalDate date) {
+        return (root, query, cb) -> date == null ? null
+            : cb.greaterThanOrEqualTo(root.get("dueDate"), date);
+    }
+
+    public static Specification<Task> dueUntil(LocalDate date) {
+        return (root, query, cb) -> date == null ? null
+            : cb.lessThanOrEqualTo(root.get("dueDate"), date);
+    }
+
+    /**
+     * İmleçteki satırdan sonra gelen satırlar. Sıralama her zaman (alan, id) çiftine göredir;
+     * due_date boş olabildiği için boş değerler her iki yönde de en sona düşer.
+     */
+    public static Specification<Task> after(TaskSortField sort, Sort.Direction direction, CursorPage.Cursor cursor) {
+        boolean ascending = direction.isAscending();
+        Long lastId = cursor.getId();
+        try {
+            switch (sort) {
+                case CREATED_AT: {
+                    LocalDateTime lastCreatedAt = LocalDateTime.parse(cursor.getValue());
+                    return (root, query, cb) -> cb.or(
+                        beyond(cb, root.get("createdAt"), lastCreatedAt, ascending),
+                        cb.and(cb.equal(root.get("createdAt"), lastCreatedAt),
+                            beyond(cb, root.get("id"), lastId, ascending)));
+                }
+                case DUE_DATE: {
+                    LocalDate lastDueDate = cursor.getValue() != null ? LocalDate.parse(cursor.getValue()) : null;
+                    return (root, query, cb) -> {
+                        Path<LocalDate> dueDate = root.get("dueDate");
+                        if (lastDueDate == null) {
+                            return cb.and(cb.isNull(dueDate), beyond(cb, root.get("id"), lastId, ascending));
+                        }
+                        return cb.or(
+                            beyond(cb, dueDate, lastDueDate, ascending),
+                            cb.and(cb.equal(dueDate, lastDueDate), beyond(cb, root.get("id"), lastId, ascending)),
+                            cb.isNull(dueDate));
+                    };
+                }
+                default:
+                    return (root, query, cb) -> beyond(cb, root.get("id"), lastId, ascending);
+            }
+        } catch (DateTimeParseException | NullPointerException e) {
+            throw new IllegalArgumentException("Geçersiz sayfa imleci", e);
+        }
+    }
+
+    private static <Y extends Comparable<? super Y>> Predicate beyond(
+            CriteriaBuilder cb, Expression<? extends Y> path, Y value, boolean ascending) {
+        return ascending ? cb.greaterThan(path, value) : cb.lessThan(path, value);
+    }
+}
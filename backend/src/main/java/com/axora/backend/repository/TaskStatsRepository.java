@@ -0,0 +1,113 @@
+package com.axora.backend.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import com.axora.backend.entity.StatsScope;
+import com.axora.backend.entity.TaskPriority;
+import com.axora.backend.entity.TaskStats;
+import com.axora.backend.entity.TaskStatsId;
+import com.axora.backend.entity.TaskStatus;
+
+@Repository
+public interface TaskStatsRepository extends JpaRepository<TaskStats, TaskStatsId> {
+    String STATS_COLUMNS = "t.status AS status, t.priority AS priority, COUNT(t) AS total, "
+        + "SUM(CASE WHEN t.status <> com.axora.backend.entity.TaskStatus.DONE AND t.dueDate < :today "
+        + "THEN 1L ELSE 0L END) AS overdue ";
+    String USER_ROWS = "SELECT t.assignedUser.id AS scopeId, " + STATS_COLUMNS
+        + "FROM Task t WHERE t.assignedUser IS NOT NULL ";
+    String CATEGORY_ROWS = "SELECT t.category.id AS scopeId, " + STATS_COLUMNS
+        + "FROM Task t WHERE t.category IS NOT NULL ";
+    // Takım görevleri, aktif takım üyelerine atanmış görevlerdir
+    String TEAM_ROWS = "SELECT tm.id AS scopeId, " + STATS_COLUMNS
+        + "FROM Team tm JOIN tm.members m JOIN Task t ON t.assignedUser.id = m.id WHERE tm.active = true ";
+
+    // Gece eşitlemesi: sayaçlar görev tablosundan tek deyimle yazılır, entity'ye kopyalanmaz.
+    // Her kapsamın görevleri "t" takma adıyla seçilir; ilişkili UPDATE için "s.scope_id" ile süzülür.
+    String RECOUNT_COLUMNS = "COALESCE(SUM(CASE WHEN t.status = 'TODO' THEN 1 ELSE 0 END), 0), "
+        + "COALESCE(SUM(CASE WHEN t.status = 'IN_PROGRESS' THEN 1 ELSE 0 END), 0), "
+        + "COALESCE(SUM(CASE WHEN t.status = 'DONE' THEN 1 ELSE 0 END), 0), "
+        + "COALESCE(SUM(CASE WHEN t.priority = 'LOW' THEN 1 ELSE 0 END), 0), "
+        + "COALESCE(SUM(CASE WHEN t.priority = 'MEDIUM' THEN 1 ELSE 0 END), 0), "
+        + "COALESCE(SUM(CASE WHEN t.priority = 'HIGH' THEN 1 ELSE 0 END), 0), "
+        + "COALESCE(SUM(CASE WHEN t.status <> 'DONE' AND t.due_date < :today THEN 1 ELSE 0 END), 0) ";
+    String RECOUNT_TARGET = "UPDATE task_stats s SET (todo_count, in_progress_count, done_count, low_priority_count, "
+        + "medium_priority_count, high_priority_count, overdue_count) = (SELECT " + RECOUNT_COLUMNS;
+    String INSERT_TARGET = "INSERT INTO task_stats (scope, scope_id, todo_count, in_progress_count, done_count, "
+        + "low_priority_count, medium_priority_count, high_priority_count, overdue_count) ";
+    String TEAM_TASKS = "FROM team_members m JOIN teams tm ON tm.id = m.team_id AND tm.active = true "
+        + "JOIN tasks t ON t.assigned_user_id = m.user_id ";
+
+    @Modifying
+    @Query(value = RECOUNT_TARGET + "FROM tasks t WHERE t.assigned_user_id = s.scope_id) WHERE s.scope = 'USER'",
+        nativeQuery = true)
+    int recountUsers(LocalDate today);
+
+    @Modifying
+    @Query(value = RECOUNT_TARGET + "FROM tasks t WHERE t.category_id = s.scope_id) WHERE s.scope = 'CATEGORY'",
+        nativeQuery = true)
+    int recountCategories(LocalDate today);
+
+    @Modifying
+    @Query(value = RECOUNT_TARGET + TEAM_TASKS + "WHERE m.team_id = s.scope_id) WHERE s.scope = 'TEAM'",
+        nativeQuery = true)
+    int recountTeams(LocalDate today);
+
+    @Modifying
+    @Query(value = INSERT_TARGET + "SELECT 'USER', t.assigned_user_id, " + RECOUNT_COLUMNS
+        + "FROM tasks t WHERE t.assigned_user_id IS NOT NULL AND NOT EXISTS (SELECT 1 FROM task_stats s "
+        + "WHERE s.scope = 'USER' AND s.scope_id = t.assigned_user_id) GROUP BY t.assigned_user_id",
+        nativeQuery = true)
+    int insertMissingUsers(LocalDate today);
+
+    @Modifying
+    @Query(value = INSERT_TARGET + "SELECT 'CATEGORY', t.category_id, " + RECOUNT_COLUMNS
+        + "FROM tasks t WHERE t.category_id IS NOT NULL AND NOT EXISTS (SELECT 1 FROM task_stats s "
+        + "WHERE s.scope = 'CATEGORY' AND s.scope_id = t.category_id) GROUP BY t.category_id",
+        nativeQuery = true)
+    int insertMissingCategories(LocalDate today);
+
+    @Modifying
+    @Query(value = INSERT_TARGET + "SELECT 'TEAM', m.team_id, " + RECOUNT_COLUMNS + TEAM_TASKS
+        + "WHERE NOT EXISTS (SELECT 1 FROM task_stats s "
+        + "WHERE s.scope = 'TEAM' AND s.scope_id = m.team_id) GROUP BY m.team_id",
+        nativeQuery = true)
+    int insertMissingTeams(LocalDate today);
+
+    // Görevi kalmayan kapsamların satırları; yeniden görev alırsa ilk okumada hesaplanır
+    @Modifying
+    @Query("DELETE FROM TaskStats s WHERE s.todo = 0 AND s.inProgress = 0 AND s.done = 0 AND s.lowPriority = 0 "
+        + "AND s.mediumPriority = 0 AND s.highPriority = 0 AND s.overdue = 0")
+    int deleteEmpty();
+
+    // Satırı olmayan kapsam için 0 döner; satır ilk okumada oluşturulur
+    @Modifying
+    @Query("UPDATE TaskStats s SET s.todo = s.todo + :todo, s.inProgress = s.inProgress + :inProgress, "
+        + "s.done = s.done + :done, s.lowPriority = s.lowPriority + :lowPriority, "
+        + "s.mediumPriority = s.mediumPriority + :mediumPriority, s.highPriority = s.highPriority + :highPriority, "
+        + "s.overdue = s.overdue + :overdue WHERE s.id = :id")
+    int adjust(TaskStatsId id, long todo, long inProgress, long done, long lowPriority, long mediumPriority,
+               long highPriority, long overdue);
+
+    @Query(USER_ROWS + "AND t.assignedUser.id = :scopeId GROUP BY t.assignedUser.id, t.status, t.priority")
+    List<StatsRow> findUserRows(Long scopeId, LocalDate today);
+
+    @Query(CATEGORY_ROWS + "AND t.category.id = :scopeId GROUP BY t.category.id, t.status, t.priority")
+    List<StatsRow> findCategoryRows(Long scopeId, LocalDate today);
+
+    @Query(TEAM_ROWS + "AND tm.id = :scopeId GROUP BY tm.id, t.status, t.priority")
+    List<StatsRow> findTeamRows(Long scopeId, LocalDate today);
+
+    interface StatsRow {
+        Long getScopeId();
+        TaskStatus getStatus();
+        TaskPriority getPriority();
+        long getTotal();
+        long getOverdue();
+    }
+}
@@ -1,7 +1,9 @@
 package com.axora.backend.repository;
 
+import com.axora.backend.dto.team.TeamSummaryResponse;
 import com.axora.backend.entity.Team;
 import com.axora.backend.entity.User;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
@@ -12,7 +14,34 @@ public interface TeamRepository extends JpaRepository<Team, Long> {
     Optional<Team> findByName(String name);
     boolean existsByName(String name);
     List<Team> findByActiveTrue();
+    long countByActiveTrue();
     
     @Query("SELECT t FROM Team t JOIN t.members m WHERE m = :user AND t.active = true")
     List<Team> findByMember(User user);
-} 
\ No newline at end of file
+
+    // Takım listesi üyeleriyle birlikte tek sorguda yüklenir
+    @Override
+    @EntityGraph(attributePaths = "members")
+    List<Team> findAll();
+
+    @EntityGraph(attributePaths = "members")
+    Optional<Team> findWithMembersById(Long id);
+
+    // team_members(user_id, team_id) indeksi kullanıcıdan takıma ters aramayı karşılar
+    @Query("SELECT t.id FROM Team t JOIN t.members m WHERE m.id = :userId AND t.active = true")
+    List<Long> findTeamIdsByMemberId(Long userId);
+
+    @Query("SELECT COUNT(t) > 0 FROM Team t JOIN t.members m WHERE t.id = :teamId AND m.id = :userId AND t.active = true")
+    boolean existsActiveMembership(Long teamId, Long userId);
+
+    @Query("SELECT m.id FROM Team t JOIN t.members m WHERE t.id = :teamId")
+    List<Long> findMemberIdsByTeamId(Long teamId);
+
+    @Query("""
+        SELECT new com.axora.backend.dto.team.TeamSummaryResponse(t.id, t.name, t.description, t.active, SIZE(t.members))
+        FROM Team t JOIN t.members m
+        WHERE m.id = :userId AND t.active = true
+        ORDER BY t.name
+        """)
+    List<TeamSummaryResponse> findSummariesByMemberId(Long userId);
+}
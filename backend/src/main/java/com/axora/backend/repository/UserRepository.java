@@ -3,9 +3,11 @@ package com.axora.backend.repository;
 import com.axora.backend.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
+    List<User> findTop5ByOrderByCreatedAtDescIdDesc();
 } 
\ No newline at end of file
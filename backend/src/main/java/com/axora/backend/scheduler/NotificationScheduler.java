@@ -0,0 +1,28 @@
+package com.axora.backend.scheduler;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.axora.backend.service.NotificationCounterService;
+import com.axora.backend.service.NotificationRetentionService;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class NotificationScheduler {
+    private final NotificationCounterService counterService;
+    private final NotificationRetentionService retentionService;
+
+    // Sayaçlarda oluşabilecek kaymaları gerçek okunmamış sayısıyla düzeltir; kümede aralık başına bir kez
+    @Scheduled(fixedDelayString = "${notification.counter.reconcile-interval:PT10M}",
+               initialDelayString = "${notification.counter.reconcile-interval:PT10M}")
+    public void reconcileUnreadCounters() {
+        counterService.reconcileExclusively();
+    }
+
+    @Scheduled(cron = "${notification.retention.cron:0 30 3 * * *}") // Varsayılan: her gece 03:30
+    public void purgeExpiredNotifications() {
+        retentionService.purgeExpired();
+    }
+}
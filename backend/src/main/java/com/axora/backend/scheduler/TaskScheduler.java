@@ -1,51 +1,120 @@
 package com.axora.backend.scheduler;
 
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
 import java.time.LocalDate;
-import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
-import com.axora.backend.entity.Task;
-import com.axora.backend.entity.NotificationType;
-import com.axora.backend.repository.TaskRepository;
+import com.axora.backend.entity.JobCheckpoint;
+import com.axora.backend.service.JobLeaseService;
 import com.axora.backend.service.NotificationService;
-import com.axora.backend.entity.TaskStatus;
-import com.axora.backend.entity.Role;
+import com.axora.backend.service.OverdueTaskService;
+import com.axora.backend.service.TaskCommentService;
+import com.axora.backend.service.TaskStatsService;
+import com.axora.backend.service.TaskTitleIndex;
+
+import io.micrometer.core.instrument.MeterRegistry;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Zamanlanmış işler her replikada tetiklenir; iş paylaşımı veritabanındaki bölüm kiralarıyla
+ * yapılır, böylece aynı görev için birden fazla düğüm bildirim üretmez.
+ */
 @Component
 @RequiredArgsConstructor
+@Slf4j
 public class TaskScheduler {
-    private final TaskRepository taskRepository;
+    public static final String STATS_RECONCILE_JOB = "task-stats-reconcile";
+
+    private final OverdueTaskService overdueTaskService;
     private final NotificationService notificationService;
+    private final TaskStatsService taskStatsService;
+    private final TaskCommentService taskCommentService;
+    private final TaskTitleIndex taskTitleIndex;
+    private final JobLeaseService leaseService;
+    private final MeterRegistry meterRegistry;
+
+    // "pid@host" — aynı makinedeki replikaları da ayırt eder
+    private final String nodeId = ManagementFactory.getRuntimeMXBean().getName();
+
+    @Value("${scheduler.overdue.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${scheduler.overdue.partitions:4}")
+    private int partitionCount;
 
-    @Scheduled(cron = "0 0 9 * * *") // Her gün saat 09:00'da çalışır
+    @Value("${scheduler.overdue.lease:PT10M}")
+    private Duration lease;
+
+    @Value("${stats.reconcile.lease:PT1H}")
+    private Duration statsReconcileLease;
+
+    @Scheduled(cron = "${scheduler.overdue.cron:0 0 9 * * *}") // Varsayılan: her gün saat 09:00
     public void checkOverdueTasks() {
-        List<Task> overdueTasks = taskRepository.findByDueDateBeforeAndStatus(
-            LocalDate.now(), 
-            TaskStatus.TODO
-        );
-
-        for (Task task : overdueTasks) {
-            notificationService.createNotification(
-                task.getAssignedUser(),
-                task,
-                "Geciken Görev",
-                String.format("%s görevi için son tarih geçti!", task.getTitle()),
-                NotificationType.TASK_OVERDUE
-            );
-
-            if (task.getCreatedBy().getRole().equals(Role.ROLE_ADMIN)) {
-                notificationService.createNotification(
-                    task.getCreatedBy(),
-                    task,
-                    "Geciken Görev",
-                    String.format("%s görevi için son tarih geçti!", task.getTitle()),
-                    NotificationType.TASK_OVERDUE
-                );
-            }
+        LocalDate today = LocalDate.now();
+        overdueTaskService.planPartitions(today, partitionCount);
+        processPartitions(today);
+    }
+
+    // Çöken düğümlerden kalan, kirası dolmuş bölümleri devralır
+    @Scheduled(fixedDelayString = "${scheduler.overdue.recovery-interval:PT5M}",
+               initialDelayString = "${scheduler.overdue.recovery-interval:PT5M}")
+    public void resumeOverdueTasks() {
+        processPartitions(LocalDate.now());
+    }
+
+    // Gün dönümünde değişen gecikmiş sayılarını ve sayaçlardaki olası kaymaları düzeltir. Kümede
+    // tek düğüm çalışır; kira bırakılmaz, saati geride kalan replika aynı gece tekrar çalıştırmaz
+    @Scheduled(cron = "${stats.reconcile.cron:0 5 0 * * *}") // Varsayılan: her gece 00:05
+    public void reconcileTaskStats() {
+        if (!leaseService.tryAcquire(STATS_RECONCILE_JOB, nodeId, statsReconcileLease)) {
+            log.debug("Görev istatistikleri eşitlemesi başka bir düğümde çalışıyor");
+            return;
+        }
+        taskStatsService.reconcile();
+        taskCommentService.reconcileCommentCounts();
+    }
+
+    // Silinen ve başlığı değişen görevlerden kalan boş girdileri temizler
+    @Scheduled(cron = "${suggest.index.rebuild-cron:0 15 0 * * *}") // Varsayılan: her gece 00:15
+    public void rebuildTaskTitleIndex() {
+        taskTitleIndex.rebuild();
+    }
+
+    // Her çalışma kendi sahip kimliğiyle kiralar; cron ve kurtarma işi aynı düğümde aynı anda
+    // çalışsa da biri diğerinin bölümünü alamaz ve ilerlemesini yazamaz
+    private void processPartitions(LocalDate runDate) {
+        String owner = nodeId + "/" + UUID.randomUUID();
+        Optional<JobCheckpoint> claimed;
+        while ((claimed = overdueTaskService.claimPartition(runDate, owner, lease)).isPresent()) {
+            processPartition(claimed.get());
         }
     }
-} 
\ No newline at end of file
+
+    private void processPartition(JobCheckpoint partition) {
+        log.info("Gecikmiş görev bölümü işleniyor: {} ({} - {}]",
+            partition.getJobName(), partition.getLastId(), partition.getUpperId());
+
+        int taskCount = 0;
+        OverdueTaskService.ChunkResult chunk;
+        do {
+            chunk = overdueTaskService.processChunk(partition, chunkSize, lease);
+            // Parça commit olduktan sonra gönderilir
+            notificationService.publish(chunk.getNotifications());
+            partition.setLastId(chunk.getLastId());
+            taskCount += chunk.getTaskCount();
+            meterRegistry.counter("overdue.scan.tasks").increment(chunk.getTaskCount());
+            meterRegistry.counter("overdue.scan.notifications").increment(chunk.getNotifications().size());
+        } while (!chunk.isCompleted());
+        meterRegistry.counter("overdue.scan.partitions").increment();
+
+        log.info("Gecikmiş görev bölümü tamamlandı: {}, {} görev", partition.getJobName(), taskCount);
+    }
+}
@@ -0,0 +1,49 @@
+package com.axora.backend.security;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import com.axora.backend.entity.Role;
+import com.axora.backend.entity.User;
+
+import lombok.Value;
+
+/**
+ * SecurityContext'e konan hafif principal. Şifre ve entity ilişkileri taşımaz,
+ * bu yüzden istekler arasında önbellekte güvenle paylaşılabilir.
+ */
+@Value
+public class AuthenticatedUser implements UserDetails {
+    Long id;
+    String email;
+    Role role;
+    boolean active;
+
+    public static AuthenticatedUser from(User user) {
+        return new AuthenticatedUser(user.getId(), user.getEmail(), user.getRole(), user.isActive());
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return List.of(new SimpleGrantedAuthority(role.name()));
+    }
+
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return active;
+    }
+}
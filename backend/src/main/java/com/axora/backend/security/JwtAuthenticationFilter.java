@@ -1,27 +1,34 @@
 package com.axora.backend.security;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import com.axora.backend.entity.User;
+
 import java.io.IOException;
 
 @Component
 @RequiredArgsConstructor
+@Slf4j
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
     private final UserDetailsService userDetailsService;
+    private final PrincipalCache principalCache;
 
     @Override
     protected void doFilterInternal(
@@ -30,25 +37,19 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             @NonNull FilterChain filterChain
     ) throws ServletException, IOException {
         final String authHeader = request.getHeader("Authorization");
-        final String jwt;
-        final String userEmail;
 
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
             filterChain.doFilter(request, response);
             return;
         }
 
-        jwt = authHeader.substring(7);
-        userEmail = jwtService.extractUsername(jwt);
-
-        if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(userEmail);
-
-            if (jwtService.isTokenValid(jwt, userDetails)) {
+        if (SecurityContextHolder.getContext().getAuthentication() == null) {
+            AuthenticatedUser principal = resolvePrincipal(authHeader.substring(7));
+            if (principal != null) {
                 UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                        userDetails,
+                        principal,
                         null,
-                        userDetails.getAuthorities()
+                        principal.getAuthorities()
                 );
                 authToken.setDetails(
                         new WebAuthenticationDetailsSource().buildDetails(request)
@@ -58,4 +59,43 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
         filterChain.doFilter(request, response);
     }
-} 
\ No newline at end of file
+
+    /**
+     * Token bir kez doğrulanır; kullanıcı önbellekten id ile çözülür. Önbellekteki güncel
+     * kayıt token'daki e-posta ve rolle uyuşmuyorsa ya da kullanıcı pasifse token reddedilir.
+     */
+    private AuthenticatedUser resolvePrincipal(String jwt) {
+        final Claims claims;
+        try {
+            claims = jwtService.parseVerifiedClaims(jwt);
+        } catch (JwtException | IllegalArgumentException e) {
+            log.debug("Geçersiz JWT: {}", e.getMessage());
+            return null;
+        }
+
+        Long userId = claims.get(JwtService.CLAIM_USER_ID, Long.class);
+        AuthenticatedUser principal = userId != null
+                ? principalCache.get(userId).orElse(null)
+                : loadLegacyPrincipal(claims.getSubject());
+
+        if (principal == null || !principal.isEnabled() || !principal.getEmail().equals(claims.getSubject())) {
+            return null;
+        }
+        String role = claims.get(JwtService.CLAIM_ROLE, String.class);
+        if (role != null && !role.equals(principal.getRole().name())) {
+            return null;
+        }
+        return principal;
+    }
+
+    // uid claim'i olmayan eski token'lar için
+    private AuthenticatedUser loadLegacyPrincipal(String email) {
+        try {
+            return userDetailsService.loadUserByUsername(email) instanceof User user
+                    ? AuthenticatedUser.from(user)
+                    : null;
+        } catch (UsernameNotFoundException e) {
+            return null;
+        }
+    }
+}
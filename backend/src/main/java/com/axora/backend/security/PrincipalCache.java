@@ -0,0 +1,55 @@
+package com.axora.backend.security;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.axora.backend.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Kullanıcı id'sine göre {@link AuthenticatedUser} önbelleği. Kimliği doğrulanmış isteklerde
+ * kullanıcı tablosuna yalnızca önbellek boşsa gidilir; kullanıcı güncellendiğinde veya
+ * pasifleştirildiğinde {@link #evict(Long)} ile kayıt düşürülür.
+ */
+@Component
+@Slf4j
+public class PrincipalCache {
+
+    private final UserRepository userRepository;
+    private final Cache<Long, AuthenticatedUser> cache;
+
+    public PrincipalCache(
+            UserRepository userRepository,
+            @Value("${security.principal-cache.max-size:10000}") long maxSize,
+            @Value("${security.principal-cache.ttl:10m}") Duration ttl) {
+        this.userRepository = userRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    public Optional<AuthenticatedUser> get(Long userId) {
+        return Optional.ofNullable(cache.get(userId, id -> userRepository.findById(id)
+                .map(AuthenticatedUser::from)
+                .orElse(null)));
+    }
+
+    public void evict(Long userId) {
+        if (userId != null) {
+            cache.invalidate(userId);
+            log.debug("Principal önbellekten çıkarıldı: {}", userId);
+        }
+    }
+
+    public void evictAll() {
+        cache.invalidateAll();
+    }
+}
@@ -2,6 +2,7 @@ package com.axora.backend.security;
 
 import java.util.Arrays;
 
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -13,10 +14,13 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.util.ClassUtils;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import com.axora.backend.dto.common.CursorPage;
+
 import lombok.RequiredArgsConstructor;
 
 @Configuration
@@ -25,6 +29,10 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class SecurityConfig {
 
+    // Prometheus kayıt defteri yalnızca -Pprometheus derlemesinde sınıf yolundadır
+    private static final boolean PROMETHEUS_PRESENT = ClassUtils.isPresent(
+        "io.micrometer.prometheusmetrics.PrometheusMeterRegistry", SecurityConfig.class.getClassLoader());
+
     private final JwtAuthenticationFilter jwtAuthFilter;
     private final AuthenticationProvider authenticationProvider;
 
@@ -40,6 +48,12 @@ public class SecurityConfig {
                 auth.requestMatchers("/ws/**", "/ws").permitAll();
                 auth.requestMatchers("/swagger-ui/**").permitAll();
                 auth.requestMatchers("/swagger-ui.html").permitAll();
+                // Yönetim portu dışarı açılmaz; sağlık ve (derlemede varsa) Prometheus uçları kimliksiz okunur
+                auth.requestMatchers(EndpointRequest.to("health")).permitAll();
+                if (PROMETHEUS_PRESENT) {
+                    auth.requestMatchers(EndpointRequest.to("prometheus")).permitAll();
+                }
+                auth.requestMatchers(EndpointRequest.toAnyEndpoint()).hasRole("ADMIN");
                 auth.requestMatchers("/api/**").authenticated();
                 auth.anyRequest().authenticated();
             })
@@ -59,6 +73,7 @@ public class SecurityConfig {
         configuration.setAllowedOrigins(Arrays.asList("http://localhost:5173"));
         configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "PATCH", "OPTIONS"));
         configuration.setAllowedHeaders(Arrays.asList("Authorization", "Content-Type", "x-requested-with"));
+        configuration.setExposedHeaders(Arrays.asList(CursorPage.NEXT_CURSOR_HEADER));
         configuration.setAllowCredentials(true);
         
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
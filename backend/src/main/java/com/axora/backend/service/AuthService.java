@@ -5,11 +5,13 @@ import java.util.UUID;
 
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import com.axora.backend.config.CacheConfig;
 import com.axora.backend.config.RabbitMQConfig;
 import com.axora.backend.dto.auth.AuthRequest;
 import com.axora.backend.dto.auth.AuthResponse;
@@ -40,6 +42,7 @@ public class AuthService {
     @Value("${app.frontend-url}")
     private String frontendUrl;
 
+    @CacheEvict(cacheNames = CacheConfig.USERS, allEntries = true)
     public AuthResponse register(RegisterRequest request) {
         if (userRepository.findByEmail(request.getEmail()).isPresent()) {
             throw new IllegalArgumentException("Bu e-posta adresi zaten kullanılıyor");
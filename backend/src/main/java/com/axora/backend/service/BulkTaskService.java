@@ -0,0 +1,247 @@
+package com.axora.backend.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.axora.backend.dto.task.BulkTaskAssignRequest;
+import com.axora.backend.dto.task.BulkTaskCreateRequest;
+import com.axora.backend.dto.task.BulkTaskDeleteRequest;
+import com.axora.backend.dto.task.BulkTaskResponse;
+import com.axora.backend.dto.task.BulkTaskStatusRequest;
+import com.axora.backend.dto.task.TaskRequest;
+import com.axora.backend.dto.task.TaskResponse;
+import com.axora.backend.dto.task.TaskStatsSnapshot;
+import com.axora.backend.entity.Category;
+import com.axora.backend.entity.NotificationType;
+import com.axora.backend.entity.Task;
+import com.axora.backend.entity.TaskPriority;
+import com.axora.backend.entity.TaskStatus;
+import com.axora.backend.entity.User;
+import com.axora.backend.repository.CategoryRepository;
+import com.axora.backend.repository.NotificationRepository;
+import com.axora.backend.repository.TaskCommentRepository;
+import com.axora.backend.repository.TaskRepository;
+import com.axora.backend.repository.UserRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Yöneticilerin çok sayıda görevi tek istekte değiştirmesi için toplu işlemler. Her işlem tek
+ * bir veritabanı işleminde çalışır; görevler, kullanıcılar ve kategoriler tek sorguda yüklenir,
+ * değişiklikler flush sırasında JDBC batch olarak yazılır. Her alıcı işlem başına tek bir özet
+ * bildirim alır.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BulkTaskService {
+
+    public static final int MAX_BULK_SIZE = 1000;
+
+    private final TaskRepository taskRepository;
+    private final UserRepository userRepository;
+    private final CategoryRepository categoryRepository;
+    private final TaskCommentRepository commentRepository;
+    private final NotificationRepository notificationRepository;
+    private final NotificationCounterService counterService;
+    private final NotificationService notificationService;
+    private final UserService userService;
+    private final TaskStatsService statsService;
+    private final TaskTitleIndex titleIndex;
+
+    @Transactional
+    public BulkTaskResponse updateStatus(BulkTaskStatusRequest request) {
+        User currentUser = userService.getCurrentUser();
+        TaskStatus newStatus = request.getStatus();
+
+        // Yönetilen entity'ler değiştirilir; UPDATE'ler commit'te toplu gönderilir
+        List<Task> changed = new ArrayList<>();
+        List<TaskStatsSnapshot> before = new ArrayList<>();
+        Map<Long, List<Task>> byRecipient = new LinkedHashMap<>();
+        for (Task task : loadTasks(request.getTaskIds())) {
+            if (task.getStatus() == newStatus) {
+                continue;
+            }
+            before.add(TaskStatsSnapshot.of(task));
+            task.setStatus(newStatus);
+            changed.add(task);
+            addRecipient(byRecipient, task.getCreatedBy(), task, currentUser);
+            if (task.getAssignedUser() != null && !task.getAssignedUser().getId().equals(task.getCreatedBy().getId())) {
+                addRecipient(byRecipient, task.getAssignedUser(), task, currentUser);
+            }
+        }
+        statsService.onTasksChanged(before, snapshots(changed));
+        notifyDigest(byRecipient, "Görev Durumu Değişti", NotificationType.TASK_STATUS_CHANGED, tasks -> tasks.size() == 1
+                ? String.format("%s görevi %s durumuna güncellendi", tasks.get(0).getTitle(), newStatus)
+                : String.format("%d görev %s durumuna güncellendi", tasks.size(), newStatus));
+
+        log.info("Toplu durum güncellemesi - {} görev {} durumuna alındı", changed.size(), newStatus);
+        return BulkTaskResponse.builder().affectedCount(changed.size()).build();
+    }
+
+    @Transactional
+    public BulkTaskResponse reassign(BulkTaskAssignRequest request) {
+        User currentUser = userService.getCurrentUser();
+        User assignee = userRepository.findById(request.getAssignedUserId())
+                .orElseThrow(() -> new RuntimeException("Kullanıcı bulunamadı"));
+
+        List<Task> changed = new ArrayList<>();
+        List<TaskStatsSnapshot> before = new ArrayList<>();
+        for (Task task : loadTasks(request.getTaskIds())) {
+            if (task.getAssignedUser() == null || !assignee.getId().equals(task.getAssignedUser().getId())) {
+                before.add(TaskStatsSnapshot.of(task));
+                task.setAssignedUser(assignee);
+                changed.add(task);
+            }
+        }
+        statsService.onTasksChanged(before, snapshots(changed));
+        titleIndex.onTasksSaved(changed);
+
+        if (!changed.isEmpty()) {
+            notifyDigest(Map.of(assignee.getId(), changed), "Yeni Görev Atandı", NotificationType.TASK_ASSIGNED,
+                    tasks -> assignedMessage(currentUser, tasks));
+        }
+
+        log.info("Toplu görev ataması - {} görev {} kullanıcısına atandı", changed.size(), assignee.getEmail());
+        return BulkTaskResponse.builder().affectedCount(changed.size()).build();
+    }
+
+    /**
+     * Görevleri yorumları ve bildirimleriyle birlikte siler. Silmeler entity yüklenmeden toplu
+     * DELETE olarak çalışır; silinen okunmamış bildirimler sayaçlardan düşülür.
+     */
+    @Transactional
+    public BulkTaskResponse delete(BulkTaskDeleteRequest request) {
+        Set<Long> taskIds = request.getTaskIds();
+        checkSize(taskIds.size());
+        List<Long> existingIds = taskRepository.findIdsByIdIn(taskIds);
+        checkMissing(taskIds, existingIds, "Görev bulunamadı: ");
+
+        List<NotificationRepository.UnreadByUser> unread = notificationRepository.countUnreadByTaskIdIn(taskIds);
+        statsService.onTasksChanged(taskRepository.findStatsSnapshotsByIdIn(taskIds), List.of());
+        commentRepository.deleteAllByTaskIdIn(taskIds);
+        notificationRepository.deleteAllByTaskIdIn(taskIds);
+        int deleted = taskRepository.deleteAllByIdIn(taskIds);
+        titleIndex.onTasksDeleted(taskIds);
+        unread.forEach(count -> counterService.adjust(count.getUserId(), -count.getUnread()));
+
+        log.info("Toplu görev silme - {} görev silindi", deleted);
+        return BulkTaskResponse.builder().affectedCount(deleted).build();
+    }
+
+    @Transactional
+    public List<TaskResponse> create(BulkTaskCreateRequest request) {
+        List<TaskRequest> requests = request.getTasks();
+        checkSize(requests.size());
+        if (requests.stream().anyMatch(task -> task.getAssignedUserId() == null || task.getCategoryId() == null)) {
+            throw new IllegalArgumentException("Her görev için kullanıcı ve kategori seçilmelidir");
+        }
+
+        User currentUser = userService.getCurrentUser();
+        Set<Long> userIds = idsOf(requests, TaskRequest::getAssignedUserId);
+        Map<Long, User> users = byId(userRepository.findAllById(userIds), User::getId, userIds, "Kullanıcı bulunamadı: ");
+        Set<Long> categoryIds = idsOf(requests, TaskRequest::getCategoryId);
+        Map<Long, Category> categories = byId(categoryRepository.findAllById(categoryIds), Category::getId, categoryIds,
+                "Kategori bulunamadı: ");
+
+        List<Task> tasks = requests.stream()
+                .map(task -> Task.builder()
+                        .title(task.getTitle())
+                        .description(task.getDescription())
+                        .dueDate(task.getDueDate())
+                        .priority(task.getPriority() != null ? task.getPriority() : TaskPriority.MEDIUM)
+                        .status(TaskStatus.TODO)
+                        .assignedUser(users.get(task.getAssignedUserId()))
+                        .createdBy(currentUser)
+                        .category(categories.get(task.getCategoryId()))
+                        .build())
+                .collect(Collectors.toList());
+        List<Task> saved = taskRepository.saveAll(tasks);
+        statsService.onTasksChanged(List.of(), snapshots(saved));
+        titleIndex.onTasksSaved(saved);
+
+        Map<Long, List<Task>> byAssignee = new LinkedHashMap<>();
+        saved.forEach(task -> byAssignee.computeIfAbsent(task.getAssignedUser().getId(), id -> new ArrayList<>()).add(task));
+        notifyDigest(byAssignee, "Yeni Görev Atandı", NotificationType.TASK_ASSIGNED,
+                taskList -> assignedMessage(currentUser, taskList));
+
+        log.info("Toplu görev oluşturma - {} görev oluşturuldu", saved.size());
+        return saved.stream().map(TaskResponse::fromTask).collect(Collectors.toList());
+    }
+
+    private List<TaskStatsSnapshot> snapshots(List<Task> tasks) {
+        return tasks.stream().map(TaskStatsSnapshot::of).collect(Collectors.toList());
+    }
+
+    private List<Task> loadTasks(Set<Long> taskIds) {
+        checkSize(taskIds.size());
+        List<Task> tasks = taskRepository.findAllWithUsersByIdIn(taskIds);
+        checkMissing(taskIds, tasks.stream().map(Task::getId).collect(Collectors.toList()), "Görev bulunamadı: ");
+        return tasks;
+    }
+
+    // İşlemi yapan kullanıcı kendi değişikliği için bildirim almaz
+    private void addRecipient(Map<Long, List<Task>> byRecipient, User recipient, Task task, User currentUser) {
+        if (recipient != null && !recipient.getId().equals(currentUser.getId())) {
+            byRecipient.computeIfAbsent(recipient.getId(), id -> new ArrayList<>()).add(task);
+        }
+    }
+
+    /**
+     * Alıcı başına tek bildirim oluşturur; bildirim listedeki ilk göreve bağlanır. Alıcı ilk
+     * görevin ya oluşturanı ya da atananı olduğundan kullanıcı nesnesi oradan alınır.
+     */
+    private void notifyDigest(Map<Long, List<Task>> byRecipient, String title, NotificationType type,
+                              Function<List<Task>, String> message) {
+        byRecipient.forEach((recipientId, tasks) -> {
+            Task first = tasks.get(0);
+            User recipient = recipientId.equals(first.getCreatedBy().getId()) ? first.getCreatedBy() : first.getAssignedUser();
+            notificationService.createNotification(recipient, first, title, message.apply(tasks), type);
+        });
+    }
+
+    private String assignedMessage(User currentUser, List<Task> tasks) {
+        return tasks.size() == 1
+                ? String.format("%s size yeni bir görev atadı: %s", currentUser.getName(), tasks.get(0).getTitle())
+                : String.format("%s size %d yeni görev atadı", currentUser.getName(), tasks.size());
+    }
+
+    private <T> Map<Long, T> byId(List<T> found, Function<T, Long> idOf, Set<Long> requestedIds, String message) {
+        Map<Long, T> byId = found.stream().collect(Collectors.toMap(idOf, Function.identity()));
+        checkMissing(requestedIds, byId.keySet(), message);
+        return byId;
+    }
+
+    private Set<Long> idsOf(List<TaskRequest> requests, Function<TaskRequest, Long> idOf) {
+        return requests.stream().map(idOf).collect(Collectors.toSet());
+    }
+
+    private void checkSize(int size) {
+        if (size > MAX_BULK_SIZE) {
+            throw new IllegalArgumentException("Tek seferde en fazla " + MAX_BULK_SIZE + " görev işlenebilir");
+        }
+    }
+
+    private void checkMissing(Set<Long> requestedIds, Collection<Long> foundIds, String message) {
+        if (foundIds.size() == requestedIds.size()) {
+            return;
+        }
+        Set<Long> found = Set.copyOf(foundIds);
+        String missingIds = requestedIds.stream()
+                .filter(id -> !found.contains(id))
+                .sorted()
+                .map(String::valueOf)
+                .collect(Collectors.joining(", "));
+        throw new RuntimeException(message + missingIds);
+    }
+}
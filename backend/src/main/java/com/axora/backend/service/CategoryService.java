@@ -1,16 +1,18 @@
 package com.axora.backend.service;
 
+import com.axora.backend.config.CacheConfig;
 import com.axora.backend.dto.category.CategoryRequest;
 import com.axora.backend.dto.category.CategoryResponse;
 import com.axora.backend.entity.Category;
 import com.axora.backend.repository.CategoryRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -18,6 +20,7 @@ public class CategoryService {
 
     private final CategoryRepository categoryRepository;
 
+    @CacheEvict(cacheNames = CacheConfig.CATEGORIES, allEntries = true)
     @Transactional
     public CategoryResponse createCategory(CategoryRequest request) {
         if (categoryRepository.existsByName(request.getName())) {
@@ -34,12 +37,14 @@ public class CategoryService {
         return mapToResponse(category);
     }
 
+    @Cacheable(CacheConfig.CATEGORIES)
     @Transactional(readOnly = true)
     public List<CategoryResponse> getAllCategories() {
+        // Önbellekteki liste paylaşıldığı için değiştirilemez döner
         return categoryRepository.findByActiveTrue()
                 .stream()
                 .map(this::mapToResponse)
-                .collect(Collectors.toList());
+                .toList();
     }
 
     @Transactional(readOnly = true)
@@ -49,6 +54,7 @@ public class CategoryService {
                 .orElseThrow(() -> new EntityNotFoundException("Kategori bulunamadı"));
     }
 
+    @CacheEvict(cacheNames = CacheConfig.CATEGORIES, allEntries = true)
     @Transactional
     public CategoryResponse updateCategory(Long id, CategoryRequest request) {
         Category category = categoryRepository.findById(id)
@@ -67,6 +73,7 @@ public class CategoryService {
         return mapToResponse(category);
     }
 
+    @CacheEvict(cacheNames = CacheConfig.CATEGORIES, allEntries = true)
     @Transactional
     public void deleteCategory(Long id) {
         Category category = categoryRepository.findById(id)
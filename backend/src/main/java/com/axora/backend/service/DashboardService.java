@@ -0,0 +1,112 @@
+package com.axora.backend.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.axora.backend.config.CacheConfig;
+import com.axora.backend.dto.dashboard.AdminDashboardResponse;
+import com.axora.backend.dto.dashboard.UserDashboardResponse;
+import com.axora.backend.dto.user.UserSummary;
+import com.axora.backend.entity.TaskStatus;
+import com.axora.backend.repository.CategoryRepository;
+import com.axora.backend.repository.TaskRepository;
+import com.axora.backend.repository.TaskRepository.StatusBucket;
+import com.axora.backend.repository.TeamRepository;
+import com.axora.backend.repository.UserRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Panel kartlarındaki sayıları sunucuda hesaplar. Görev sayıları durum başına tek satır dönen
+ * bir GROUP BY sorgusundan türetilir; sonuçlar kısa süreli önbellekte tutulduğu için aynı anda
+ * yenilenen paneller tabloyu tekrar tekrar taramaz.
+ */
+@Service
+@RequiredArgsConstructor
+public class DashboardService {
+
+    // Yaklaşan teslim penceresi: bugün dahil sonraki 7 gün
+    private static final int UPCOMING_DAYS = 7;
+
+    private final TaskRepository taskRepository;
+    private final UserRepository userRepository;
+    private final CategoryRepository categoryRepository;
+    private final TeamRepository teamRepository;
+
+    @Cacheable(cacheNames = CacheConfig.DASHBOARDS, key = "'admin'")
+    @Transactional(readOnly = true)
+    public AdminDashboardResponse getAdminDashboard() {
+        LocalDate today = LocalDate.now();
+        List<StatusBucket> buckets = taskRepository.countByStatus(
+            monthStart(today), today, today.plusDays(UPCOMING_DAYS));
+
+        List<UserSummary> recentUsers = userRepository.findTop5ByOrderByCreatedAtDescIdDesc().stream()
+            .map(user -> UserSummary.builder()
+                .id(user.getId())
+                .name(user.getName())
+                .email(user.getEmail())
+                .build())
+            .collect(Collectors.toList());
+
+        return AdminDashboardResponse.builder()
+            .totalUsers(userRepository.count())
+            .totalCategories(categoryRepository.count())
+            .totalTeams(teamRepository.count())
+            .activeTeams(teamRepository.countByActiveTrue())
+            .totalTasks(buckets.stream().mapToLong(StatusBucket::getTotal).sum())
+            .activeTasks(openBuckets(buckets).mapToLong(StatusBucket::getTotal).sum())
+            .createdThisMonth(buckets.stream().mapToLong(StatusBucket::getCreatedSince).sum())
+            .overdueTasks(openBuckets(buckets).mapToLong(StatusBucket::getOverdue).sum())
+            .tasksByStatus(byStatus(buckets))
+            .recentUsers(recentUsers)
+            .build();
+    }
+
+    @Cacheable(cacheNames = CacheConfig.DASHBOARDS, key = "#userId")
+    @Transactional(readOnly = true)
+    public UserDashboardResponse getUserDashboard(Long userId) {
+        LocalDate today = LocalDate.now();
+        List<StatusBucket> buckets = taskRepository.countByStatusForAssignee(
+            userId, monthStart(today), today, today.plusDays(UPCOMING_DAYS));
+
+        return UserDashboardResponse.builder()
+            .totalTasks(buckets.stream().mapToLong(StatusBucket::getTotal).sum())
+            .activeTasks(openBuckets(buckets).mapToLong(StatusBucket::getTotal).sum())
+            .upcomingTasks(openBuckets(buckets).mapToLong(StatusBucket::getUpcoming).sum())
+            .overdueTasks(openBuckets(buckets).mapToLong(StatusBucket::getOverdue).sum())
+            // Tamamlanma zamanı ayrıca tutulmadığından son güncelleme zamanı esas alınır
+            .completedThisMonth(buckets.stream()
+                .filter(bucket -> bucket.getStatus() == TaskStatus.DONE)
+                .mapToLong(StatusBucket::getUpdatedSince)
+                .sum())
+            .tasksByStatus(byStatus(buckets))
+            .build();
+    }
+
+    private LocalDateTime monthStart(LocalDate today) {
+        return today.withDayOfMonth(1).atStartOfDay();
+    }
+
+    private Stream<StatusBucket> openBuckets(List<StatusBucket> buckets) {
+        return buckets.stream().filter(bucket -> bucket.getStatus() != TaskStatus.DONE);
+    }
+
+    // Görevi olmayan durumlar da 0 ile döner
+    private Map<TaskStatus, Long> byStatus(List<StatusBucket> buckets) {
+        Map<TaskStatus, Long> counts = new EnumMap<>(TaskStatus.class);
+        for (TaskStatus status : TaskStatus.values()) {
+            counts.put(status, 0L);
+        }
+        buckets.forEach(bucket -> counts.put(bucket.getStatus(), bucket.getTotal()));
+        return counts;
+    }
+}
@@ -0,0 +1,48 @@
+package com.axora.backend.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import com.axora.backend.entity.JobCheckpoint;
+import com.axora.backend.repository.JobCheckpointRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Her replikada tetiklenen tekil işler için job_checkpoints üzerinde kira. İşin satırı ilk
+ * çağrıda oluşturulur; kirayı yalnızca boşta ya da kirası dolmuş satırı alan düğüm alır.
+ */
+@Service
+@RequiredArgsConstructor
+public class JobLeaseService {
+
+    private final JobCheckpointRepository checkpointRepository;
+
+    // Kira alındıysa true; başka bir düğümde sürüyorsa false
+    public boolean tryAcquire(String jobName, String owner, Duration lease) {
+        LocalDateTime now = LocalDateTime.now();
+        if (!checkpointRepository.existsById(jobName)) {
+            try {
+                checkpointRepository.save(JobCheckpoint.builder()
+                    .jobName(jobName)
+                    .runDate(now.toLocalDate())
+                    .lastId(0L)
+                    .completed(false)
+                    .updatedAt(now)
+                    .build());
+            } catch (DataIntegrityViolationException e) {
+                // Başka bir düğüm aynı anda oluşturdu
+            }
+        }
+        return checkpointRepository.claim(jobName, owner, now.plus(lease), now) == 1;
+    }
+
+    // Kirayı hemen bırakır; sonraki tetiklemede herhangi bir düğüm alabilir
+    public void release(String jobName, String owner) {
+        LocalDateTime now = LocalDateTime.now();
+        checkpointRepository.advance(jobName, owner, 0L, false, now, now);
+    }
+}
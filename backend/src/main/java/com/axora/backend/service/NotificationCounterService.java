@@ -0,0 +1,131 @@
+package com.axora.backend.service;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.axora.backend.dto.notification.UnreadCountMessage;
+import com.axora.backend.entity.NotificationCounter;
+import com.axora.backend.repository.NotificationCounterRepository;
+import com.axora.backend.repository.NotificationRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Okunmamış bildirim sayaçları. Sayaç bildirimi değiştiren işlemle birlikte güncellenir ve
+ * commit sonrasında yeni değer kullanıcının bildirim kanalına gönderilir, böylece istemcinin
+ * sayıyı yoklaması gerekmez. Olası kaymalar periyodik eşitleme ile düzeltilir.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationCounterService {
+
+    // Bildirim kanalındaki sayaç mesajlarını bildirimlerden ayırır
+    public static final String MESSAGE_TYPE_HEADER = "message-type";
+    public static final String UNREAD_COUNT_MESSAGE_TYPE = "unread-count";
+
+    public static final String RECONCILE_JOB_NAME = "notification-counter-reconcile";
+
+    private final NotificationCounterRepository counterRepository;
+    private final NotificationRepository notificationRepository;
+    private final JobLeaseService leaseService;
+    private final SimpMessagingTemplate messagingTemplate;
+
+    private final String nodeId = ManagementFactory.getRuntimeMXBean().getName();
+
+    @Value("${notification.counter.reconcile-interval:PT10M}")
+    private Duration reconcileInterval;
+
+    public long getUnreadCount(Long userId) {
+        return counterRepository.findById(userId)
+            .map(NotificationCounter::getUnread)
+            .orElseGet(() -> initialize(userId));
+    }
+
+    /**
+     * Sayacı çağıran işlem içinde değiştirir; güncel değer commit sonrasında gönderilir.
+     * Sayaç henüz oluşturulmamışsa ilk okumada hesaplanacağı için yalnızca bildirim yapılır.
+     */
+    @Transactional
+    public void adjust(Long userId, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        counterRepository.adjust(userId, delta);
+        afterCommit(() -> push(userId, delta));
+    }
+
+    @Transactional
+    public int reconcile() {
+        int updated = counterRepository.reconcileAll();
+        log.debug("Okunmamış bildirim sayaçları eşitlendi: {} kullanıcı", updated);
+        return updated;
+    }
+
+    /**
+     * Periyodik eşitleme. Her replikada tetiklenir ama aralık başına tek düğüm çalışır: kira
+     * aralık boyunca tutulur ve bırakılmaz. Kirayı alamayan düğüm hiçbir şey yapmadan 0 döner.
+     */
+    public int reconcileExclusively() {
+        if (!leaseService.tryAcquire(RECONCILE_JOB_NAME, nodeId, reconcileInterval)) {
+            log.debug("Bildirim sayaçları bu aralıkta başka bir düğümde eşitlendi");
+            return 0;
+        }
+        return reconcile();
+    }
+
+    private long initialize(Long userId) {
+        long unread = notificationRepository.countByUserIdAndReadFalse(userId);
+        try {
+            counterRepository.save(NotificationCounter.builder().userId(userId).unread(unread).build());
+        } catch (DataIntegrityViolationException e) {
+            // Aynı anda başka bir istek oluşturdu
+            return counterRepository.findById(userId).map(NotificationCounter::getUnread).orElse(unread);
+        }
+        return unread;
+    }
+
+    private void push(Long userId, long delta) {
+        try {
+            // Commit sonrası çalıştığı için burada sayaç satırı oluşturulmaz
+            long unread = counterRepository.findById(userId)
+                .map(NotificationCounter::getUnread)
+                .orElseGet(() -> notificationRepository.countByUserIdAndReadFalse(userId));
+            UnreadCountMessage message = UnreadCountMessage.builder()
+                .unreadCount(unread)
+                .delta(delta)
+                .build();
+            messagingTemplate.convertAndSendToUser(
+                userId.toString(),
+                "/notifications",
+                message,
+                Map.of(MESSAGE_TYPE_HEADER, UNREAD_COUNT_MESSAGE_TYPE)
+            );
+        } catch (Exception e) {
+            log.error("Okunmamış sayısı gönderilirken hata oluştu: {}", e.getMessage(), e);
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,232 @@
+package com.axora.backend.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.axora.backend.entity.Notification;
+import com.axora.backend.event.NotificationEvent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Bildirimleri istek işleminden ayıran süreç içi kuyruk. Olaylar commit sonrasında sınırlı
+ * bir kuyruğa alınır; tek bir worker bunları gruplar halinde yazar ve yazma işlemi commit
+ * olduktan sonra WebSocket'e iletir.
+ *
+ * <p>Kuyruk dolduğunda üretici bildirimi kendisi yazar (caller-runs), böylece bildirim
+ * kaybolmaz ve baskı üreticiye yansır. Kapanışta kuyruk boşaltılmadan uygulama durmaz.
+ */
+@Component
+@Slf4j
+public class NotificationOutbox implements SmartLifecycle {
+
+    // Web sunucusu ve zamanlayıcılar durduktan sonra, veri kaynağı kapanmadan önce durur
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+    private static final long POLL_INTERVAL_MS = 200;
+
+    private final NotificationService notificationService;
+    // Caller-runs yazımı commit sonrası dinleyicide olur; bağlı işlem bitmiş olduğundan yeni işlem açılır
+    private final TransactionTemplate writeTransaction;
+    private final BlockingQueue<NotificationEvent> queue;
+    private final int batchSize;
+    private final Duration offerTimeout;
+    private final Duration shutdownTimeout;
+
+    private final Counter enqueuedCounter;
+    private final Counter callerRunsCounter;
+    private final Counter writtenCounter;
+    private final Counter failedCounter;
+    private final Timer flushTimer;
+
+    // Durdurma kuyruğu veritabanına boşaltır; synchronized sanal thread'i taşıyıcıya sabitlerdi
+    private final ReentrantLock lifecycleLock = new ReentrantLock();
+    private volatile boolean accepting = true;
+    private volatile boolean running;
+    private Thread worker;
+
+    public NotificationOutbox(
+            NotificationService notificationService,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${notification.outbox.capacity:10000}") int capacity,
+            @Value("${notification.outbox.batch-size:100}") int batchSize,
+            @Value("${notification.outbox.offer-timeout:50ms}") Duration offerTimeout,
+            @Value("${notification.outbox.shutdown-timeout:30s}") Duration shutdownTimeout) {
+        this.notificationService = notificationService;
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.writeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.offerTimeout = offerTimeout;
+        this.shutdownTimeout = shutdownTimeout;
+
+        Gauge.builder("notification.outbox.queue.size", queue, BlockingQueue::size)
+            .description("Yazılmayı bekleyen bildirim sayısı")
+            .register(meterRegistry);
+        Gauge.builder("notification.outbox.queue.remaining", queue, BlockingQueue::remainingCapacity)
+            .register(meterRegistry);
+        this.enqueuedCounter = meterRegistry.counter("notification.outbox.enqueued");
+        this.callerRunsCounter = meterRegistry.counter("notification.outbox.caller.runs");
+        this.writtenCounter = meterRegistry.counter("notification.outbox.written");
+        this.failedCounter = meterRegistry.counter("notification.outbox.failed");
+        this.flushTimer = meterRegistry.timer("notification.outbox.flush");
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNotification(NotificationEvent event) {
+        enqueue(event);
+    }
+
+    public void enqueue(NotificationEvent event) {
+        if (accepting) {
+            try {
+                if (queue.offer(event, offerTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                    enqueuedCounter.increment();
+                    return;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        callerRunsCounter.increment();
+        log.warn("Bildirim kuyruğu dolu veya kapalı, bildirim çağıran thread'de yazılıyor");
+        flush(List.of(event));
+    }
+
+    @Override
+    public void start() {
+        lifecycleLock.lock();
+        try {
+            if (running) {
+                return;
+            }
+            running = true;
+            worker = new Thread(this::processQueue, "notification-outbox");
+            worker.setDaemon(true);
+            worker.start();
+            log.info("Bildirim kuyruğu başlatıldı");
+        } finally {
+            lifecycleLock.unlock();
+        }
+    }
+
+    @Override
+    public void stop() {
+        lifecycleLock.lock();
+        try {
+            accepting = false;
+            running = false;
+            if (worker != null) {
+                try {
+                    worker.join(shutdownTimeout.toMillis());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                worker = null;
+            }
+            // Worker zaman aşımına uğradıysa veya son anda eklenen olay varsa burada yazılır
+            drainRemaining();
+            log.info("Bildirim kuyruğu durduruldu");
+        } finally {
+            lifecycleLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    private void processQueue() {
+        List<NotificationEvent> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                NotificationEvent first = queue.poll(POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } finally {
+                batch.clear();
+            }
+        }
+        drainRemaining();
+    }
+
+    private void drainRemaining() {
+        List<NotificationEvent> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            flush(batch);
+            batch.clear();
+        }
+    }
+
+    /**
+     * Grup tek işlemde yazılır. İşlem başarısız olursa (ör. görev yazımdan önce silindi ve FK
+     * bozuldu) olaylar tek tek kendi işlemlerinde yeniden denenir; yalnızca hatalı olan kaybolur.
+     */
+    private void flush(List<NotificationEvent> batch) {
+        Timer.Sample sample = Timer.start();
+        try {
+            write(batch);
+        } catch (Exception e) {
+            if (batch.size() == 1) {
+                fail(batch.get(0), e);
+                return;
+            }
+            log.warn("{} bildirimlik grup yazılamadı, bildirimler tek tek yazılıyor: {}", batch.size(), e.getMessage());
+            for (NotificationEvent event : batch) {
+                try {
+                    write(List.of(event));
+                } catch (Exception single) {
+                    fail(event, single);
+                }
+            }
+        } finally {
+            sample.stop(flushTimer);
+        }
+    }
+
+    private void write(List<NotificationEvent> events) {
+        List<Notification> saved = writeTransaction.execute(status -> notificationService.saveAll(events));
+        writtenCounter.increment(saved.size());
+        notificationService.publish(saved);
+    }
+
+    private void fail(NotificationEvent event, Exception e) {
+        failedCounter.increment();
+        log.error("Bildirim yazılamadı - kullanıcı {}, görev {}: {}", event.getUserId(), event.getTaskId(),
+            e.getMessage(), e);
+    }
+}
@@ -0,0 +1,99 @@
+package com.axora.backend.service;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import com.axora.backend.repository.NotificationRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Saklama süresi dolan bildirimleri küçük partiler halinde siler. Her parti kendi işleminde
+ * silindiği için uzun kilit ve büyük WAL patlaması oluşmaz. Kümede aynı anda tek düğüm çalışır.
+ */
+@Service
+@Slf4j
+public class NotificationRetentionService {
+
+    public static final String JOB_NAME = "notification-retention";
+
+    private final NotificationRepository notificationRepository;
+    private final JobLeaseService leaseService;
+    private final NotificationCounterService counterService;
+    private final MeterRegistry meterRegistry;
+    private final Duration readRetention;
+    private final Duration unreadRetention;
+    private final int batchSize;
+    private final Duration lease;
+
+    private final String nodeId = ManagementFactory.getRuntimeMXBean().getName();
+
+    public NotificationRetentionService(
+            NotificationRepository notificationRepository,
+            JobLeaseService leaseService,
+            NotificationCounterService counterService,
+            MeterRegistry meterRegistry,
+            @Value("${notification.retention.read:P30D}") Duration readRetention,
+            @Value("${notification.retention.unread:P180D}") Duration unreadRetention,
+            @Value("${notification.retention.batch-size:1000}") int batchSize,
+            @Value("${notification.retention.lease:PT30M}") Duration lease) {
+        this.notificationRepository = notificationRepository;
+        this.leaseService = leaseService;
+        this.counterService = counterService;
+        this.meterRegistry = meterRegistry;
+        this.readRetention = readRetention;
+        this.unreadRetention = unreadRetention;
+        this.batchSize = batchSize;
+        this.lease = lease;
+    }
+
+    /**
+     * Okunmuş ve okunmamış bildirimleri kendi saklama sürelerine göre siler.
+     * Başka bir düğüm çalışıyorsa hiçbir şey yapmadan 0 döner.
+     */
+    public long purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        if (!leaseService.tryAcquire(JOB_NAME, nodeId, lease)) {
+            log.debug("Bildirim temizliği başka bir düğümde çalışıyor");
+            return 0;
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            long read = purge(true, now.minus(readRetention));
+            long unread = purge(false, now.minus(unreadRetention));
+            if (unread > 0) {
+                // Silinen okunmamış bildirimler sayaçlardan düşülür
+                counterService.reconcile();
+            }
+            log.info("Bildirim temizliği tamamlandı: {} okunmuş, {} okunmamış bildirim silindi", read, unread);
+            return read + unread;
+        } finally {
+            sample.stop(meterRegistry.timer("notification.retention.duration"));
+            leaseService.release(JOB_NAME, nodeId);
+        }
+    }
+
+    private long purge(boolean read, LocalDateTime cutoff) {
+        String state = read ? "read" : "unread";
+        long total = 0;
+        List<Long> ids;
+        do {
+            ids = notificationRepository.findExpiredIds(read, cutoff, PageRequest.of(0, batchSize));
+            if (!ids.isEmpty()) {
+                int deleted = notificationRepository.deleteAllByIdIn(ids);
+                meterRegistry.counter("notification.retention.purged", "state", state).increment(deleted);
+                total += deleted;
+            }
+        } while (ids.size() == batchSize);
+        return total;
+    }
+}
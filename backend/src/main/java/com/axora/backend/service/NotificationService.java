@@ -1,19 +1,29 @@
 package com.axora.backend.service;
 
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.axora.backend.entity.Notification;
 import com.axora.backend.entity.NotificationType;
 import com.axora.backend.entity.Task;
 import com.axora.backend.entity.User;
+import com.axora.backend.event.NotificationEvent;
 import com.axora.backend.repository.NotificationRepository;
+import com.axora.backend.repository.TaskRepository;
+import com.axora.backend.repository.UserRepository;
+import com.axora.backend.dto.common.CursorPage;
 import com.axora.backend.dto.notification.NotificationResponse;
 
+import io.micrometer.core.instrument.MeterRegistry;
+
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -21,36 +31,118 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 @Slf4j
 public class NotificationService {
+
+    public static final int DEFAULT_FEED_SIZE = 50;
+    public static final int MAX_FEED_SIZE = 200;
+
+    // İlk sayfa için imleç; tüm kayıtlardan sonra gelir
+    private static final LocalDateTime FEED_START = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
     private final NotificationRepository notificationRepository;
     private final SimpMessagingTemplate messagingTemplate;
-
+    private final ApplicationEventPublisher eventPublisher;
+    private final UserRepository userRepository;
+    private final TaskRepository taskRepository;
+    private final NotificationCounterService counterService;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Bildirimi doğrudan yazmaz; olayı yayınlar. Çağıran bir işlem içindeyse olay commit
+     * sonrasında {@link NotificationOutbox} kuyruğuna alınır, işlem geri alınırsa atılır.
+     */
     public void createNotification(User user, Task task, String title, String message, NotificationType type) {
-        try {
-            log.info("Bildirim oluşturuluyor: {} için {}", user.getEmail(), type);
-            
-            Notification notification = Notification.builder()
-                .user(user)
-                .task(task)
-                .title(title)
-                .message(message)
-                .type(type)
-                .build();
-
-            notification = notificationRepository.save(notification);
-
-            NotificationResponse response = mapToResponse(notification);
-            
-            messagingTemplate.convertAndSendToUser(
-                user.getId().toString(),
-                "/notifications",
-                response
-            );
-            
-            log.info("Bildirim başarıyla gönderildi: {}", notification.getId());
-        } catch (Exception e) {
-            log.error("Bildirim gönderilirken hata oluştu: {}", e.getMessage(), e);
-            throw e;
+        log.info("Bildirim oluşturuluyor: {} için {}", user.getEmail(), type);
+
+        eventPublisher.publishEvent(NotificationEvent.builder()
+            .userId(user.getId())
+            .taskId(task.getId())
+            .title(title)
+            .message(message)
+            .type(type)
+            .createdAt(LocalDateTime.now())
+            .build());
+    }
+
+    /**
+     * Bir grup bildirimi tek işlemde yazar. Kimlikler sequence'ten toplu alındığı için
+     * insert'ler JDBC batch olarak gönderilir; kullanıcı ve görev yalnızca referans olarak bağlanır.
+     * Açık bir işlem varsa ona katılır (gecikmiş görev taraması bölüm ilerlemesiyle birlikte yazar).
+     */
+    @Transactional
+    public List<Notification> saveAll(List<NotificationEvent> events) {
+        List<Notification> notifications = events.stream()
+            .map(event -> Notification.builder()
+                .user(userRepository.getReferenceById(event.getUserId()))
+                .task(taskRepository.getReferenceById(event.getTaskId()))
+                .title(event.getTitle())
+                .message(event.getMessage())
+                .type(event.getType())
+                .createdAt(event.getCreatedAt())
+                .build())
+            .collect(Collectors.toList());
+
+        List<Notification> saved = notificationRepository.saveAll(notifications);
+        events.stream()
+            .collect(Collectors.groupingBy(NotificationEvent::getUserId, Collectors.counting()))
+            .forEach(counterService::adjust);
+        return saved;
+    }
+
+    /**
+     * Kaydedilmiş bildirimleri WebSocket üzerinden iletir. Tek bir istemciye gönderimdeki
+     * hata diğerlerini etkilemez; başarıyla gönderilen bildirim sayısını döner.
+     */
+    public int publish(List<Notification> notifications) {
+        int sent = 0;
+        for (Notification notification : notifications) {
+            try {
+                messagingTemplate.convertAndSendToUser(
+                    notification.getUser().getId().toString(),
+                    "/notifications",
+                    mapToResponse(notification)
+                );
+                sent++;
+            } catch (Exception e) {
+                log.error("Bildirim gönderilirken hata oluştu: {}", e.getMessage(), e);
+            }
         }
+        meterRegistry.counter("notification.push", "result", "sent").increment(sent);
+        meterRegistry.counter("notification.push", "result", "failed").increment(notifications.size() - sent);
+        return sent;
+    }
+
+    /**
+     * Kullanıcının bildirimlerini en yeniden eskiye sayfa sayfa döner. Sorgu yalnızca sayfa
+     * kadar satır okur; imleç son öğenin (createdAt, id) çiftidir.
+     */
+    public CursorPage<NotificationResponse> getNotificationFeed(Long userId, String before, Integer limit, NotificationType type) {
+        int size = limit == null || limit < 1 ? DEFAULT_FEED_SIZE : Math.min(limit, MAX_FEED_SIZE);
+
+        LocalDateTime beforeCreatedAt = FEED_START;
+        Long beforeId = Long.MAX_VALUE;
+        if (before != null && !before.isBlank()) {
+            CursorPage.Cursor cursor = CursorPage.decodeCursor(before);
+            try {
+                beforeCreatedAt = LocalDateTime.parse(cursor.getValue());
+            } catch (DateTimeParseException | NullPointerException e) {
+                throw new IllegalArgumentException("Geçersiz sayfa imleci", e);
+            }
+            beforeId = cursor.getId();
+        }
+
+        // Bir fazla satır çekilir; varsa sonraki sayfa olduğu anlaşılır
+        PageRequest page = PageRequest.of(0, size + 1);
+        List<NotificationResponse> items = type == null
+            ? notificationRepository.findFeed(userId, beforeCreatedAt, beforeId, page)
+            : notificationRepository.findFeedByType(userId, type, beforeCreatedAt, beforeId, page);
+
+        String nextCursor = null;
+        if (items.size() > size) {
+            items = items.subList(0, size);
+            NotificationResponse last = items.get(size - 1);
+            nextCursor = CursorPage.encodeCursor(last.getCreatedAt().toString(), last.getId());
+        }
+        return new CursorPage<>(items, nextCursor);
     }
 
     public List<Notification> getUserNotifications(Long userId) {
@@ -62,25 +154,35 @@ public class NotificationService {
     }
 
     public long getUnreadCount(Long userId) {
-        return notificationRepository.countByUserIdAndReadFalse(userId);
+        return counterService.getUnreadCount(userId);
     }
 
+    @Transactional
     public void markAsRead(Long notificationId) {
         Notification notification = notificationRepository.findById(notificationId)
             .orElseThrow(() -> new RuntimeException("Bildirim bulunamadı"));
 
-        notification.setRead(true);
-        notification.setReadAt(LocalDateTime.now());
-        notificationRepository.save(notification);
+        // Yalnızca gerçekten okunmamışken işaretlenirse sayaç azalır; eşzamanlı çift istek sayacı kaydırmaz
+        if (notificationRepository.markReadIfUnread(notificationId, LocalDateTime.now()) > 0) {
+            counterService.adjust(notification.getUser().getId(), -1);
+        }
     }
 
+    // Tek UPDATE ile; bildirimler belleğe yüklenmez
+    @Transactional
     public void markAllAsRead(Long userId) {
-        List<Notification> unreadNotifications = getUnreadNotifications(userId);
-        unreadNotifications.forEach(notification -> {
-            notification.setRead(true);
-            notification.setReadAt(LocalDateTime.now());
-        });
-        notificationRepository.saveAll(unreadNotifications);
+        int updated = notificationRepository.markAllReadByUserId(userId, LocalDateTime.now());
+        counterService.adjust(userId, -updated);
+    }
+
+    /**
+     * İstemcinin gördüğü en yeni bildirime kadar (o dahil) olanları okundu yapar; sonradan
+     * gelen bildirimler okunmamış kalır. Sınır, akıştaki sıralamayla aynı (createdAt, id) çiftidir.
+     */
+    @Transactional
+    public void markAllAsReadUpTo(Long userId, LocalDateTime upToCreatedAt, Long upToId) {
+        int updated = notificationRepository.markReadByUserIdUpTo(userId, upToCreatedAt, upToId, LocalDateTime.now());
+        counterService.adjust(userId, -updated);
     }
 
     public List<NotificationResponse> mapToResponseList(List<Notification> notifications) {
@@ -0,0 +1,159 @@
+package com.axora.backend.service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.axora.backend.entity.JobCheckpoint;
+import com.axora.backend.entity.Notification;
+import com.axora.backend.entity.NotificationType;
+import com.axora.backend.entity.Role;
+import com.axora.backend.entity.Task;
+import com.axora.backend.entity.TaskStatus;
+import com.axora.backend.event.NotificationEvent;
+import com.axora.backend.repository.JobCheckpointRepository;
+import com.axora.backend.repository.TaskRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+
+/**
+ * Gecikmiş görev taramasının küme genelinde paylaştırılması. Günün taraması görev id
+ * aralıklarına bölünür; her düğüm boştaki bölümleri kiralayarak işler. Her parça kendi
+ * işleminde bildirimleri toplu yazar ve bölümün ilerlemesini günceller, böylece çöken
+ * düğümün bölümü kira süresi dolunca kaldığı yerden devralınır.
+ */
+@Service
+@RequiredArgsConstructor
+public class OverdueTaskService {
+
+    public static final String JOB_NAME = "overdue-task-scan";
+    public static final String PARTITION_PREFIX = JOB_NAME + "#";
+
+    private static final String TITLE = "Geciken Görev";
+
+    private final TaskRepository taskRepository;
+    private final JobCheckpointRepository checkpointRepository;
+    private final NotificationService notificationService;
+
+    /**
+     * Günün bölümlerini bir kez oluşturur. Ana kayıt satır kilidiyle tutulduğundan aynı anda
+     * tetiklenen diğer düğümler planlama bitene kadar bekler ve hazır planı kullanır.
+     */
+    @Transactional
+    public void planPartitions(LocalDate runDate, int partitionCount) {
+        LocalDateTime now = LocalDateTime.now();
+        JobCheckpoint master = checkpointRepository.findForUpdate(JOB_NAME)
+            .orElseGet(() -> checkpointRepository.saveAndFlush(JobCheckpoint.builder()
+                .jobName(JOB_NAME)
+                .runDate(runDate.minusDays(1))
+                .lastId(0L)
+                .completed(true)
+                .updatedAt(now)
+                .build()));
+
+        if (runDate.equals(master.getRunDate())) {
+            return;
+        }
+
+        checkpointRepository.deleteByJobNameStartingWith(PARTITION_PREFIX);
+
+        long maxId = taskRepository.findMaxId();
+        long width = Math.max(1, (maxId + partitionCount - 1) / partitionCount);
+        int count = (int) Math.min(partitionCount, (maxId + width - 1) / width);
+        List<JobCheckpoint> partitions = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            partitions.add(JobCheckpoint.builder()
+                .jobName(PARTITION_PREFIX + i)
+                .runDate(runDate)
+                .lastId(i * width)
+                // Son bölüm plandan sonra eklenen görevleri de kapsar
+                .upperId(i == count - 1 ? Long.MAX_VALUE : (i + 1) * width)
+                .completed(false)
+                .updatedAt(now)
+                .build());
+        }
+        checkpointRepository.saveAll(partitions);
+
+        master.setRunDate(runDate);
+        master.setUpdatedAt(now);
+        checkpointRepository.save(master);
+    }
+
+    /**
+     * Boştaki veya kirası dolmuş ilk bölümü bu düğüme kiralar.
+     */
+    @Transactional
+    public Optional<JobCheckpoint> claimPartition(LocalDate runDate, String owner, Duration lease) {
+        LocalDateTime now = LocalDateTime.now();
+        List<JobCheckpoint> open = checkpointRepository
+            .findByJobNameStartingWithAndRunDateAndCompletedFalseOrderByJobName(PARTITION_PREFIX, runDate);
+        for (JobCheckpoint partition : open) {
+            if (checkpointRepository.claim(partition.getJobName(), owner, now.plus(lease), now) == 1) {
+                return checkpointRepository.findById(partition.getJobName());
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Bölümün sıradaki parçasını işler. Kira bu arada başka düğüme geçtiyse işlem geri alınır
+     * ve bildirimler yazılmaz.
+     */
+    @Transactional
+    public ChunkResult processChunk(JobCheckpoint partition, int chunkSize, Duration lease) {
+        LocalDate runDate = partition.getRunDate();
+        List<Task> tasks = taskRepository.findOverdueChunk(TaskStatus.TODO, runDate, runDate.atStartOfDay(),
+            partition.getLastId(), partition.getUpperId(), PageRequest.of(0, chunkSize));
+
+        List<NotificationEvent> events = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (Task task : tasks) {
+            String message = String.format("%s görevi için son tarih geçti!", task.getTitle());
+            if (task.getAssignedUser() != null) {
+                events.add(overdueEvent(task.getAssignedUser().getId(), task, message, now));
+            }
+            if (task.getCreatedBy() != null && Role.ROLE_ADMIN.equals(task.getCreatedBy().getRole())) {
+                events.add(overdueEvent(task.getCreatedBy().getId(), task, message, now));
+            }
+        }
+
+        long newLastId = tasks.isEmpty() ? partition.getLastId() : tasks.get(tasks.size() - 1).getId();
+        boolean completed = tasks.size() < chunkSize;
+
+        int updated = checkpointRepository.advance(partition.getJobName(), partition.getOwner(), newLastId,
+            completed, completed ? null : now.plus(lease), now);
+        if (updated == 0) {
+            throw new IllegalStateException("Bölüm başka bir düğüme geçti: " + partition.getJobName());
+        }
+
+        List<Notification> notifications = events.isEmpty() ? List.of() : notificationService.saveAll(events);
+        return new ChunkResult(newLastId, tasks.size(), notifications, completed);
+    }
+
+    private NotificationEvent overdueEvent(Long userId, Task task, String message, LocalDateTime createdAt) {
+        return NotificationEvent.builder()
+            .userId(userId)
+            .taskId(task.getId())
+            .title(TITLE)
+            .message(message)
+            .type(NotificationType.TASK_OVERDUE)
+            .createdAt(createdAt)
+            .build();
+    }
+
+    @Value
+    public static class ChunkResult {
+        long lastId;
+        int taskCount;
+        List<Notification> notifications;
+        boolean completed;
+    }
+}
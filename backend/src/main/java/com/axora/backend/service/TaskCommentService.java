@@ -1,12 +1,16 @@
 package com.axora.backend.service;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.List;
-import java.util.stream.Collectors;
 
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.axora.backend.dto.comment.CommentRequest;
 import com.axora.backend.dto.comment.CommentResponse;
+import com.axora.backend.dto.common.CursorPage;
 import com.axora.backend.entity.NotificationType;
 import com.axora.backend.entity.Role;
 import com.axora.backend.entity.Task;
@@ -16,15 +20,21 @@ import com.axora.backend.repository.TaskCommentRepository;
 import com.axora.backend.repository.TaskRepository;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class TaskCommentService {
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 200;
+
     private final TaskCommentRepository commentRepository;
     private final TaskRepository taskRepository;
     private final UserService userService;
     private final NotificationService notificationService;
 
+    @Transactional
     public CommentResponse addComment(Long taskId, CommentRequest request) {
         Task task = taskRepository.findById(taskId)
             .orElseThrow(() -> new RuntimeException("Görev bulunamadı"));
@@ -38,6 +48,7 @@ public class TaskCommentService {
             .build();
 
         TaskComment savedComment = commentRepository.save(comment);
+        taskRepository.adjustCommentCount(taskId, 1);
 
         if (!task.getAssignedUser().getId().equals(currentUser.getId())) {
             notificationService.createNotification(
@@ -63,30 +74,59 @@ public class TaskCommentService {
         return mapToResponse(savedComment);
     }
 
-    public List<CommentResponse> getTaskComments(Long taskId) {
-        return commentRepository.findByTaskIdOrderByCreatedAtDesc(taskId).stream()
-            .map(this::mapToResponse)
-            .collect(Collectors.toList());
+    /**
+     * Görevin yorumları en yeniden eskiye sayfa sayfa. Sonraki sayfanın imleci son yorumun
+     * oluşturulma zamanı ve id'sidir.
+     */
+    public CursorPage<CommentResponse> getTaskComments(Long taskId, String cursor, Integer size) {
+        int limit = size == null || size < 1 ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+        // Bir fazla satır çekilir; varsa sonraki sayfa olduğu anlaşılır
+        PageRequest page = PageRequest.of(0, limit + 1);
+
+        List<CommentResponse> comments;
+        if (cursor == null || cursor.isBlank()) {
+            comments = commentRepository.findPageByTaskId(taskId, page);
+        } else {
+            CursorPage.Cursor decoded = CursorPage.decodeCursor(cursor);
+            comments = commentRepository.findPageByTaskIdAfter(taskId, parseCreatedAt(decoded.getValue()),
+                decoded.getId(), page);
+        }
+
+        String nextCursor = null;
+        if (comments.size() > limit) {
+            comments = comments.subList(0, limit);
+            CommentResponse last = comments.get(limit - 1);
+            nextCursor = CursorPage.encodeCursor(last.getCreatedAt().toString(), last.getId());
+        }
+        return new CursorPage<>(comments, nextCursor);
     }
 
+    @Transactional
     public void deleteComment(Long taskId, Long commentId) {
         TaskComment comment = commentRepository.findById(commentId)
             .orElseThrow(() -> new RuntimeException("Yorum bulunamadı"));
         
-        User currentUser = userService.getCurrentUser();
-        if (!comment.getUser().getId().equals(currentUser.getId())) {
+        if (!comment.getUser().getId().equals(userService.getCurrentUserId())) {
             throw new RuntimeException("Bu yorumu silme yetkiniz yok");
         }
 
         commentRepository.delete(comment);
+        taskRepository.adjustCommentCount(comment.getTask().getId(), -1);
+    }
+
+    // Her gece çalışır; ilk çalıştırma sayaç kolonu eklenmeden önceki yorumları da sayar
+    @Transactional
+    public int reconcileCommentCounts() {
+        int updated = taskRepository.reconcileCommentCounts();
+        log.info("Yorum sayaçları eşitlendi - {} görev düzeltildi", updated);
+        return updated;
     }
 
     public CommentResponse updateComment(Long taskId, Long commentId, CommentRequest request) {
         TaskComment comment = commentRepository.findById(commentId)
             .orElseThrow(() -> new RuntimeException("Yorum bulunamadı"));
         
-        User currentUser = userService.getCurrentUser();
-        if (!comment.getUser().getId().equals(currentUser.getId())) {
+        if (!comment.getUser().getId().equals(userService.getCurrentUserId())) {
             throw new RuntimeException("Bu yorumu düzenleme yetkiniz yok");
         }
 
@@ -95,6 +135,14 @@ public class TaskCommentService {
         return mapToResponse(updatedComment);
     }
 
+    private LocalDateTime parseCreatedAt(String value) {
+        try {
+            return LocalDateTime.parse(value);
+        } catch (DateTimeParseException | NullPointerException e) {
+            throw new IllegalArgumentException("Geçersiz sayfa imleci", e);
+        }
+    }
+
     private CommentResponse mapToResponse(TaskComment comment) {
         return CommentResponse.builder()
             .id(comment.getId())
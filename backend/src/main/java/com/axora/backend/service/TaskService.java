@@ -1,20 +1,33 @@
 package com.axora.backend.service;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.axora.backend.dto.common.CursorPage;
+import com.axora.backend.dto.task.TaskFilterRequest;
 import com.axora.backend.dto.task.TaskRequest;
 import com.axora.backend.dto.task.TaskResponse;
+import com.axora.backend.dto.task.TaskSortField;
+import com.axora.backend.dto.task.TaskStatsSnapshot;
+import com.axora.backend.dto.task.TaskSuggestion;
 import com.axora.backend.entity.Category;
 import com.axora.backend.entity.NotificationType;
+import com.axora.backend.entity.Role;
 import com.axora.backend.entity.Task;
 import com.axora.backend.entity.TaskStatus;
 import com.axora.backend.entity.User;
 import com.axora.backend.repository.CategoryRepository;
 import com.axora.backend.repository.TaskRepository;
+import com.axora.backend.repository.TaskRepositoryCustom;
+import com.axora.backend.repository.TaskSpecifications;
 import com.axora.backend.repository.UserRepository;
 
 import lombok.RequiredArgsConstructor;
@@ -25,21 +38,24 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class TaskService {
 
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 200;
+    public static final int MIN_SEARCH_TERM_LENGTH = 2;
+    public static final int MAX_SEARCH_TERMS = 8;
+
     private final TaskRepository taskRepository;
     private final UserRepository userRepository;
     private final CategoryRepository categoryRepository;
     private final UserService userService;
     private final NotificationService notificationService;
+    private final TaskStatsService statsService;
+    private final TaskTitleIndex titleIndex;
 
     public List<TaskResponse> getTasksByCurrentUser() {
-        String email = SecurityContextHolder.getContext().getAuthentication().getName();
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("Kullanıcı bulunamadı"));
-        return taskRepository.findByAssignedUser(user).stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+        return taskRepository.findResponsesByAssignedUserId(userService.getCurrentUserId());
     }
 
+    @Transactional
     public TaskResponse createTask(TaskRequest request) {
         User currentUser = userService.getCurrentUser();
         User assignedUser = userRepository.findById(request.getAssignedUserId())
@@ -60,6 +76,8 @@ public class TaskService {
                 .build();
 
         Task savedTask = taskRepository.save(task);
+        statsService.onTaskChanged(null, TaskStatsSnapshot.of(savedTask));
+        titleIndex.onTaskSaved(savedTask);
 
         notificationService.createNotification(
             assignedUser,
@@ -72,40 +90,108 @@ public class TaskService {
         log.info("Yeni görev oluşturuldu - ID: {}, Başlık: {}, Atanan: {}", 
             savedTask.getId(), savedTask.getTitle(), assignedUser.getEmail());
 
-        return mapToResponse(savedTask);
+        return TaskResponse.fromTask(savedTask);
+    }
+
+    public CursorPage<TaskResponse> getAllTasks(TaskFilterRequest filter) {
+        TaskSortField sort = filter.getSort() != null ? filter.getSort() : TaskSortField.CREATED_AT;
+        Sort.Direction direction = filter.getDirection() != null ? filter.getDirection() : Sort.Direction.DESC;
+        int size = resolvePageSize(filter.getSize());
+
+        Specification<Task> spec = TaskSpecifications.matching(filter);
+        if (filter.getCursor() != null && !filter.getCursor().isBlank()) {
+            spec = spec.and(TaskSpecifications.after(sort, direction, CursorPage.decodeCursor(filter.getCursor())));
+        }
+
+        // Bir fazla satır çekilir; varsa sonraki sayfa olduğu anlaşılır
+        List<TaskResponse> tasks = taskRepository.findSlice(spec, sort, direction, size + 1);
+        String nextCursor = null;
+        if (tasks.size() > size) {
+            tasks = tasks.subList(0, size);
+            TaskResponse last = tasks.get(size - 1);
+            nextCursor = CursorPage.encodeCursor(cursorValue(last, sort), last.getId());
+        }
+
+        return new CursorPage<>(tasks, nextCursor);
+    }
+
+    /**
+     * Başlık, açıklama ve yorumlarda arama. Sonuçlar ilgililiğe göre sıralanır; sonraki sayfanın
+     * imleci son sonucun skoru ve id'sidir. Yönetici olmayan kullanıcılar yalnızca kendilerine
+     * atanmış görevlerde arar.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<TaskResponse> searchTasks(String text, String cursor, Integer size) {
+        List<String> terms = searchTerms(text);
+        int limit = resolvePageSize(size);
+        User currentUser = userService.getCurrentUser();
+        Long assignedUserId = currentUser.getRole() == Role.ROLE_ADMIN ? null : currentUser.getId();
+
+        Double afterRank = null;
+        Long afterId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            CursorPage.Cursor decoded = CursorPage.decodeCursor(cursor);
+            try {
+                afterRank = Double.valueOf(decoded.getValue());
+            } catch (NumberFormatException | NullPointerException e) {
+                throw new IllegalArgumentException("Geçersiz sayfa imleci", e);
+            }
+            afterId = decoded.getId();
+        }
+
+        List<TaskRepositoryCustom.SearchHit> hits = taskRepository.search(terms, assignedUserId, afterRank, afterId, limit + 1);
+        String nextCursor = null;
+        if (hits.size() > limit) {
+            hits = hits.subList(0, limit);
+            TaskRepositoryCustom.SearchHit last = hits.get(limit - 1);
+            nextCursor = CursorPage.encodeCursor(String.valueOf(last.getRank()), last.getTaskId());
+        }
+
+        // Görev satırları tek sorguda yüklenir, sıra skordan gelir
+        Map<Long, TaskResponse> byId = taskRepository.findResponsesByIdIn(
+                hits.stream().map(TaskRepositoryCustom.SearchHit::getTaskId).collect(Collectors.toList()))
+            .stream()
+            .collect(Collectors.toMap(TaskResponse::getId, Function.identity()));
+        List<TaskResponse> tasks = hits.stream()
+            .map(hit -> byId.get(hit.getTaskId()))
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
+
+        return new CursorPage<>(tasks, nextCursor);
     }
 
-    public List<TaskResponse> getAllTasks() {
-        return taskRepository.findAll().stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+    // Görev seçici için başlık önerileri; adaylar bellekteki indeksten, güncel halleri tek sorguyla okunur
+    public List<TaskSuggestion> suggestTasks(String text, Integer limit) {
+        int resolved = limit == null || limit < 1 ? TaskTitleIndex.DEFAULT_SUGGESTIONS
+                : Math.min(limit, TaskTitleIndex.MAX_SUGGESTIONS);
+        Long assignedUserId = userService.isCurrentUserAdmin() ? null : userService.getCurrentUserId();
+        return titleIndex.suggest(text, assignedUserId, resolved);
     }
 
     public TaskResponse getTaskById(Long id) {
-        Task task = taskRepository.findById(id)
+        return taskRepository.findResponseById(id)
                 .orElseThrow(() -> new RuntimeException("Görev bulunamadı"));
-        return mapToResponse(task);
     }
 
     public List<TaskResponse> getTasksByAssignedUser(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("Kullanıcı bulunamadı"));
-        return taskRepository.findByAssignedUser(user).stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+        if (!userRepository.existsById(userId)) {
+            throw new RuntimeException("Kullanıcı bulunamadı");
+        }
+        return taskRepository.findResponsesByAssignedUserId(userId);
     }
 
     public List<TaskResponse> getTasksByCategory(Long categoryId) {
-        Category category = categoryRepository.findById(categoryId)
-                .orElseThrow(() -> new RuntimeException("Kategori bulunamadı"));
-        return taskRepository.findByCategory(category).stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+        if (!categoryRepository.existsById(categoryId)) {
+            throw new RuntimeException("Kategori bulunamadı");
+        }
+        return taskRepository.findResponsesByCategoryId(categoryId);
     }
 
+    @Transactional
     public TaskResponse updateTask(Long id, TaskRequest request) {
         Task task = taskRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Görev bulunamadı"));
+        TaskStatsSnapshot before = TaskStatsSnapshot.of(task);
 
         User assignedUser = userRepository.findById(request.getAssignedUserId())
                 .orElseThrow(() -> new RuntimeException("Kullanıcı bulunamadı"));
@@ -121,19 +207,25 @@ public class TaskService {
         task.setCategory(category);
 
         Task updatedTask = taskRepository.save(task);
-        return mapToResponse(updatedTask);
+        statsService.onTaskChanged(before, TaskStatsSnapshot.of(updatedTask));
+        titleIndex.onTaskSaved(updatedTask);
+        return TaskResponse.fromTask(updatedTask);
     }
 
+    @Transactional
     public TaskResponse updateTaskStatus(Long id, TaskStatus newStatus) {
         Task task = taskRepository.findById(id)
             .orElseThrow(() -> new RuntimeException("Görev bulunamadı"));
         
         TaskStatus oldStatus = task.getStatus();
+        TaskStatsSnapshot before = TaskStatsSnapshot.of(task);
         task.setStatus(newStatus);
         task = taskRepository.save(task);
+        statsService.onTaskChanged(before, TaskStatsSnapshot.of(task));
+        Long currentUserId = userService.getCurrentUserId();
 
         // Admin'e bildirim gönder
-        if (!userService.getCurrentUser().getId().equals(task.getCreatedBy().getId())) {
+        if (!currentUserId.equals(task.getCreatedBy().getId())) {
             notificationService.createNotification(
                 task.getCreatedBy(),  // Admin'e bildirim
                 task,
@@ -144,7 +236,7 @@ public class TaskService {
         }
 
         // Atanan kullanıcıya bildirim gönder
-        if (!userService.getCurrentUser().getId().equals(task.getAssignedUser().getId())) {
+        if (!currentUserId.equals(task.getAssignedUser().getId())) {
             notificationService.createNotification(
                 task.getAssignedUser(),  // Atanan kullanıcıya bildirim
                 task,
@@ -157,30 +249,46 @@ public class TaskService {
         log.info("Görev durumu güncellendi - ID: {}, Eski Durum: {}, Yeni Durum: {}", 
             id, oldStatus, newStatus);
 
-        return mapToResponse(task);
+        return TaskResponse.fromTask(task);
     }
 
+    @Transactional
     public void deleteTask(Long id) {
-        if (!taskRepository.existsById(id)) {
-            throw new RuntimeException("Görev bulunamadı");
+        Task task = taskRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Görev bulunamadı"));
+        statsService.onTaskChanged(TaskStatsSnapshot.of(task), null);
+        taskRepository.delete(task);
+        titleIndex.onTasksDeleted(List.of(id));
+    }
+
+    // Tekrarlanan terimler bir kez aranır
+    private List<String> searchTerms(String text) {
+        List<String> terms = TaskTitleIndex.words(text).stream()
+            .filter(term -> term.length() >= MIN_SEARCH_TERM_LENGTH)
+            .distinct()
+            .limit(MAX_SEARCH_TERMS)
+            .collect(Collectors.toList());
+        if (terms.isEmpty()) {
+            throw new IllegalArgumentException("Arama metni en az " + MIN_SEARCH_TERM_LENGTH + " karakterlik bir kelime içermelidir");
         }
-        taskRepository.deleteById(id);
+        return terms;
     }
 
-    private TaskResponse mapToResponse(Task task) {
-        return TaskResponse.builder()
-                .id(task.getId())
-                .title(task.getTitle())
-                .description(task.getDescription())
-                .dueDate(task.getDueDate())
-                .priority(task.getPriority())
-                .status(task.getStatus())
-                .assignedUser(task.getAssignedUser() != null ? task.getAssignedUser().getName() : null)
-                .assignedUserId(task.getAssignedUser() != null ? task.getAssignedUser().getId() : null)
-                .category(task.getCategory() != null ? task.getCategory().getName() : null)
-                .categoryId(task.getCategory() != null ? task.getCategory().getId() : null)
-                .createdAt(task.getCreatedAt())
-                .updatedAt(task.getUpdatedAt())
-                .build();
+    private int resolvePageSize(Integer size) {
+        if (size == null || size < 1) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+
+    private String cursorValue(TaskResponse task, TaskSortField sort) {
+        switch (sort) {
+            case CREATED_AT:
+                return task.getCreatedAt().toString();
+            case DUE_DATE:
+                return task.getDueDate() != null ? task.getDueDate().toString() : null;
+            default:
+                return null;
+        }
     }
-} 
\ No newline at end of file
+}
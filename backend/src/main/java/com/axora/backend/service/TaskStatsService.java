@@ -0,0 +1,194 @@
+package com.axora.backend.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.axora.backend.dto.task.TaskStatsSnapshot;
+import com.axora.backend.entity.StatsScope;
+import com.axora.backend.entity.TaskPriority;
+import com.axora.backend.entity.TaskStats;
+import com.axora.backend.entity.TaskStatsId;
+import com.axora.backend.entity.TaskStatus;
+import com.axora.backend.repository.TaskStatsRepository;
+import com.axora.backend.repository.TaskStatsRepository.StatsRow;
+import com.axora.backend.repository.TeamRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Kullanıcı, kategori ve takım başına görev sayaçları. Görev servisleri değişiklikten önceki ve
+ * sonraki durumu bildirir; fark aynı işlem içinde tek UPDATE ile sayaç satırlarına yazılır.
+ * Okuma tek satırdır. Gecikmiş sayısı gün dönümünde kendiliğinden değiştiğinden ve olası
+ * kaymaları düzeltmek için tüm satırlar her gece yeniden hesaplanır.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TaskStatsService {
+
+    private final TaskStatsRepository statsRepository;
+    private final TeamRepository teamRepository;
+
+    public TaskStats getStats(StatsScope scope, Long scopeId) {
+        TaskStatsId id = new TaskStatsId(scope, scopeId);
+        return statsRepository.findById(id).orElseGet(() -> initialize(id));
+    }
+
+    /**
+     * Görev değişikliğini sayaçlara yansıtır. Yeni görevde {@code before}, silinen görevde
+     * {@code after} boştur. Satırı henüz oluşturulmamış kapsamlar ilk okumada hesaplanacağı
+     * için atlanır.
+     */
+    @Transactional
+    public void onTaskChanged(TaskStatsSnapshot before, TaskStatsSnapshot after) {
+        onTasksChanged(before != null ? List.of(before) : List.of(), after != null ? List.of(after) : List.of());
+    }
+
+    // Toplu işlemlerde farklar birleştirilir; etkilenen her kapsam için tek UPDATE çalışır
+    @Transactional
+    public void onTasksChanged(Collection<TaskStatsSnapshot> before, Collection<TaskStatsSnapshot> after) {
+        LocalDate today = LocalDate.now();
+        Map<TaskStatsId, TaskStats> deltas = new LinkedHashMap<>();
+        // Üyelik aynı işlemde okunur; kullanıcı başına tek sorgu çalışır
+        Map<Long, List<Long>> teamIds = new HashMap<>();
+        before.forEach(snapshot -> accumulate(deltas, teamIds, snapshot, -1, today));
+        after.forEach(snapshot -> accumulate(deltas, teamIds, snapshot, 1, today));
+        deltas.values().stream()
+            .filter(delta -> !isEmpty(delta))
+            .forEach(delta -> statsRepository.adjust(delta.getId(), delta.getTodo(), delta.getInProgress(),
+                delta.getDone(), delta.getLowPriority(), delta.getMediumPriority(), delta.getHighPriority(),
+                delta.getOverdue()));
+    }
+
+    // Takım üyeliği değiştiğinde takımın satırı silinir; ilk okumada yeniden hesaplanır
+    @Transactional
+    public void evict(StatsScope scope, Long scopeId) {
+        TaskStatsId id = new TaskStatsId(scope, scopeId);
+        if (statsRepository.existsById(id)) {
+            statsRepository.deleteById(id);
+        }
+    }
+
+    /**
+     * Tüm sayaçları görev tablosundan yeniden hesaplar. Kapsam başına ilişkili tek UPDATE ile
+     * mevcut satırlar, tek INSERT ile eksik satırlar yazılır; değerler uygulamaya okunmadığı için
+     * arada commit olan artışların üzerine eski bir sayı yazılmaz. Görevi kalmayan kapsamların
+     * satırları silinir. Kümede tek düğümde çalıştırılmalıdır (zamanlayıcı kira alır).
+     */
+    @Transactional
+    public int reconcile() {
+        LocalDate today = LocalDate.now();
+        int updated = statsRepository.recountUsers(today)
+            + statsRepository.recountCategories(today)
+            + statsRepository.recountTeams(today);
+        int inserted = statsRepository.insertMissingUsers(today)
+            + statsRepository.insertMissingCategories(today)
+            + statsRepository.insertMissingTeams(today);
+        int deleted = statsRepository.deleteEmpty();
+
+        log.info("Görev istatistikleri eşitlendi - {} güncellenen, {} yeni, {} silinen kapsam",
+            updated, inserted, deleted);
+        return updated + inserted + deleted;
+    }
+
+    private TaskStats initialize(TaskStatsId id) {
+        LocalDate today = LocalDate.now();
+        Map<TaskStatsId, TaskStats> computed = new HashMap<>();
+        collect(computed, id.getScope(), findRows(id, today));
+        TaskStats stats = computed.getOrDefault(id, empty(id));
+        // Görevi olmayan kapsam için satır açılmaz
+        if (isEmpty(stats)) {
+            return stats;
+        }
+        try {
+            return statsRepository.save(stats);
+        } catch (DataIntegrityViolationException e) {
+            // Aynı anda başka bir istek oluşturdu
+            return statsRepository.findById(id).orElse(stats);
+        }
+    }
+
+    private List<StatsRow> findRows(TaskStatsId id, LocalDate today) {
+        switch (id.getScope()) {
+            case USER:
+                return statsRepository.findUserRows(id.getScopeId(), today);
+            case CATEGORY:
+                return statsRepository.findCategoryRows(id.getScopeId(), today);
+            case TEAM:
+                return statsRepository.findTeamRows(id.getScopeId(), today);
+            default:
+                throw new IllegalArgumentException("Bilinmeyen kapsam: " + id.getScope());
+        }
+    }
+
+    private void collect(Map<TaskStatsId, TaskStats> target, StatsScope scope, List<StatsRow> rows) {
+        rows.forEach(row -> add(target.computeIfAbsent(new TaskStatsId(scope, row.getScopeId()), this::empty),
+            row.getStatus(), row.getPriority(), row.getTotal(), row.getOverdue()));
+    }
+
+    private void accumulate(Map<TaskStatsId, TaskStats> deltas, Map<Long, List<Long>> teamIds,
+            TaskStatsSnapshot snapshot, int sign, LocalDate today) {
+        List<TaskStatsId> ids = new ArrayList<>();
+        if (snapshot.getUserId() != null) {
+            ids.add(new TaskStatsId(StatsScope.USER, snapshot.getUserId()));
+            teamIds.computeIfAbsent(snapshot.getUserId(), teamRepository::findTeamIdsByMemberId)
+                .forEach(teamId -> ids.add(new TaskStatsId(StatsScope.TEAM, teamId)));
+        }
+        if (snapshot.getCategoryId() != null) {
+            ids.add(new TaskStatsId(StatsScope.CATEGORY, snapshot.getCategoryId()));
+        }
+        long overdue = snapshot.isOverdue(today) ? sign : 0;
+        ids.forEach(id -> add(deltas.computeIfAbsent(id, this::empty),
+            snapshot.getStatus(), snapshot.getPriority(), sign, overdue));
+    }
+
+    private void add(TaskStats stats, TaskStatus status, TaskPriority priority, long count, long overdue) {
+        if (status != null) {
+            switch (status) {
+                case TODO:
+                    stats.setTodo(stats.getTodo() + count);
+                    break;
+                case IN_PROGRESS:
+                    stats.setInProgress(stats.getInProgress() + count);
+                    break;
+                case DONE:
+                    stats.setDone(stats.getDone() + count);
+                    break;
+            }
+        }
+        if (priority != null) {
+            switch (priority) {
+                case LOW:
+                    stats.setLowPriority(stats.getLowPriority() + count);
+                    break;
+                case MEDIUM:
+                    stats.setMediumPriority(stats.getMediumPriority() + count);
+                    break;
+                case HIGH:
+                    stats.setHighPriority(stats.getHighPriority() + count);
+                    break;
+            }
+        }
+        stats.setOverdue(stats.getOverdue() + overdue);
+    }
+
+    private TaskStats empty(TaskStatsId id) {
+        return TaskStats.builder().id(id).build();
+    }
+
+    private boolean isEmpty(TaskStats stats) {
+        return stats.getTodo() == 0 && stats.getInProgress() == 0 && stats.getDone() == 0
+            && stats.getLowPriority() == 0 && stats.getMediumPriority() == 0 && stats.getHighPriority() == 0
+            && stats.getOverdue() == 0;
+    }
+}
@@ -0,0 +1,399 @@
+package com.axora.backend.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.axora.backend.dto.task.TaskSuggestion;
+import com.axora.backend.entity.Task;
+import com.axora.backend.repository.TaskRepository;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Görev seçicinin yazdıkça önerileri için bellek içi başlık indeksi. Başlıktaki her kelime
+ * başına boşluk eklenerek üçlülere bölünür (" ra", "rap", "apo", ...); her üçlü, görevlerin
+ * sıra numaralarını artan düzende tutan bir int dizisine işaret eder. Sorgudaki her kelimenin
+ * üçlü listeleri kesiştirilir ve adaylar kelime başı eşleşmesiyle doğrulanır.
+ *
+ * <p>İndeks açılışta görev tablosundan parça parça yüklenir; görev servisleri değişiklikleri
+ * işlem commit olduktan sonra bildirir. Silinen ya da başlığı değişen görevin eski sıra
+ * numarası boş bırakılır ve her gece yapılan yeniden yüklemede temizlenir.
+ *
+ * <p>Diğer replikalardaki değişiklikler bu indekse yalnızca yeniden yüklemede yansır. Bu yüzden
+ * indeks aday seçer; dönen görevlerin güncel başlığı ve atananı tek sorguyla veritabanından
+ * okunup süzülür. Başka düğümde eklenen görev bir sonraki yüklemeye kadar önerilmez.
+ */
+@Component
+@Slf4j
+public class TaskTitleIndex {
+
+    public static final int DEFAULT_SUGGESTIONS = 10;
+    public static final int MAX_SUGGESTIONS = 50;
+    public static final int MIN_PREFIX_LENGTH = 2;
+    // Veritabanı kontrolünde elenen adaylar sonucu kısaltmasın diye limitin katı kadar aday alınır
+    private static final int CANDIDATE_FACTOR = 2;
+
+    private final TaskRepository taskRepository;
+    private final int chunkSize;
+    private final Timer rebuildTimer;
+    private final Timer lookupTimer;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // synchronized yerine: yükleme JDBC beklerken sanal thread taşıyıcıya sabitlenmez
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private Index index = new Index();
+    // Yeniden yükleme sürerken gelen değişiklikler yeni indekse de uygulanır
+    private List<Consumer<Index>> pending;
+
+    public TaskTitleIndex(
+            TaskRepository taskRepository,
+            MeterRegistry meterRegistry,
+            @Value("${suggest.index.chunk-size:5000}") int chunkSize) {
+        this.taskRepository = taskRepository;
+        this.chunkSize = chunkSize;
+
+        Gauge.builder("task.suggest.index.entries", this, self -> self.read(Index::liveCount))
+            .description("İndeksteki görev sayısı")
+            .register(meterRegistry);
+        Gauge.builder("task.suggest.index.tombstones", this, self -> self.read(Index::deadCount))
+            .description("Bir sonraki yeniden yüklemede temizlenecek boş sıra numaraları")
+            .register(meterRegistry);
+        Gauge.builder("task.suggest.index.memory", this, self -> self.read(Index::estimateBytes))
+            .description("İndeksin yaklaşık bellek kullanımı")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+        this.rebuildTimer = meterRegistry.timer("task.suggest.index.rebuild");
+        this.lookupTimer = meterRegistry.timer("task.suggest.lookup");
+    }
+
+    // Hazır olay dinleyicileri bitmeden uygulama trafik almaya hazır sayılmaz
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * İndeksi görev tablosundan yeniden oluşturur. Yükleme mevcut indeksi kilitlemeden yapılır;
+     * bu sırada gelen değişiklikler sonunda yeni indekse de uygulanıp indeksler değiştirilir.
+     */
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            rebuildIndex();
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private void rebuildIndex() {
+        long start = System.nanoTime();
+        write(current -> pending = new ArrayList<>());
+
+        Index fresh = new Index();
+        try {
+            long lastId = 0;
+            List<TaskSuggestion> chunk;
+            do {
+                chunk = taskRepository.findSuggestionChunk(lastId, PageRequest.of(0, chunkSize));
+                chunk.forEach(fresh::put);
+                if (!chunk.isEmpty()) {
+                    lastId = chunk.get(chunk.size() - 1).getId();
+                }
+            } while (chunk.size() == chunkSize);
+        } catch (RuntimeException e) {
+            write(current -> pending = null);
+            throw e;
+        }
+
+        write(current -> {
+            pending.forEach(change -> change.accept(fresh));
+            pending = null;
+            index = fresh;
+        });
+        long elapsed = System.nanoTime() - start;
+        rebuildTimer.record(elapsed, TimeUnit.NANOSECONDS);
+        log.info("Görev öneri indeksi yüklendi - {} görev, {} ms, yaklaşık {} KB", fresh.liveCount(),
+            TimeUnit.NANOSECONDS.toMillis(elapsed), fresh.estimateBytes() / 1024);
+    }
+
+    /**
+     * Başlıklarında sorgudaki her kelimeyle başlayan bir kelime geçen görevler; son eklenen ya
+     * da değişen görevler önce gelir. {@code assignedUserId} verilirse yalnızca o kullanıcıya
+     * atanmış görevler döner. Atanan ve başlık veritabanındaki güncel değerle kontrol edilir.
+     */
+    public List<TaskSuggestion> suggest(String text, Long assignedUserId, int limit) {
+        List<String> prefixes = words(text).stream()
+            .filter(word -> word.length() >= MIN_PREFIX_LENGTH)
+            .distinct()
+            .collect(Collectors.toList());
+        if (prefixes.isEmpty()) {
+            return List.of();
+        }
+        List<TaskSuggestion> candidates = lookupTimer.record(
+            () -> read(current -> current.find(prefixes, assignedUserId, limit * CANDIDATE_FACTOR)));
+        if (candidates.isEmpty()) {
+            return candidates;
+        }
+
+        Map<Long, TaskSuggestion> stored = taskRepository.findSuggestionsByIdIn(
+                candidates.stream().map(TaskSuggestion::getId).collect(Collectors.toList())).stream()
+            .collect(Collectors.toMap(TaskSuggestion::getId, Function.identity()));
+        return candidates.stream()
+            .map(candidate -> stored.get(candidate.getId()))
+            .filter(Objects::nonNull)
+            .filter(suggestion -> assignedUserId == null || assignedUserId.equals(suggestion.getAssignedUserId()))
+            .filter(suggestion -> suggestion.getTitle() != null && matchesPrefixes(suggestion.getTitle(), prefixes))
+            .limit(limit)
+            .collect(Collectors.toList());
+    }
+
+    public void onTaskSaved(Task task) {
+        TaskSuggestion entry = entryOf(task);
+        afterCommit(current -> current.put(entry));
+    }
+
+    public void onTasksSaved(Collection<Task> tasks) {
+        List<TaskSuggestion> entries = tasks.stream().map(this::entryOf).collect(Collectors.toList());
+        afterCommit(current -> entries.forEach(current::put));
+    }
+
+    public void onTasksDeleted(Collection<Long> taskIds) {
+        List<Long> ids = List.copyOf(taskIds);
+        afterCommit(current -> ids.forEach(current::remove));
+    }
+
+    // Harf ve rakam dışındaki karakterler ayraçtır
+    static List<String> words(String text) {
+        // "İ" kök yerelde noktalı birleşik karaktere dönüşüp kelimeyi bölmesin diye önce çevrilir
+        String normalized = text != null ? text.replace('İ', 'i').toLowerCase(Locale.ROOT) : "";
+        return Arrays.stream(normalized.split("[^\\p{L}\\p{N}]+"))
+            .filter(word -> !word.isEmpty())
+            .collect(Collectors.toList());
+    }
+
+    // Üçlüler sıralı olmadığından her sorgu kelimesi bir başlık kelimesinin başı olmalıdır
+    private static boolean matchesPrefixes(String title, List<String> prefixes) {
+        List<String> titleWords = words(title);
+        return prefixes.stream().allMatch(prefix -> titleWords.stream().anyMatch(word -> word.startsWith(prefix)));
+    }
+
+    private TaskSuggestion entryOf(Task task) {
+        return new TaskSuggestion(task.getId(), task.getTitle(),
+            task.getAssignedUser() != null ? task.getAssignedUser().getId() : null);
+    }
+
+    // Geri alınan işlemin değişikliği indekse yansımaz
+    private void afterCommit(Consumer<Index> change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(change);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(change);
+            }
+        });
+    }
+
+    private void apply(Consumer<Index> change) {
+        write(current -> {
+            change.accept(current);
+            if (pending != null) {
+                pending.add(change);
+            }
+        });
+    }
+
+    private <T> T read(Function<Index, T> reader) {
+        lock.readLock().lock();
+        try {
+            return reader.apply(index);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void write(Consumer<Index> writer) {
+        lock.writeLock().lock();
+        try {
+            writer.accept(index);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static final class Index {
+
+        private static final int INITIAL_CAPACITY = 1024;
+
+        private final Map<Long, Integer> ordinals = new HashMap<>();
+        private final Map<Long, Postings> postings = new HashMap<>();
+        private long[] taskIds = new long[INITIAL_CAPACITY];
+        // 0: atanmamış
+        private long[] assignees = new long[INITIAL_CAPACITY];
+        private String[] titles = new String[INITIAL_CAPACITY];
+        private int size;
+        private int live;
+        private long titleBytes;
+        private long postingSlots;
+
+        void put(TaskSuggestion entry) {
+            Integer existing = ordinals.get(entry.getId());
+            if (existing != null) {
+                // Yalnızca atanan değiştiyse üçlüler aynı kalır
+                if (Objects.equals(titles[existing], entry.getTitle())) {
+                    assignees[existing] = assignee(entry.getAssignedUserId());
+                    return;
+                }
+                remove(entry.getId());
+            }
+            if (entry.getTitle() == null) {
+                return;
+            }
+
+            if (size == taskIds.length) {
+                int capacity = size * 2;
+                taskIds = Arrays.copyOf(taskIds, capacity);
+                assignees = Arrays.copyOf(assignees, capacity);
+                titles = Arrays.copyOf(titles, capacity);
+            }
+            int ordinal = size++;
+            taskIds[ordinal] = entry.getId();
+            assignees[ordinal] = assignee(entry.getAssignedUserId());
+            titles[ordinal] = entry.getTitle();
+            titleBytes += stringBytes(entry.getTitle());
+            ordinals.put(entry.getId(), ordinal);
+            live++;
+
+            for (String word : words(entry.getTitle())) {
+                String padded = " " + word;
+                for (int i = 0; i + 3 <= padded.length(); i++) {
+                    Postings list = postings.computeIfAbsent(trigram(padded, i), key -> new Postings());
+                    postingSlots += list.add(ordinal);
+                }
+            }
+        }
+
+        void remove(Long taskId) {
+            Integer ordinal = ordinals.remove(taskId);
+            if (ordinal != null) {
+                titleBytes -= stringBytes(titles[ordinal]);
+                titles[ordinal] = null;
+                live--;
+            }
+        }
+
+        List<TaskSuggestion> find(List<String> prefixes, Long assignedUserId, int limit) {
+            List<Postings> lists = new ArrayList<>();
+            for (String prefix : prefixes) {
+                String padded = " " + prefix;
+                for (int i = 0; i + 3 <= padded.length(); i++) {
+                    Postings list = postings.get(trigram(padded, i));
+                    if (list == null) {
+                        return List.of();
+                    }
+                    lists.add(list);
+                }
+            }
+            lists.sort(Comparator.comparingInt(list -> list.size));
+
+            Postings smallest = lists.get(0);
+            List<TaskSuggestion> result = new ArrayList<>();
+            for (int i = smallest.size - 1; i >= 0 && result.size() < limit; i--) {
+                int ordinal = smallest.values[i];
+                String title = titles[ordinal];
+                if (title == null
+                        || (assignedUserId != null && assignees[ordinal] != assignedUserId)
+                        || !containsAll(lists, ordinal)
+                        || !matchesPrefixes(title, prefixes)) {
+                    continue;
+                }
+                long assignee = assignees[ordinal];
+                result.add(new TaskSuggestion(taskIds[ordinal], title, assignee != 0 ? assignee : null));
+            }
+            return result;
+        }
+
+        int liveCount() {
+            return live;
+        }
+
+        int deadCount() {
+            return size - live;
+        }
+
+        // Yaklaşık: diziler, başlıklar ve map girdileri (girdi ile kutulu anahtar/değer ~64 bayt)
+        long estimateBytes() {
+            return taskIds.length * 8L + assignees.length * 8L + titles.length * 4L + titleBytes
+                + ordinals.size() * 64L + postings.size() * 104L + postingSlots * 4L;
+        }
+
+        private boolean containsAll(List<Postings> lists, int ordinal) {
+            for (int i = 1; i < lists.size(); i++) {
+                Postings list = lists.get(i);
+                if (Arrays.binarySearch(list.values, 0, list.size, ordinal) < 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static long trigram(String text, int start) {
+            return ((long) text.charAt(start) << 32) | ((long) text.charAt(start + 1) << 16) | text.charAt(start + 2);
+        }
+
+        private static long assignee(Long userId) {
+            return userId != null ? userId : 0;
+        }
+
+        private static long stringBytes(String text) {
+            return 40 + text.length() * 2L;
+        }
+    }
+
+    // Artan sıra numaraları; aynı başlıktaki tekrar eden üçlü bir kez eklenir
+    private static final class Postings {
+
+        private int[] values = new int[4];
+        private int size;
+
+        // Eklenen dizi kapasitesini döner
+        int add(int ordinal) {
+            if (size > 0 && values[size - 1] == ordinal) {
+                return 0;
+            }
+            int grown = 0;
+            if (size == values.length) {
+                grown = values.length;
+                values = Arrays.copyOf(values, values.length * 2);
+            }
+            values[size++] = ordinal;
+            return grown;
+        }
+    }
+}
@@ -1,14 +1,21 @@
 package com.axora.backend.service;
 
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.axora.backend.config.CacheConfig;
 import com.axora.backend.dto.team.TeamRequest;
 import com.axora.backend.dto.team.TeamResponse;
+import com.axora.backend.dto.team.TeamSummaryResponse;
 import com.axora.backend.dto.user.UserResponse;
+import com.axora.backend.entity.StatsScope;
 import com.axora.backend.entity.Team;
 import com.axora.backend.entity.User;
 import com.axora.backend.repository.TeamRepository;
@@ -22,7 +29,10 @@ public class TeamService {
 
     private final TeamRepository teamRepository;
     private final UserRepository userRepository;
+    private final TaskStatsService statsService;
 
+    @CacheEvict(cacheNames = CacheConfig.TEAMS, allEntries = true)
+    @Transactional
     public TeamResponse createTeam(TeamRequest request) {
         Team team = Team.builder()
                 .name(request.getName())
@@ -31,55 +41,118 @@ public class TeamService {
                 .build();
 
         if (request.getMemberIds() != null && !request.getMemberIds().isEmpty()) {
-            Set<User> members = request.getMemberIds().stream()
-                    .map(id -> userRepository.findById(id)
-                            .orElseThrow(() -> new RuntimeException("Kullanıcı bulunamadı: " + id)))
-                    .collect(Collectors.toSet());
-            team.setMembers(members);
+            team.getMembers().addAll(findUsers(request.getMemberIds()));
         }
 
         Team savedTeam = teamRepository.save(team);
         return mapToResponse(savedTeam);
     }
 
+    @Cacheable(CacheConfig.TEAMS)
+    @Transactional(readOnly = true)
     public List<TeamResponse> getAllTeams() {
         return teamRepository.findAll().stream()
                 .map(this::mapToResponse)
-                .collect(Collectors.toList());
+                .toList();
     }
 
+    @Transactional(readOnly = true)
     public TeamResponse getTeamById(Long id) {
-        Team team = teamRepository.findById(id)
+        Team team = teamRepository.findWithMembersById(id)
                 .orElseThrow(() -> new RuntimeException("Takım bulunamadı"));
         return mapToResponse(team);
     }
 
+    /**
+     * Takım bazlı yetki kontrolü. team_members(user_id, team_id) indeksinden tek satır okunur;
+     * düğüme özel bir önbellek tutulmadığı için başka düğümde değişen üyelik hemen geçerlidir.
+     */
+    @Transactional(readOnly = true)
+    public boolean isMember(Long userId, Long teamId) {
+        return teamRepository.existsActiveMembership(teamId, userId);
+    }
+
+    @Transactional(readOnly = true)
+    public List<TeamSummaryResponse> getTeamsOfUser(Long userId) {
+        return teamRepository.findSummariesByMemberId(userId);
+    }
+
+    @CacheEvict(cacheNames = CacheConfig.TEAMS, allEntries = true)
+    @Transactional
     public TeamResponse updateTeam(Long id, TeamRequest request) {
-        Team team = teamRepository.findById(id)
+        Team team = teamRepository.findWithMembersById(id)
                 .orElseThrow(() -> new RuntimeException("Takım bulunamadı"));
 
         team.setName(request.getName());
         team.setDescription(request.getDescription());
 
         if (request.getMemberIds() != null) {
-            Set<User> members = request.getMemberIds().stream()
-                    .map(memberId -> userRepository.findById(memberId)
-                            .orElseThrow(() -> new RuntimeException("Kullanıcı bulunamadı: " + memberId)))
-                    .collect(Collectors.toSet());
-            team.setMembers(members);
+            Set<Long> changedIds = updateMembers(team, request.getMemberIds());
+            // Takım sayaçları üyelerin görevlerinden oluştuğu için yeniden hesaplanır
+            if (!changedIds.isEmpty()) {
+                statsService.evict(StatsScope.TEAM, id);
+            }
         }
 
         Team updatedTeam = teamRepository.save(team);
         return mapToResponse(updatedTeam);
     }
 
+    @CacheEvict(cacheNames = CacheConfig.TEAMS, allEntries = true)
+    @Transactional
     public void deleteTeam(Long id) {
         if (!teamRepository.existsById(id)) {
             throw new RuntimeException("Takım bulunamadı");
         }
+        statsService.evict(StatsScope.TEAM, id);
         teamRepository.deleteById(id);
     }
 
+    /**
+     * Üyelik koleksiyonunu yerinde günceller. Koleksiyon değiştirilmediği için Hibernate
+     * join tablosunu baştan yazmaz; yalnızca çıkarılan ve eklenen üyeler için satır siler/ekler.
+     * Üyeliği değişen kullanıcıların id'lerini döner.
+     */
+    private Set<Long> updateMembers(Team team, Set<Long> memberIds) {
+        Set<Long> changedIds = new HashSet<>();
+        team.getMembers().removeIf(member -> {
+            boolean removed = !memberIds.contains(member.getId());
+            if (removed) {
+                changedIds.add(member.getId());
+            }
+            return removed;
+        });
+
+        Set<Long> currentIds = team.getMembers().stream()
+                .map(User::getId)
+                .collect(Collectors.toSet());
+        Set<Long> addedIds = memberIds.stream()
+                .filter(memberId -> !currentIds.contains(memberId))
+                .collect(Collectors.toSet());
+        if (!addedIds.isEmpty()) {
+            team.getMembers().addAll(findUsers(addedIds));
+            changedIds.addAll(addedIds);
+        }
+        return changedIds;
+    }
+
+    // Tüm kullanıcıları tek sorguda yükler, bulunamayan id'leri hata mesajında listeler
+    private List<User> findUsers(Set<Long> userIds) {
+        List<User> users = userRepository.findAllById(userIds);
+        if (users.size() != userIds.size()) {
+            Set<Long> foundIds = users.stream()
+                    .map(User::getId)
+                    .collect(Collectors.toSet());
+            String missingIds = userIds.stream()
+                    .filter(userId -> !foundIds.contains(userId))
+                    .sorted()
+                    .map(String::valueOf)
+                    .collect(Collectors.joining(", "));
+            throw new RuntimeException("Kullanıcı bulunamadı: " + missingIds);
+        }
+        return users;
+    }
+
     private TeamResponse mapToResponse(Team team) {
         return TeamResponse.builder()
                 .id(team.getId())
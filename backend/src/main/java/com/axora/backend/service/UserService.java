@@ -1,20 +1,28 @@
 package com.axora.backend.service;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
+import com.axora.backend.config.CacheConfig;
 import com.axora.backend.dto.user.ChangePasswordRequest;
 import com.axora.backend.dto.user.UserRequest;
 import com.axora.backend.dto.user.UserResponse;
+import com.axora.backend.entity.Role;
 import com.axora.backend.entity.User;
 import com.axora.backend.repository.UserRepository;
+import com.axora.backend.security.AuthenticatedUser;
+import com.axora.backend.security.PrincipalCache;
 
 import lombok.RequiredArgsConstructor;
 
@@ -22,8 +30,12 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class UserService implements UserDetailsService {
 
+    // Çözülen kullanıcının istek boyunca tutulduğu öznitelik
+    private static final String CURRENT_USER_ATTRIBUTE = UserService.class.getName() + ".CURRENT_USER";
+
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final PrincipalCache principalCache;
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
@@ -31,10 +43,11 @@ public class UserService implements UserDetailsService {
                 .orElseThrow(() -> new UsernameNotFoundException("Kullanıcı bulunamadı: " + username));
     }
 
+    @Cacheable(CacheConfig.USERS)
     public List<UserResponse> getAllUsers() {
         return userRepository.findAll().stream()
                 .map(this::mapToResponse)
-                .collect(Collectors.toList());
+                .toList();
     }
 
     public UserResponse getUserById(Long id) {
@@ -43,6 +56,7 @@ public class UserService implements UserDetailsService {
         return mapToResponse(user);
     }
 
+    @CacheEvict(cacheNames = CacheConfig.USERS, allEntries = true)
     public UserResponse createUser(UserRequest request) {
         User user = User.builder()
                 .name(request.getName())
@@ -55,6 +69,8 @@ public class UserService implements UserDetailsService {
         return mapToResponse(userRepository.save(user));
     }
 
+    // Takım yanıtları üye bilgilerini içerdiği için takım önbelleği de düşürülür
+    @CacheEvict(cacheNames = {CacheConfig.USERS, CacheConfig.TEAMS}, allEntries = true)
     public UserResponse updateUser(Long id, UserRequest request) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Kullanıcı bulunamadı"));
@@ -67,19 +83,64 @@ public class UserService implements UserDetailsService {
         user.setRole(request.getRole());
         user.setActive(request.isActive());
 
-        return mapToResponse(userRepository.save(user));
+        UserResponse response = mapToResponse(userRepository.save(user));
+        principalCache.evict(id);
+        return response;
     }
 
+    @CacheEvict(cacheNames = {CacheConfig.USERS, CacheConfig.TEAMS}, allEntries = true)
     public void deleteUser(Long id) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Kullanıcı bulunamadı"));
         user.setActive(false);
         userRepository.save(user);
+        principalCache.evict(id);
+    }
+
+    /**
+     * Oturumdaki kullanıcının id'si. JWT filtresinin SecurityContext'e koyduğu principal
+     * kullanıldığı için veritabanına gidilmez.
+     */
+    public Long getCurrentUserId() {
+        if (SecurityContextHolder.getContext().getAuthentication().getPrincipal() instanceof AuthenticatedUser principal) {
+            return principal.getId();
+        }
+        return getCurrentUser().getId();
+    }
+
+    // Rol de principal'dan okunur
+    public boolean isCurrentUserAdmin() {
+        if (SecurityContextHolder.getContext().getAuthentication().getPrincipal() instanceof AuthenticatedUser principal) {
+            return principal.getRole() == Role.ROLE_ADMIN;
+        }
+        return getCurrentUser().getRole() == Role.ROLE_ADMIN;
     }
 
+    /**
+     * Oturumdaki kullanıcı entity'si. İstek başına bir kez yüklenir ve istek özniteliğinde
+     * tutulur; aynı istekteki sonraki çağrılar sorgu çalıştırmaz.
+     */
     public User getCurrentUser() {
-        String email = SecurityContextHolder.getContext().getAuthentication().getName();
-        return userRepository.findByEmail(email)
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null
+                && attributes.getAttribute(CURRENT_USER_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) instanceof User user) {
+            return user;
+        }
+
+        User user = loadCurrentUser();
+        if (attributes != null) {
+            attributes.setAttribute(CURRENT_USER_ATTRIBUTE, user, RequestAttributes.SCOPE_REQUEST);
+        }
+        return user;
+    }
+
+    private User loadCurrentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication.getPrincipal() instanceof AuthenticatedUser principal) {
+            return userRepository.findById(principal.getId())
+                    .orElseThrow(() -> new RuntimeException("Kullanıcı bulunamadı"));
+        }
+        return userRepository.findByEmail(authentication.getName())
                 .orElseThrow(() -> new RuntimeException("Kullanıcı bulunamadı"));
     }
 
@@ -88,6 +149,7 @@ public class UserService implements UserDetailsService {
         return mapToResponse(getCurrentUser());
     }
 
+    @CacheEvict(cacheNames = {CacheConfig.USERS, CacheConfig.TEAMS}, allEntries = true)
     public UserResponse updateCurrentUserProfile(UserRequest request) {
         User currentUser = getCurrentUser();
         
@@ -100,7 +162,9 @@ public class UserService implements UserDetailsService {
         currentUser.setName(request.getName());
         currentUser.setEmail(request.getEmail());
 
-        return mapToResponse(userRepository.save(currentUser));
+        UserResponse response = mapToResponse(userRepository.save(currentUser));
+        principalCache.evict(currentUser.getId());
+        return response;
     }
 
     public void changePassword(ChangePasswordRequest request) {
@@ -0,0 +1,16 @@
+-- Görev ve yorum araması için tam metin kolonları ve GIN indeksleri.
+-- Kolonlar veritabanı tarafından her yazmada yeniden hesaplanır; betik her açılışta güvenle çalıştırılabilir.
+-- 'simple' yapılandırması kök bulma yapmaz; Türkçe ve İngilizce karışık metinde önek araması tutarlı kalır.
+
+ALTER TABLE tasks ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', coalesce(title, '')), 'A') ||
+        setweight(to_tsvector('simple', coalesce(description, '')), 'B')
+    ) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_tasks_search_vector ON tasks USING GIN (search_vector);
+
+ALTER TABLE task_comments ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (to_tsvector('simple', coalesce(content, ''))) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_task_comments_search_vector ON task_comments USING GIN (search_vector);
@@ -0,0 +1,12 @@
+-- Id sequence'lerini tablodaki en büyük id'nin ötesine taşır (IDENTITY'den geçiş, dışarıdan toplu yükleme).
+-- Hibernate'in pooled optimizer'ı sequence değerini 50'lik bloğun üst sınırı sayar; Hibernate'in verdiği id'ler
+-- son değeri geçemez. Geçen bir id varsa sonraki blok onun üzerinden başlar, aksi halde sequence'e dokunulmaz.
+
+SELECT setval('tasks_seq', (SELECT MAX(id) + 50 FROM tasks))
+WHERE (SELECT MAX(id) FROM tasks) > (SELECT last_value FROM tasks_seq);
+
+SELECT setval('task_comments_seq', (SELECT MAX(id) + 50 FROM task_comments))
+WHERE (SELECT MAX(id) FROM task_comments) > (SELECT last_value FROM task_comments_seq);
+
+SELECT setval('notifications_seq', (SELECT MAX(id) + 50 FROM notifications))
+WHERE (SELECT MAX(id) FROM notifications) > (SELECT last_value FROM notifications_seq);
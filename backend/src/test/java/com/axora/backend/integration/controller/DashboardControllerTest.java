@@ -0,0 +1,85 @@
+package com.axora.backend.integration.controller;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.axora.backend.controller.DashboardController;
+import com.axora.backend.dto.dashboard.AdminDashboardResponse;
+import com.axora.backend.dto.dashboard.UserDashboardResponse;
+import com.axora.backend.dto.user.UserSummary;
+import com.axora.backend.entity.TaskStatus;
+import com.axora.backend.security.JwtAuthenticationFilter;
+import com.axora.backend.security.JwtService;
+import com.axora.backend.service.DashboardService;
+import com.axora.backend.service.UserService;
+
+@WebMvcTest(DashboardController.class)
+@AutoConfigureMockMvc(addFilters = false)
+class DashboardControllerTest {
+
+    @MockBean
+    private DashboardService dashboardService;
+
+    @MockBean
+    private UserService userService;
+
+    @MockBean
+    private JwtAuthenticationFilter jwtAuthFilter;
+
+    @MockBean
+    private JwtService jwtService;
+
+    @MockBean
+    private AuthenticationProvider authenticationProvider;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void getAdminDashboard_ShouldReturnAggregates() throws Exception {
+        // Given
+        when(dashboardService.getAdminDashboard()).thenReturn(AdminDashboardResponse.builder()
+            .totalUsers(10)
+            .activeTasks(7)
+            .tasksByStatus(Map.of(TaskStatus.TODO, 4L))
+            .recentUsers(List.of(UserSummary.builder().id(1L).name("New User").build()))
+            .build());
+
+        // When & Then
+        mockMvc.perform(get("/api/dashboard/admin"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.totalUsers").value(10))
+            .andExpect(jsonPath("$.activeTasks").value(7))
+            .andExpect(jsonPath("$.tasksByStatus.TODO").value(4))
+            .andExpect(jsonPath("$.recentUsers[0].name").value("New User"));
+    }
+
+    @Test
+    void getMyDashboard_ShouldUseCurrentUserId() throws Exception {
+        // Given
+        when(userService.getCurrentUserId()).thenReturn(1L);
+        when(dashboardService.getUserDashboard(1L)).thenReturn(UserDashboardResponse.builder()
+            .activeTasks(2)
+            .overdueTasks(1)
+            .build());
+
+        // When & Then
+        mockMvc.perform(get("/api/dashboard/me"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.activeTasks").value(2))
+            .andExpect(jsonPath("$.overdueTasks").value(1));
+    }
+}
@@ -4,6 +4,9 @@ import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.never;
+import static org.mockito.ArgumentMatchers.any;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
@@ -17,18 +20,17 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.http.MediaType;
 
+import com.axora.backend.dto.common.CursorPage;
 import com.axora.backend.dto.notification.NotificationResponse;
 import com.axora.backend.entity.NotificationType;
 import com.axora.backend.service.NotificationService;
 import com.axora.backend.service.UserService;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.axora.backend.entity.Notification;
 import com.axora.backend.entity.User;
 import com.axora.backend.controller.NotificationController;
 import com.axora.backend.security.JwtAuthenticationFilter;
 import com.axora.backend.security.JwtService;
 import org.springframework.security.authentication.AuthenticationProvider;
-import com.axora.backend.entity.Task;
 
 @WebMvcTest(NotificationController.class)
 @AutoConfigureMockMvc(addFilters = false)
@@ -59,27 +61,48 @@ class NotificationControllerTest {
     void getNotifications_ShouldReturnListOfNotifications() throws Exception {
         // Given
         User currentUser = User.builder().id(1L).build();
-        List<Notification> notifications = Arrays.asList(createNotification());
         List<NotificationResponse> responses = Arrays.asList(createNotificationResponse());
 
-        when(userService.getCurrentUser()).thenReturn(currentUser);
-        when(notificationService.getUserNotifications(1L)).thenReturn(notifications);
-        when(notificationService.mapToResponseList(notifications)).thenReturn(responses);
+        when(userService.getCurrentUserId()).thenReturn(currentUser.getId());
+        when(notificationService.getNotificationFeed(1L, null, null, null))
+            .thenReturn(new CursorPage<>(responses, null));
 
         // When & Then
         mockMvc.perform(get("/api/notifications")
                 .contentType(MediaType.APPLICATION_JSON))
             .andExpect(status().isOk())
+            .andExpect(header().doesNotExist(CursorPage.NEXT_CURSOR_HEADER))
             .andExpect(jsonPath("$[0].id").value(1))
             .andExpect(jsonPath("$[0].title").value("Test Notification"))
             .andExpect(jsonPath("$[0].message").value("Test Message"));
     }
 
+    @Test
+    void getNotifications_ShouldPassCursorAndTypeAndExposeNextCursor() throws Exception {
+        // Given
+        User currentUser = User.builder().id(1L).build();
+        List<NotificationResponse> responses = Arrays.asList(createNotificationResponse());
+
+        when(userService.getCurrentUserId()).thenReturn(currentUser.getId());
+        when(notificationService.getNotificationFeed(1L, "abc", 10, NotificationType.TASK_ASSIGNED))
+            .thenReturn(new CursorPage<>(responses, "next"));
+
+        // When & Then
+        mockMvc.perform(get("/api/notifications")
+                .param("before", "abc")
+                .param("limit", "10")
+                .param("type", "TASK_ASSIGNED")
+                .contentType(MediaType.APPLICATION_JSON))
+            .andExpect(status().isOk())
+            .andExpect(header().string(CursorPage.NEXT_CURSOR_HEADER, "next"))
+            .andExpect(jsonPath("$[0].id").value(1));
+    }
+
     @Test
     void getUnreadCount_ShouldReturnCount() throws Exception {
         // Given
         User currentUser = User.builder().id(1L).build();
-        when(userService.getCurrentUser()).thenReturn(currentUser);
+        when(userService.getCurrentUserId()).thenReturn(currentUser.getId());
         when(notificationService.getUnreadCount(1L)).thenReturn(5L);
 
         // When & Then
@@ -104,7 +127,7 @@ class NotificationControllerTest {
     void markAllAsRead_ShouldReturnOk() throws Exception {
         // Given
         User currentUser = User.builder().id(1L).build();
-        when(userService.getCurrentUser()).thenReturn(currentUser);
+        when(userService.getCurrentUserId()).thenReturn(currentUser.getId());
         doNothing().when(notificationService).markAllAsRead(1L);
 
         // When & Then
@@ -113,10 +136,43 @@ class NotificationControllerTest {
             .andExpect(status().isOk());
     }
 
+    @Test
+    void markAllAsRead_ShouldMarkUpToGivenNotification() throws Exception {
+        // Given
+        User currentUser = User.builder().id(1L).build();
+        LocalDateTime seenAt = LocalDateTime.of(2025, 1, 1, 9, 0, 0, 123456000);
+        when(userService.getCurrentUserId()).thenReturn(currentUser.getId());
+        doNothing().when(notificationService).markAllAsReadUpTo(1L, seenAt, 42L);
+
+        // When & Then
+        mockMvc.perform(patch("/api/notifications/read-all")
+                .param("upToCreatedAt", "2025-01-01T09:00:00.123456")
+                .param("upToId", "42")
+                .contentType(MediaType.APPLICATION_JSON))
+            .andExpect(status().isOk());
+
+        verify(notificationService).markAllAsReadUpTo(1L, seenAt, 42L);
+    }
+
+    @Test
+    void markAllAsRead_ShouldRejectIdWithoutCreatedAt() throws Exception {
+        // Given
+        when(userService.getCurrentUserId()).thenReturn(1L);
+
+        // When & Then
+        mockMvc.perform(patch("/api/notifications/read-all")
+                .param("upToId", "42")
+                .contentType(MediaType.APPLICATION_JSON))
+            .andExpect(status().isBadRequest());
+
+        verify(notificationService, never()).markAllAsRead(any());
+        verify(notificationService, never()).markAllAsReadUpTo(any(), any(), any());
+    }
+
     @Test
     void getNotifications_ShouldReturnError_WhenUserNotFound() throws Exception {
         // Given
-        when(userService.getCurrentUser())
+        when(userService.getCurrentUserId())
             .thenThrow(new RuntimeException("Kullanıcı bulunamadı"));
 
         // When & Then
@@ -126,18 +182,6 @@ class NotificationControllerTest {
             .andExpect(jsonPath("$.message").value("Kullanıcı bulunamadı"));
     }
 
-    private Notification createNotification() {
-        return Notification.builder()
-            .id(1L)
-            .title("Test Notification")
-            .message("Test Message")
-            .type(NotificationType.TASK_ASSIGNED)
-            .task(Task.builder().id(1L).build())
-            .read(false)
-            .createdAt(LocalDateTime.now())
-            .build();
-    }
-
     private NotificationResponse createNotificationResponse() {
         return NotificationResponse.builder()
             .id(1L)
@@ -23,6 +23,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import com.axora.backend.controller.TaskCommentController;
 import com.axora.backend.dto.comment.CommentRequest;
 import com.axora.backend.dto.comment.CommentResponse;
+import com.axora.backend.dto.common.CursorPage;
 import com.axora.backend.service.TaskCommentService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.axora.backend.security.JwtAuthenticationFilter;
@@ -75,12 +76,15 @@ class TaskCommentControllerTest {
             createCommentResponse(1L),
             createCommentResponse(2L)
         );
-        when(commentService.getTaskComments(1L)).thenReturn(comments);
+        when(commentService.getTaskComments(1L, "abc", 2)).thenReturn(new CursorPage<>(comments, "next"));
 
         // When & Then
         mockMvc.perform(get("/tasks/1/comments")
+                .param("cursor", "abc")
+                .param("size", "2")
                 .contentType(MediaType.APPLICATION_JSON))
             .andExpect(status().isOk())
+            .andExpect(header().string(CursorPage.NEXT_CURSOR_HEADER, "next"))
             .andExpect(jsonPath("$", hasSize(2)))
             .andExpect(jsonPath("$[0].id").value(1))
             .andExpect(jsonPath("$[1].id").value(2));
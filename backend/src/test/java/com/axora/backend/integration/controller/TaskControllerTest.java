@@ -8,25 +8,37 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.verify;
+import static org.assertj.core.api.Assertions.assertThat;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 
+import com.axora.backend.dto.common.CursorPage;
+import com.axora.backend.dto.task.BulkTaskResponse;
+import com.axora.backend.dto.task.BulkTaskStatusRequest;
+import com.axora.backend.dto.task.TaskFilterRequest;
 import com.axora.backend.dto.task.TaskRequest;
+import com.axora.backend.dto.task.TaskSortField;
 import com.axora.backend.dto.task.TaskStatusUpdateRequest;
+import com.axora.backend.dto.task.TaskSuggestion;
 import com.axora.backend.dto.task.TaskResponse;
 import com.axora.backend.entity.TaskPriority;
 import com.axora.backend.entity.TaskStatus;
+import com.axora.backend.service.BulkTaskService;
 import com.axora.backend.service.TaskService;
 import com.axora.backend.controller.TaskController;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -41,6 +53,9 @@ class TaskControllerTest {
     @MockBean
     private TaskService taskService;
 
+    @MockBean
+    private BulkTaskService bulkTaskService;
+
     @MockBean
     private JwtAuthenticationFilter jwtAuthFilter;
 
@@ -63,17 +78,85 @@ class TaskControllerTest {
             createTaskResponse(1L),
             createTaskResponse(2L)
         );
-        when(taskService.getAllTasks()).thenReturn(tasks);
+        when(taskService.getAllTasks(any(TaskFilterRequest.class))).thenReturn(new CursorPage<>(tasks, null));
 
         // When & Then
         mockMvc.perform(get("/tasks")
                 .contentType(MediaType.APPLICATION_JSON))
             .andExpect(status().isOk())
+            .andExpect(header().doesNotExist(CursorPage.NEXT_CURSOR_HEADER))
             .andExpect(jsonPath("$", hasSize(2)))
             .andExpect(jsonPath("$[0].id").value(1))
             .andExpect(jsonPath("$[1].id").value(2));
     }
 
+    @Test
+    void getAllTasks_ShouldBindFiltersAndExposeNextCursor() throws Exception {
+        // Given
+        when(taskService.getAllTasks(any(TaskFilterRequest.class)))
+            .thenReturn(new CursorPage<>(List.of(createTaskResponse(1L)), "next"));
+
+        // When & Then
+        mockMvc.perform(get("/tasks")
+                .param("status", "IN_PROGRESS")
+                .param("priority", "HIGH")
+                .param("categoryId", "3")
+                .param("assignedUserId", "7")
+                .param("startDate", "2025-01-01")
+                .param("endDate", "2025-01-31")
+                .param("sort", "DUE_DATE")
+                .param("direction", "ASC")
+                .param("size", "20")
+                .contentType(MediaType.APPLICATION_JSON))
+            .andExpect(status().isOk())
+            .andExpect(header().string(CursorPage.NEXT_CURSOR_HEADER, "next"))
+            .andExpect(jsonPath("$", hasSize(1)));
+
+        ArgumentCaptor<TaskFilterRequest> captor = ArgumentCaptor.forClass(TaskFilterRequest.class);
+        verify(taskService).getAllTasks(captor.capture());
+        TaskFilterRequest filter = captor.getValue();
+        assertThat(filter.getStatus()).isEqualTo(TaskStatus.IN_PROGRESS);
+        assertThat(filter.getPriority()).isEqualTo(TaskPriority.HIGH);
+        assertThat(filter.getCategoryId()).isEqualTo(3L);
+        assertThat(filter.getAssignedUserId()).isEqualTo(7L);
+        assertThat(filter.getStartDate()).isEqualTo(LocalDate.of(2025, 1, 1));
+        assertThat(filter.getEndDate()).isEqualTo(LocalDate.of(2025, 1, 31));
+        assertThat(filter.getSort()).isEqualTo(TaskSortField.DUE_DATE);
+        assertThat(filter.getDirection()).isEqualTo(Sort.Direction.ASC);
+        assertThat(filter.getSize()).isEqualTo(20);
+    }
+
+    @Test
+    void suggestTasks_ShouldReturnSuggestions() throws Exception {
+        // Given
+        when(taskService.suggestTasks("rap", null))
+            .thenReturn(List.of(new TaskSuggestion(3L, "Rapor hatası", 7L)));
+
+        // When & Then
+        mockMvc.perform(get("/tasks/suggest").param("q", "rap"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$", hasSize(1)))
+            .andExpect(jsonPath("$[0].title").value("Rapor hatası"))
+            .andExpect(jsonPath("$[0].assignedUserId").value(7L));
+    }
+
+    @Test
+    void searchTasks_ShouldReturnRankedTasksAndNextCursor() throws Exception {
+        // Given
+        when(taskService.searchTasks("rapor hata", "abc", 10))
+            .thenReturn(new CursorPage<>(List.of(createTaskResponse(1L)), "next"));
+
+        // When & Then
+        mockMvc.perform(get("/tasks/search")
+                .param("q", "rapor hata")
+                .param("cursor", "abc")
+                .param("size", "10"))
+            .andExpect(status().isOk())
+            .andExpect(header().string(CursorPage.NEXT_CURSOR_HEADER, "next"))
+            .andExpect(jsonPath("$", hasSize(1)))
+            .andExpect(jsonPath("$[0].id").value(1L));
+    }
+
     @Test
     void getTaskById_ShouldReturnTask() throws Exception {
         // Given
@@ -172,6 +255,33 @@ class TaskControllerTest {
             .build();
     }
 
+    @Test
+    void updateTaskStatuses_ShouldReturnAffectedCount() throws Exception {
+        // Given
+        BulkTaskStatusRequest request = new BulkTaskStatusRequest(Set.of(1L, 2L), TaskStatus.DONE);
+        when(bulkTaskService.updateStatus(any(BulkTaskStatusRequest.class)))
+            .thenReturn(BulkTaskResponse.builder().affectedCount(2).build());
+
+        // When & Then
+        mockMvc.perform(patch("/tasks/bulk/status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.affectedCount").value(2));
+    }
+
+    @Test
+    void updateTaskStatuses_ShouldRejectEmptySelection() throws Exception {
+        // Given
+        BulkTaskStatusRequest request = new BulkTaskStatusRequest(Set.of(), TaskStatus.DONE);
+
+        // When & Then
+        mockMvc.perform(patch("/tasks/bulk/status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isBadRequest());
+    }
+
     private TaskResponse createTaskResponse(Long id) {
         return TaskResponse.builder()
             .id(id)
@@ -23,9 +23,11 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import com.axora.backend.dto.team.TeamSummaryResponse;
 import com.axora.backend.dto.user.UserRequest;
 import com.axora.backend.dto.user.UserResponse;
 import com.axora.backend.entity.Role;
+import com.axora.backend.service.TeamService;
 import com.axora.backend.service.UserService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.axora.backend.dto.user.ChangePasswordRequest;
@@ -41,6 +43,9 @@ class UserControllerTest {
     @MockBean
     private UserService userService;
 
+    @MockBean
+    private TeamService teamService;
+
     @MockBean
     private JwtAuthenticationFilter jwtAuthFilter;
 
@@ -93,6 +98,25 @@ class UserControllerTest {
             .andExpect(jsonPath("$.email").value("test@example.com"));
     }
 
+    @Test
+    void getUserTeams_ShouldReturnTeamSummaries() throws Exception {
+        // Given
+        List<TeamSummaryResponse> teams = List.of(
+            TeamSummaryResponse.builder().id(1L).name("Backend").active(true).memberCount(3).build(),
+            TeamSummaryResponse.builder().id(2L).name("Frontend").active(true).memberCount(5).build()
+        );
+        when(teamService.getTeamsOfUser(1L)).thenReturn(teams);
+
+        // When & Then
+        mockMvc.perform(get("/api/users/1/teams")
+                .contentType(MediaType.APPLICATION_JSON))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$", hasSize(2)))
+            .andExpect(jsonPath("$[0].name").value("Backend"))
+            .andExpect(jsonPath("$[0].memberCount").value(3))
+            .andExpect(jsonPath("$[0].members").doesNotExist());
+    }
+
     @Test
     void createUser_ShouldReturnCreatedUser() throws Exception {
         // Given
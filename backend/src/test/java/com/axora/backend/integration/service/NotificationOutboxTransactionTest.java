@@ -0,0 +1,168 @@
+package com.axora.backend.integration.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.axora.backend.entity.NotificationType;
+import com.axora.backend.event.NotificationEvent;
+import com.axora.backend.entity.Role;
+import com.axora.backend.entity.Task;
+import com.axora.backend.entity.TaskPriority;
+import com.axora.backend.entity.TaskStatus;
+import com.axora.backend.entity.User;
+import com.axora.backend.repository.NotificationCounterRepository;
+import com.axora.backend.repository.NotificationRepository;
+import com.axora.backend.repository.TaskRepository;
+import com.axora.backend.repository.UserRepository;
+import com.axora.backend.service.JobLeaseService;
+import com.axora.backend.service.NotificationCounterService;
+import com.axora.backend.service.NotificationOutbox;
+import com.axora.backend.service.NotificationService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// Commit sonrası dinleyicide çağıran thread'in yazdığı bildirimler kendi işlemiyle commit edilmeli
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({NotificationService.class, NotificationOutbox.class, NotificationCounterService.class,
+    JobLeaseService.class, NotificationOutboxTransactionTest.MetricsConfig.class})
+class NotificationOutboxTransactionTest {
+
+    @MockBean
+    private SimpMessagingTemplate messagingTemplate;
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private NotificationOutbox notificationOutbox;
+
+    @Autowired
+    private NotificationCounterService counterService;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private NotificationCounterRepository counterRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        notificationRepository.deleteAll();
+        counterRepository.deleteAll();
+        taskRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void callerRuns_AfterOutboxStopped_ShouldPersistNotification() {
+        // Given: kuyruk kapalı, bildirim commit sonrası çağıran thread'de yazılır
+        User user = userRepository.save(User.builder()
+            .name("Test User")
+            .email("outbox@example.com")
+            .password("password")
+            .role(Role.ROLE_USER)
+            .active(true)
+            .build());
+        Task task = taskRepository.save(Task.builder()
+            .title("Test Task")
+            .status(TaskStatus.TODO)
+            .priority(TaskPriority.MEDIUM)
+            .assignedUser(user)
+            .createdBy(user)
+            .build());
+        notificationOutbox.stop();
+
+        // When
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+            notificationService.createNotification(user, task, "Yeni görev", "Görev atandı", NotificationType.TASK_ASSIGNED));
+
+        // Then
+        assertThat(notificationRepository.count()).isEqualTo(1);
+        assertThat(counterService.getUnreadCount(user.getId())).isEqualTo(1L);
+    }
+
+    @Test
+    void flush_WhenOneEventReferencesDeletedTask_ShouldStoreTheOthers() {
+        // Given: görevlerden biri bildirimler yazılmadan önce silinir
+        User user = userRepository.save(User.builder()
+            .name("Test User")
+            .email("outbox@example.com")
+            .password("password")
+            .role(Role.ROLE_USER)
+            .active(true)
+            .build());
+        Task task = taskRepository.save(task(user, "Kalan görev"));
+        Task deleted = taskRepository.save(task(user, "Silinen görev"));
+        taskRepository.delete(deleted);
+        NotificationOutbox outbox = new NotificationOutbox(notificationService, transactionManager,
+            new SimpleMeterRegistry(), 10, 10, Duration.ofMillis(1), Duration.ofSeconds(5));
+        outbox.enqueue(event(user, task.getId()));
+        outbox.enqueue(event(user, deleted.getId()));
+        outbox.enqueue(event(user, task.getId()));
+
+        // When: başlatılmamış kuyruk durdurulunca üç olay tek grupta yazılır
+        outbox.stop();
+
+        // Then
+        assertThat(notificationRepository.count()).isEqualTo(2);
+        assertThat(counterService.getUnreadCount(user.getId())).isEqualTo(2L);
+    }
+
+    private Task task(User user, String title) {
+        return Task.builder()
+            .title(title)
+            .status(TaskStatus.TODO)
+            .priority(TaskPriority.MEDIUM)
+            .assignedUser(user)
+            .createdBy(user)
+            .build();
+    }
+
+    private NotificationEvent event(User user, Long taskId) {
+        return NotificationEvent.builder()
+            .userId(user.getId())
+            .taskId(taskId)
+            .title("Görev güncellendi")
+            .message("Görev durumu değişti")
+            .type(NotificationType.TASK_STATUS_CHANGED)
+            .createdAt(LocalDateTime.now())
+            .build();
+    }
+
+    @TestConfiguration
+    static class MetricsConfig {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
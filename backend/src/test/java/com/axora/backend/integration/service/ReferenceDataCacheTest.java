@@ -0,0 +1,201 @@
+package com.axora.backend.integration.service;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.metrics.MetricsAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.metrics.cache.CacheMetricsAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.metrics.export.simple.SimpleMetricsExportAutoConfiguration;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.axora.backend.config.CacheConfig;
+import com.axora.backend.dto.category.CategoryRequest;
+import com.axora.backend.dto.category.CategoryResponse;
+import com.axora.backend.dto.team.TeamRequest;
+import com.axora.backend.dto.team.TeamResponse;
+import com.axora.backend.dto.user.UserRequest;
+import com.axora.backend.dto.user.UserResponse;
+import com.axora.backend.entity.Category;
+import com.axora.backend.entity.Role;
+import com.axora.backend.entity.Team;
+import com.axora.backend.entity.User;
+import com.axora.backend.repository.CategoryRepository;
+import com.axora.backend.repository.TaskRepository;
+import com.axora.backend.repository.TeamRepository;
+import com.axora.backend.repository.UserRepository;
+import com.axora.backend.security.PrincipalCache;
+import com.axora.backend.service.CategoryService;
+import com.axora.backend.service.DashboardService;
+import com.axora.backend.service.TaskStatsService;
+import com.axora.backend.service.TeamService;
+import com.axora.backend.service.UserService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@SpringBootTest(classes = {
+    CacheConfig.class, CategoryService.class, TeamService.class, UserService.class,
+    DashboardService.class
+})
+@ImportAutoConfiguration({
+    AopAutoConfiguration.class,
+    MetricsAutoConfiguration.class,
+    CompositeMeterRegistryAutoConfiguration.class,
+    SimpleMetricsExportAutoConfiguration.class,
+    CacheMetricsAutoConfiguration.class
+})
+class ReferenceDataCacheTest {
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private TeamService teamService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private DashboardService dashboardService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @MockBean
+    private CategoryRepository categoryRepository;
+
+    @MockBean
+    private TeamRepository teamRepository;
+
+    @MockBean
+    private UserRepository userRepository;
+
+    @MockBean
+    private TaskRepository taskRepository;
+
+    @MockBean
+    private TaskStatsService taskStatsService;
+
+    @MockBean
+    private PasswordEncoder passwordEncoder;
+
+    @MockBean
+    private PrincipalCache principalCache;
+
+    private Category category;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+
+        category = Category.builder().id(1L).name("Backend").colorCode("#000000").active(true).build();
+        user = User.builder().id(1L).name("Test User").email("test@test.com").role(Role.ROLE_USER).active(true).build();
+        Team team = Team.builder().id(1L).name("Test Team").active(true).build();
+        team.getMembers().add(user);
+
+        when(categoryRepository.findByActiveTrue()).thenAnswer(invocation -> List.of(category));
+        when(categoryRepository.findById(1L)).thenReturn(Optional.of(category));
+        when(categoryRepository.save(any(Category.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(userRepository.findAll()).thenAnswer(invocation -> List.of(user));
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(teamRepository.findAll()).thenReturn(List.of(team));
+        when(teamRepository.findWithMembersById(1L)).thenReturn(Optional.of(team));
+        when(teamRepository.save(any(Team.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    void getAllCategories_ShouldServeRepeatedReadsFromCache() {
+        // Given
+        double hits = cacheGets(CacheConfig.CATEGORIES, "hit");
+        double misses = cacheGets(CacheConfig.CATEGORIES, "miss");
+
+        // When
+        categoryService.getAllCategories();
+        categoryService.getAllCategories();
+        categoryService.getAllCategories();
+
+        // Then
+        verify(categoryRepository, times(1)).findByActiveTrue();
+        assertThat(cacheGets(CacheConfig.CATEGORIES, "hit") - hits).isEqualTo(2);
+        assertThat(cacheGets(CacheConfig.CATEGORIES, "miss") - misses).isEqualTo(1);
+    }
+
+    @Test
+    void updateCategory_ShouldEvictCachedList() {
+        // Given
+        assertThat(categoryService.getAllCategories()).extracting(CategoryResponse::getName).containsExactly("Backend");
+
+        // When
+        categoryService.updateCategory(1L, new CategoryRequest("Frontend", "#ffffff", null));
+        List<CategoryResponse> categories = categoryService.getAllCategories();
+
+        // Then
+        assertThat(categories).extracting(CategoryResponse::getName).containsExactly("Frontend");
+        verify(categoryRepository, times(2)).findByActiveTrue();
+    }
+
+    @Test
+    void updateUser_ShouldEvictUserAndTeamLists() {
+        // Given
+        userService.getAllUsers();
+        teamService.getAllTeams();
+        UserRequest request = UserRequest.builder()
+            .name("Updated User")
+            .email("test@test.com")
+            .role(Role.ROLE_USER)
+            .active(true)
+            .build();
+
+        // When
+        userService.updateUser(1L, request);
+        List<UserResponse> users = userService.getAllUsers();
+        List<TeamResponse> teams = teamService.getAllTeams();
+
+        // Then
+        assertThat(users).extracting(UserResponse::getName).containsExactly("Updated User");
+        assertThat(teams.get(0).getMembers()).extracting(UserResponse::getName).containsExactly("Updated User");
+        verify(userRepository, times(2)).findAll();
+        verify(teamRepository, times(2)).findAll();
+    }
+
+    @Test
+    void getUserDashboard_ShouldCachePerUser() {
+        // Given
+        double hits = cacheGets(CacheConfig.DASHBOARDS, "hit");
+
+        // When
+        dashboardService.getUserDashboard(1L);
+        dashboardService.getUserDashboard(1L);
+        dashboardService.getUserDashboard(2L);
+
+        // Then
+        verify(taskRepository, times(1)).countByStatusForAssignee(eq(1L), any(), any(), any());
+        verify(taskRepository, times(1)).countByStatusForAssignee(eq(2L), any(), any(), any());
+        assertThat(cacheGets(CacheConfig.DASHBOARDS, "hit") - hits).isEqualTo(1);
+    }
+
+    private double cacheGets(String cacheName, String result) {
+        return meterRegistry.get("cache.gets").tag("cache", cacheName).tag("result", result)
+            .functionCounter().count();
+    }
+}
@@ -0,0 +1,152 @@
+package com.axora.backend.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import com.axora.backend.dto.comment.CommentRequest;
+import com.axora.backend.entity.Role;
+import com.axora.backend.entity.Task;
+import com.axora.backend.entity.TaskStatus;
+import com.axora.backend.entity.User;
+import com.axora.backend.security.AuthenticatedUser;
+import com.axora.backend.security.PrincipalCache;
+import com.axora.backend.service.NotificationService;
+import com.axora.backend.service.TaskCommentService;
+import com.axora.backend.service.TaskService;
+import com.axora.backend.service.TaskStatsService;
+import com.axora.backend.service.TaskTitleIndex;
+import com.axora.backend.service.UserService;
+
+// Yazma uçlarında oturumdaki kullanıcının istek başına en fazla bir kez yüklendiğini doğrular
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@Import({UserService.class, TaskService.class, TaskCommentService.class})
+class CurrentUserQueryCountTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskCommentService taskCommentService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @MockBean
+    private NotificationService notificationService;
+
+    @MockBean
+    private PasswordEncoder passwordEncoder;
+
+    @MockBean
+    private PrincipalCache principalCache;
+
+    @MockBean
+    private TaskStatsService taskStatsService;
+
+    @MockBean
+    private TaskTitleIndex taskTitleIndex;
+
+    private Statistics statistics;
+    private User member;
+    private Task task;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManager()
+            .getEntityManagerFactory()
+            .unwrap(SessionFactory.class)
+            .getStatistics();
+
+        User admin = persistUser("admin", Role.ROLE_ADMIN);
+        member = persistUser("member", Role.ROLE_USER);
+        task = entityManager.persist(Task.builder()
+            .title("Test Task")
+            .assignedUser(member)
+            .createdBy(admin)
+            .build());
+        entityManager.flush();
+        entityManager.clear();
+
+        AuthenticatedUser principal = AuthenticatedUser.from(member);
+        SecurityContextHolder.getContext().setAuthentication(
+            new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void writeEndpoints_ShouldResolveCurrentUserOncePerRequest() {
+        // Given
+        statistics.clear();
+
+        // When
+        taskService.updateTaskStatus(task.getId(), TaskStatus.IN_PROGRESS);
+        taskCommentService.addComment(task.getId(), comment("İlk yorum"));
+        taskCommentService.addComment(task.getId(), comment("İkinci yorum"));
+        entityManager.flush();
+
+        // Then: e-posta ile kullanıcı sorgusu yapılmaz; yalnızca oturumdaki kullanıcı ve
+        // yönetici kontrolü için görevi oluşturan birer kez yüklenir
+        assertThat(statistics.getQueryExecutionCount()).isZero();
+        assertThat(statistics.getEntityStatistics(User.class.getName()).getLoadCount()).isEqualTo(2);
+    }
+
+    @Test
+    void getCurrentUser_ShouldLoadUserOnlyOnceWithinRequest() {
+        // Given
+        statistics.clear();
+
+        // When
+        User first = userService.getCurrentUser();
+        entityManager.clear();
+        User second = userService.getCurrentUser();
+
+        // Then: kalıcılık bağlamı temizlense de ikinci çağrı istekteki kaydı kullanır
+        assertThat(second).isSameAs(first);
+        assertThat(userService.getCurrentUserId()).isEqualTo(member.getId());
+        assertThat(statistics.getQueryExecutionCount()).isZero();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    private User persistUser(String name, Role role) {
+        return entityManager.persist(User.builder()
+            .name(name)
+            .email(name + "@example.com")
+            .password("password")
+            .role(role)
+            .active(true)
+            .build());
+    }
+
+    private CommentRequest comment(String content) {
+        CommentRequest request = new CommentRequest();
+        request.setContent(content);
+        return request;
+    }
+}
@@ -0,0 +1,85 @@
+package com.axora.backend.repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import com.axora.backend.entity.JobCheckpoint;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+class JobCheckpointRepositoryTest {
+
+    @Autowired
+    private JobCheckpointRepository checkpointRepository;
+
+    @Test
+    void claim_ShouldGrantPartitionToOneNodeUntilLeaseExpires() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        checkpointRepository.saveAndFlush(partition("overdue-task-scan#0"));
+
+        // When
+        int first = checkpointRepository.claim("overdue-task-scan#0", "node-a", now.plusMinutes(10), now);
+        int second = checkpointRepository.claim("overdue-task-scan#0", "node-b", now.plusMinutes(10), now);
+        int afterExpiry = checkpointRepository.claim("overdue-task-scan#0", "node-b", now.plusMinutes(30), now.plusMinutes(20));
+
+        // Then
+        assertThat(first).isEqualTo(1);
+        assertThat(second).isZero();
+        assertThat(afterExpiry).isEqualTo(1);
+        assertThat(checkpointRepository.findById("overdue-task-scan#0")).get()
+            .extracting(JobCheckpoint::getOwner).isEqualTo("node-b");
+    }
+
+    @Test
+    void claim_ShouldNotRegrantLeasedPartitionToSameOwner() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        checkpointRepository.saveAndFlush(partition("overdue-task-scan#2"));
+        checkpointRepository.claim("overdue-task-scan#2", "node-a", now.plusMinutes(10), now);
+
+        // When
+        int again = checkpointRepository.claim("overdue-task-scan#2", "node-a", now.plusMinutes(10), now.plusMinutes(1));
+
+        // Then
+        assertThat(again).isZero();
+    }
+
+    @Test
+    void advance_ShouldOnlyWriteForCurrentOwner() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        checkpointRepository.saveAndFlush(partition("overdue-task-scan#1"));
+        checkpointRepository.claim("overdue-task-scan#1", "node-a", now.plusMinutes(10), now);
+
+        // When
+        int stale = checkpointRepository.advance("overdue-task-scan#1", "node-b", 50L, false, now.plusMinutes(10), now);
+        int owner = checkpointRepository.advance("overdue-task-scan#1", "node-a", 50L, true, null, now);
+
+        // Then
+        assertThat(stale).isZero();
+        assertThat(owner).isEqualTo(1);
+        JobCheckpoint saved = checkpointRepository.findById("overdue-task-scan#1").orElseThrow();
+        assertThat(saved.getLastId()).isEqualTo(50L);
+        assertThat(saved.isCompleted()).isTrue();
+        assertThat(checkpointRepository.claim("overdue-task-scan#1", "node-b", now.plusMinutes(10), now.plusHours(1))).isZero();
+    }
+
+    private JobCheckpoint partition(String name) {
+        return JobCheckpoint.builder()
+            .jobName(name)
+            .runDate(LocalDate.now())
+            .lastId(0L)
+            .upperId(100L)
+            .completed(false)
+            .updatedAt(LocalDateTime.now())
+            .build();
+    }
+}
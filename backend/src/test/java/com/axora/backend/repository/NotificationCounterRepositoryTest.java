@@ -0,0 +1,83 @@
+package com.axora.backend.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import com.axora.backend.entity.Notification;
+import com.axora.backend.entity.NotificationCounter;
+import com.axora.backend.entity.NotificationType;
+import com.axora.backend.entity.Role;
+import com.axora.backend.entity.Task;
+import com.axora.backend.entity.TaskPriority;
+import com.axora.backend.entity.TaskStatus;
+import com.axora.backend.entity.User;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+class NotificationCounterRepositoryTest {
+
+    @Autowired
+    private NotificationCounterRepository counterRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void adjust_ShouldNotGoBelowZero() {
+        // Given
+        counterRepository.saveAndFlush(new NotificationCounter(1L, 1L));
+
+        // When
+        counterRepository.adjust(1L, -3L);
+        entityManager.clear();
+
+        // Then
+        assertThat(counterRepository.findById(1L)).get().extracting(NotificationCounter::getUnread).isEqualTo(0L);
+    }
+
+    @Test
+    void reconcileAll_ShouldResetCountersToUnreadRows() {
+        // Given
+        User user = entityManager.persist(User.builder()
+            .name("Test User")
+            .email("test@example.com")
+            .password("password")
+            .role(Role.ROLE_USER)
+            .active(true)
+            .build());
+        Task task = entityManager.persist(Task.builder()
+            .title("Test Task")
+            .assignedUser(user)
+            .createdBy(user)
+            .status(TaskStatus.TODO)
+            .priority(TaskPriority.MEDIUM)
+            .build());
+        entityManager.persist(notification(user, task, false));
+        entityManager.persist(notification(user, task, false));
+        entityManager.persist(notification(user, task, true));
+        counterRepository.saveAndFlush(new NotificationCounter(user.getId(), 9L));
+
+        // When
+        counterRepository.reconcileAll();
+        entityManager.clear();
+
+        // Then
+        assertThat(counterRepository.findById(user.getId())).get().extracting(NotificationCounter::getUnread).isEqualTo(2L);
+    }
+
+    private Notification notification(User user, Task task, boolean read) {
+        return Notification.builder()
+            .user(user)
+            .task(task)
+            .title("Test Notification")
+            .message("Test Message")
+            .type(NotificationType.TASK_ASSIGNED)
+            .read(read)
+            .build();
+    }
+}
@@ -1,5 +1,6 @@
 package com.axora.backend.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -8,7 +9,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
 
+import com.axora.backend.dto.notification.NotificationResponse;
 import com.axora.backend.entity.Notification;
 import com.axora.backend.entity.NotificationType;
 import com.axora.backend.entity.Role;
@@ -74,4 +77,188 @@ class NotificationRepositoryTest {
         assertThat(notifications).isNotEmpty();
         assertThat(notifications.get(0).getUser().getId()).isEqualTo(user.getId());
     }
-} 
\ No newline at end of file
+
+    @Test
+    void markReadByUserIdUpTo_ShouldLeaveNewerNotificationsUnreadRegardlessOfId() {
+        // Given
+        User user = userRepository.save(User.builder()
+            .name("Test User")
+            .email("test@example.com")
+            .password("password")
+            .role(Role.ROLE_USER)
+            .active(true)
+            .build());
+        Task task = taskRepository.save(Task.builder()
+            .title("Test Task")
+            .assignedUser(user)
+            .createdBy(user)
+            .status(TaskStatus.TODO)
+            .priority(TaskPriority.MEDIUM)
+            .build());
+        // Başka düğümün id bloğundan gelen yeni bildirim, görülenlerden küçük id alabilir
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+        Notification newer = notification(user, task);
+        newer.setCreatedAt(now.plusMinutes(1));
+        notificationRepository.save(newer);
+        Notification seen = notification(user, task);
+        seen.setCreatedAt(now.minusMinutes(1));
+        notificationRepository.save(seen);
+        Notification alsoSeen = notification(user, task);
+        alsoSeen.setCreatedAt(now);
+        notificationRepository.save(alsoSeen);
+        notificationRepository.flush();
+
+        // When
+        int updated = notificationRepository.markReadByUserIdUpTo(
+            user.getId(), alsoSeen.getCreatedAt(), alsoSeen.getId(), LocalDateTime.now());
+
+        // Then
+        assertThat(updated).isEqualTo(2);
+        assertThat(notificationRepository.findByUserIdAndReadFalseOrderByCreatedAtDesc(user.getId()))
+            .extracting(Notification::getId)
+            .containsExactly(newer.getId())
+            .doesNotContain(seen.getId());
+        assertThat(notificationRepository.markAllReadByUserId(user.getId(), LocalDateTime.now())).isEqualTo(1);
+    }
+
+    @Test
+    void findFeed_ShouldPageByCreatedAtAndIdWithoutLoadingTask() {
+        // Given
+        User user = userRepository.save(User.builder()
+            .name("Test User")
+            .email("test@example.com")
+            .password("password")
+            .role(Role.ROLE_USER)
+            .active(true)
+            .build());
+        Task task = taskRepository.save(Task.builder()
+            .title("Test Task")
+            .assignedUser(user)
+            .createdBy(user)
+            .status(TaskStatus.TODO)
+            .priority(TaskPriority.MEDIUM)
+            .build());
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+        Notification oldest = notification(user, task);
+        oldest.setCreatedAt(now.minusMinutes(5));
+        Notification sameTimeA = notification(user, task);
+        sameTimeA.setCreatedAt(now);
+        Notification sameTimeB = notification(user, task);
+        sameTimeB.setCreatedAt(now);
+        sameTimeB.setType(NotificationType.TASK_COMMENTED);
+        notificationRepository.saveAll(List.of(oldest, sameTimeA, sameTimeB));
+        notificationRepository.flush();
+
+        // When
+        List<NotificationResponse> firstPage = notificationRepository.findFeed(
+            user.getId(), LocalDateTime.of(9999, 12, 31, 0, 0), Long.MAX_VALUE, PageRequest.of(0, 2));
+        NotificationResponse last = firstPage.get(1);
+        List<NotificationResponse> secondPage = notificationRepository.findFeed(
+            user.getId(), last.getCreatedAt(), last.getId(), PageRequest.of(0, 2));
+        List<NotificationResponse> comments = notificationRepository.findFeedByType(
+            user.getId(), NotificationType.TASK_COMMENTED, LocalDateTime.of(9999, 12, 31, 0, 0), Long.MAX_VALUE, PageRequest.of(0, 10));
+
+        // Then
+        assertThat(firstPage).extracting(NotificationResponse::getId).containsExactly(sameTimeB.getId(), sameTimeA.getId());
+        assertThat(firstPage.get(0).getTaskId()).isEqualTo(task.getId());
+        assertThat(secondPage).extracting(NotificationResponse::getId).containsExactly(oldest.getId());
+        assertThat(comments).extracting(NotificationResponse::getId).containsExactly(sameTimeB.getId());
+    }
+
+    @Test
+    void findExpiredIds_ShouldSelectOnlyOldRowsInRequestedState() {
+        // Given
+        User user = userRepository.save(User.builder()
+            .name("Test User")
+            .email("test@example.com")
+            .password("password")
+            .role(Role.ROLE_USER)
+            .active(true)
+            .build());
+        Task task = taskRepository.save(Task.builder()
+            .title("Test Task")
+            .assignedUser(user)
+            .createdBy(user)
+            .status(TaskStatus.TODO)
+            .priority(TaskPriority.MEDIUM)
+            .build());
+        LocalDateTime now = LocalDateTime.now();
+        Notification oldRead = notification(user, task);
+        oldRead.setRead(true);
+        oldRead.setCreatedAt(now.minusDays(40));
+        Notification oldUnread = notification(user, task);
+        oldUnread.setCreatedAt(now.minusDays(40));
+        Notification recentRead = notification(user, task);
+        recentRead.setRead(true);
+        notificationRepository.saveAll(List.of(oldRead, oldUnread, recentRead));
+        notificationRepository.flush();
+
+        // When
+        List<Long> expired = notificationRepository.findExpiredIds(true, now.minusDays(30), PageRequest.of(0, 10));
+        int deleted = notificationRepository.deleteAllByIdIn(expired);
+
+        // Then
+        assertThat(expired).containsExactly(oldRead.getId());
+        assertThat(deleted).isEqualTo(1);
+        assertThat(notificationRepository.findById(oldUnread.getId())).isPresent();
+    }
+
+    @Test
+    void deleteAllByTaskIdIn_ShouldReportUnreadPerUserAndAllowTaskDeletion() {
+        // Given
+        User owner = userRepository.save(User.builder()
+            .name("Owner")
+            .email("owner@example.com")
+            .password("password")
+            .role(Role.ROLE_ADMIN)
+            .active(true)
+            .build());
+        User member = userRepository.save(User.builder()
+            .name("Member")
+            .email("member@example.com")
+            .password("password")
+            .role(Role.ROLE_USER)
+            .active(true)
+            .build());
+        Task deleted = taskRepository.save(Task.builder()
+            .title("Deleted Task")
+            .assignedUser(member)
+            .createdBy(owner)
+            .build());
+        Task kept = taskRepository.save(Task.builder()
+            .title("Kept Task")
+            .assignedUser(member)
+            .createdBy(owner)
+            .build());
+        Notification read = notification(owner, deleted);
+        read.setRead(true);
+        notificationRepository.saveAll(List.of(
+            notification(member, deleted), notification(member, deleted), read, notification(member, kept)));
+        notificationRepository.flush();
+
+        // When
+        List<NotificationRepository.UnreadByUser> unread = notificationRepository.countUnreadByTaskIdIn(List.of(deleted.getId()));
+        int deletedNotifications = notificationRepository.deleteAllByTaskIdIn(List.of(deleted.getId()));
+        int deletedTasks = taskRepository.deleteAllByIdIn(List.of(deleted.getId()));
+
+        // Then
+        assertThat(unread).singleElement().satisfies(count -> {
+            assertThat(count.getUserId()).isEqualTo(member.getId());
+            assertThat(count.getUnread()).isEqualTo(2);
+        });
+        assertThat(deletedNotifications).isEqualTo(3);
+        assertThat(deletedTasks).isEqualTo(1);
+        assertThat(notificationRepository.countByUserIdAndReadFalse(member.getId())).isEqualTo(1);
+    }
+
+    private Notification notification(User user, Task task) {
+        return Notification.builder()
+            .user(user)
+            .task(task)
+            .title("Test Notification")
+            .message("Test Message")
+            .type(NotificationType.TASK_ASSIGNED)
+            .read(false)
+            .build();
+    }
+}
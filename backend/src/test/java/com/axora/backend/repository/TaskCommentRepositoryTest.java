@@ -1,5 +1,6 @@
 package com.axora.backend.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -8,7 +9,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
 
+import com.axora.backend.dto.comment.CommentResponse;
 import com.axora.backend.entity.Role;
 import com.axora.backend.entity.Task;
 import com.axora.backend.entity.TaskComment;
@@ -35,46 +38,77 @@ class TaskCommentRepositoryTest {
     }
 
     @Test
-    void findByTaskIdOrderByCreatedAtDesc_ShouldReturnCommentsInOrder() {
+    void findPageByTaskId_ShouldPageNewestFirstWithAuthorName() {
         // Given
-        User user = User.builder()
+        User user = createUser();
+        Task task = createTask(user);
+        Task otherTask = createTask(user);
+        LocalDateTime now = LocalDateTime.of(2025, 1, 10, 12, 0);
+        TaskComment oldest = createComment(task, user, "Birinci", now.minusMinutes(2));
+        TaskComment tiedLow = createComment(task, user, "İkinci", now);
+        TaskComment tiedHigh = createComment(task, user, "Üçüncü", now);
+        createComment(otherTask, user, "Başka görev", now);
+
+        // When
+        List<CommentResponse> first = taskCommentRepository.findPageByTaskId(task.getId(), PageRequest.of(0, 2));
+        CommentResponse last = first.get(1);
+        List<CommentResponse> next = taskCommentRepository.findPageByTaskIdAfter(
+            task.getId(), last.getCreatedAt(), last.getId(), PageRequest.of(0, 2));
+
+        // Then: aynı zamanlı yorumlar id ile ayrılır
+        assertThat(first).extracting(CommentResponse::getId).containsExactly(tiedHigh.getId(), tiedLow.getId());
+        assertThat(first.get(0).getUserName()).isEqualTo("Test User");
+        assertThat(first.get(0).getUserId()).isEqualTo(user.getId());
+        assertThat(next).extracting(CommentResponse::getId).containsExactly(oldest.getId());
+    }
+
+    @Test
+    void commentCount_ShouldBeAdjustedAndReconciledWithoutLoadingComments() {
+        // Given
+        User user = createUser();
+        Task task = createTask(user);
+        createComment(task, user, "Birinci", LocalDateTime.now());
+        createComment(task, user, "İkinci", LocalDateTime.now());
+
+        // When
+        taskRepository.adjustCommentCount(task.getId(), 1);
+        long adjusted = taskRepository.findResponseById(task.getId()).orElseThrow().getCommentCount();
+        int reconciled = taskRepository.reconcileCommentCounts();
+
+        // Then
+        assertThat(adjusted).isEqualTo(1);
+        assertThat(reconciled).isEqualTo(1);
+        assertThat(taskRepository.findResponseById(task.getId()).orElseThrow().getCommentCount()).isEqualTo(2);
+        assertThat(taskRepository.reconcileCommentCounts()).isZero();
+    }
+
+    private User createUser() {
+        return userRepository.save(User.builder()
             .name("Test User")
             .email("test@example.com")
             .password("password")
             .role(Role.ROLE_USER)
             .active(true)
-            .build();
-        userRepository.save(user);
+            .build());
+    }
 
-        Task task = Task.builder()
+    private Task createTask(User user) {
+        return taskRepository.save(Task.builder()
             .title("Test Task")
             .description("Test Description")
             .assignedUser(user)
             .createdBy(user)
             .status(TaskStatus.TODO)
             .priority(TaskPriority.MEDIUM)
-            .build();
-        taskRepository.save(task);
+            .build());
+    }
 
-        TaskComment comment1 = TaskComment.builder()
-            .task(task)
-            .user(user)
-            .content("Test Comment 1")
-            .build();
-        TaskComment comment2 = TaskComment.builder()
+    private TaskComment createComment(Task task, User user, String content, LocalDateTime createdAt) {
+        return taskCommentRepository.save(TaskComment.builder()
             .task(task)
             .user(user)
-            .content("Test Comment 2")
-            .build();
-        taskCommentRepository.save(comment1);
-        taskCommentRepository.save(comment2);
-
-        // When
-        List<TaskComment> comments = taskCommentRepository.findByTaskIdOrderByCreatedAtDesc(task.getId());
-
-        // Then
-        assertThat(comments).isNotEmpty();
-        assertThat(comments).hasSize(2);
-        assertThat(comments.get(0).getCreatedAt()).isAfterOrEqualTo(comments.get(1).getCreatedAt());
+            .content(content)
+            .createdAt(createdAt)
+            .build());
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,146 @@
+package com.axora.backend.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.axora.backend.dto.task.TaskResponse;
+import com.axora.backend.dto.task.TaskSortField;
+import com.axora.backend.entity.Category;
+import com.axora.backend.entity.Role;
+import com.axora.backend.entity.Task;
+import com.axora.backend.entity.TaskComment;
+import com.axora.backend.entity.TaskPriority;
+import com.axora.backend.entity.TaskStatus;
+import com.axora.backend.entity.User;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+class TaskRepositoryQueryCountTest {
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskCommentRepository taskCommentRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManager()
+            .getEntityManagerFactory()
+            .unwrap(SessionFactory.class)
+            .getStatistics();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 25})
+    void listQueries_ShouldIssueOneStatementRegardlessOfSize(int taskCount) {
+        // Given: owner'ın görevleri farklı kategorilerde, shared kategorisindeki görevler farklı kullanıcılarda
+        User owner = persistUser("owner");
+        Category shared = persistCategory("shared");
+        for (int i = 0; i < taskCount; i++) {
+            persistTask(owner, persistCategory("category-" + i));
+            persistTask(persistUser("user-" + i), shared);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        // When & Then
+        statistics.clear();
+        List<TaskResponse> byUser = taskRepository.findResponsesByAssignedUserId(owner.getId());
+        assertThat(byUser).hasSize(taskCount).allSatisfy(task -> assertThat(task.getCategory()).isNotNull());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        statistics.clear();
+        List<TaskResponse> byCategory = taskRepository.findResponsesByCategoryId(shared.getId());
+        assertThat(byCategory).hasSize(taskCount).allSatisfy(task -> assertThat(task.getAssignedUser()).isNotNull());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        statistics.clear();
+        List<TaskResponse> slice = taskRepository.findSlice(
+            Specification.where(null), TaskSortField.CREATED_AT, Sort.Direction.DESC, taskCount * 2 + 1);
+        assertThat(slice).hasSize(taskCount * 2);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void saveAll_ShouldBatchInsertsWithPooledSequenceIds() {
+        // Given
+        User user = persistUser("writer");
+        Category category = persistCategory("bulk");
+        entityManager.flush();
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            tasks.add(Task.builder()
+                .title("Toplu görev " + i)
+                .assignedUser(user)
+                .createdBy(user)
+                .category(category)
+                .build());
+        }
+
+        // When
+        statistics.clear();
+        List<Task> savedTasks = taskRepository.saveAll(tasks);
+        List<TaskComment> comments = new ArrayList<>();
+        for (Task task : savedTasks) {
+            comments.add(TaskComment.builder().content("Toplu yorum").task(task).user(user).build());
+        }
+        taskCommentRepository.saveAll(comments);
+        entityManager.flush();
+
+        // Then: IDENTITY ile 240 ayrı INSERT olurdu; 50'lik batch'ler ve id blokları yeterli
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(240);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(12);
+        assertThat(savedTasks).extracting(Task::getId).doesNotContainNull().doesNotHaveDuplicates();
+    }
+
+    private User persistUser(String name) {
+        return entityManager.persist(User.builder()
+            .name(name)
+            .email(name + "@example.com")
+            .password("password")
+            .role(Role.ROLE_USER)
+            .active(true)
+            .build());
+    }
+
+    private Category persistCategory(String name) {
+        return entityManager.persist(Category.builder()
+            .name(name)
+            .colorCode("#000000")
+            .active(true)
+            .build());
+    }
+
+    private Task persistTask(User user, Category category) {
+        return entityManager.persist(Task.builder()
+            .title("Task for " + user.getName())
+            .assignedUser(user)
+            .createdBy(user)
+            .category(category)
+            .status(TaskStatus.TODO)
+            .priority(TaskPriority.MEDIUM)
+            .build());
+    }
+}
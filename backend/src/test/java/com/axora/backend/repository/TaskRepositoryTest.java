@@ -1,5 +1,6 @@
 package com.axora.backend.repository;
 
+import java.time.LocalDate;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -8,11 +9,22 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 
+import com.axora.backend.dto.common.CursorPage;
+import com.axora.backend.dto.task.TaskFilterRequest;
+import com.axora.backend.dto.task.TaskResponse;
+import com.axora.backend.dto.task.TaskSortField;
+import com.axora.backend.dto.task.TaskSuggestion;
 import com.axora.backend.entity.Category;
+import com.axora.backend.entity.Notification;
+import com.axora.backend.entity.NotificationType;
 import com.axora.backend.entity.Role;
 import com.axora.backend.entity.Task;
 import com.axora.backend.entity.TaskPriority;
+import com.axora.backend.entity.TaskComment;
 import com.axora.backend.entity.TaskStatus;
 import com.axora.backend.entity.User;
 
@@ -29,6 +41,12 @@ class TaskRepositoryTest {
     @Autowired
     private CategoryRepository categoryRepository;
 
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private TaskCommentRepository commentRepository;
+
     @Test
     void shouldLoadContext() {
         assertThat(taskRepository).isNotNull();
@@ -102,4 +120,246 @@ class TaskRepositoryTest {
         assertThat(tasks).isNotEmpty();
         assertThat(tasks.get(0).getCategory().getId()).isEqualTo(category.getId());
     }
-} 
\ No newline at end of file
+
+    @Test
+    void findSlice_ShouldFilterAndPageByKeyset() {
+        // Given
+        User user = User.builder()
+            .name("Test User")
+            .email("test@example.com")
+            .password("password")
+            .role(Role.ROLE_USER)
+            .active(true)
+            .build();
+        userRepository.save(user);
+
+        LocalDate today = LocalDate.now();
+        Task first = taskRepository.save(createTask(user, "Task 1", TaskStatus.TODO, today.plusDays(1)));
+        Task second = taskRepository.save(createTask(user, "Task 2", TaskStatus.TODO, today.plusDays(1)));
+        Task third = taskRepository.save(createTask(user, "Task 3", TaskStatus.TODO, today.plusDays(2)));
+        Task noDueDate = taskRepository.save(createTask(user, "Task 4", TaskStatus.TODO, null));
+        taskRepository.save(createTask(user, "Done Task", TaskStatus.DONE, today));
+
+        Specification<Task> todo = TaskSpecifications.matching(TaskFilterRequest.builder()
+            .status(TaskStatus.TODO)
+            .assignedUserId(user.getId())
+            .build());
+
+        // When
+        List<TaskResponse> firstPage = taskRepository.findSlice(todo, TaskSortField.DUE_DATE, Sort.Direction.ASC, 2);
+        TaskResponse last = firstPage.get(1);
+        List<TaskResponse> secondPage = taskRepository.findSlice(
+            todo.and(TaskSpecifications.after(TaskSortField.DUE_DATE, Sort.Direction.ASC,
+                new CursorPage.Cursor(last.getDueDate().toString(), last.getId()))),
+            TaskSortField.DUE_DATE, Sort.Direction.ASC, 2);
+
+        // Then
+        assertThat(firstPage).extracting(TaskResponse::getId).containsExactly(first.getId(), second.getId());
+        assertThat(secondPage).extracting(TaskResponse::getId).containsExactly(third.getId(), noDueDate.getId());
+        assertThat(secondPage.get(0).getAssignedUser()).isEqualTo("Test User");
+    }
+
+    @Test
+    void findOverdueChunk_ShouldPageByIdAndSkipTasksNotifiedToday() {
+        // Given
+        User user = User.builder()
+            .name("Test User")
+            .email("test@example.com")
+            .password("password")
+            .role(Role.ROLE_USER)
+            .active(true)
+            .build();
+        userRepository.save(user);
+
+        LocalDate today = LocalDate.now();
+        Task first = taskRepository.save(createTask(user, "Task 1", TaskStatus.TODO, today.minusDays(1)));
+        Task notified = taskRepository.save(createTask(user, "Task 2", TaskStatus.TODO, today.minusDays(2)));
+        Task third = taskRepository.save(createTask(user, "Task 3", TaskStatus.TODO, today.minusDays(3)));
+        taskRepository.save(createTask(user, "Future Task", TaskStatus.TODO, today.plusDays(1)));
+        taskRepository.save(createTask(user, "Done Task", TaskStatus.DONE, today.minusDays(1)));
+
+        notificationRepository.save(Notification.builder()
+            .user(user)
+            .task(notified)
+            .title("Geciken Görev")
+            .message("Test Message")
+            .type(NotificationType.TASK_OVERDUE)
+            .build());
+
+        // When
+        List<Task> firstChunk = taskRepository.findOverdueChunk(
+            TaskStatus.TODO, today, today.atStartOfDay(), 0L, Long.MAX_VALUE, PageRequest.of(0, 1));
+        List<Task> secondChunk = taskRepository.findOverdueChunk(
+            TaskStatus.TODO, today, today.atStartOfDay(), firstChunk.get(0).getId(), third.getId(), PageRequest.of(0, 10));
+
+        // Then
+        assertThat(firstChunk).extracting(Task::getId).containsExactly(first.getId());
+        assertThat(secondChunk).extracting(Task::getId).containsExactly(third.getId());
+        assertThat(secondChunk.get(0).getAssignedUser().getName()).isEqualTo("Test User");
+    }
+
+    @Test
+    void countByStatus_ShouldBucketTasksPerStatusInOneQuery() {
+        // Given
+        User user = User.builder()
+            .name("Test User")
+            .email("test@example.com")
+            .password("password")
+            .role(Role.ROLE_USER)
+            .active(true)
+            .build();
+        User other = User.builder()
+            .name("Other User")
+            .email("other@example.com")
+            .password("password")
+            .role(Role.ROLE_USER)
+            .active(true)
+            .build();
+        userRepository.save(user);
+        userRepository.save(other);
+
+        LocalDate today = LocalDate.now();
+        taskRepository.save(createTask(user, "Overdue", TaskStatus.TODO, today.minusDays(1)));
+        taskRepository.save(createTask(user, "Upcoming", TaskStatus.TODO, today.plusDays(3)));
+        taskRepository.save(createTask(user, "Later", TaskStatus.IN_PROGRESS, today.plusDays(30)));
+        taskRepository.save(createTask(user, "Done", TaskStatus.DONE, today.minusDays(5)));
+        taskRepository.save(createTask(other, "Other", TaskStatus.TODO, today.minusDays(1)));
+
+        // When
+        List<TaskRepository.StatusBucket> all = taskRepository.countByStatus(
+            today.withDayOfMonth(1).atStartOfDay(), today, today.plusDays(7));
+        List<TaskRepository.StatusBucket> mine = taskRepository.countByStatusForAssignee(
+            user.getId(), today.withDayOfMonth(1).atStartOfDay(), today, today.plusDays(7));
+
+        // Then
+        assertThat(all).extracting(TaskRepository.StatusBucket::getStatus)
+            .containsExactlyInAnyOrder(TaskStatus.TODO, TaskStatus.IN_PROGRESS, TaskStatus.DONE);
+        assertThat(all).filteredOn(bucket -> bucket.getStatus() == TaskStatus.TODO).singleElement()
+            .satisfies(bucket -> {
+                assertThat(bucket.getTotal()).isEqualTo(3);
+                assertThat(bucket.getCreatedSince()).isEqualTo(3);
+                assertThat(bucket.getOverdue()).isEqualTo(2);
+                assertThat(bucket.getUpcoming()).isEqualTo(1);
+            });
+        assertThat(mine).filteredOn(bucket -> bucket.getStatus() == TaskStatus.TODO).singleElement()
+            .satisfies(bucket -> {
+                assertThat(bucket.getTotal()).isEqualTo(2);
+                assertThat(bucket.getOverdue()).isEqualTo(1);
+            });
+        assertThat(mine).filteredOn(bucket -> bucket.getStatus() == TaskStatus.IN_PROGRESS).singleElement()
+            .satisfies(bucket -> assertThat(bucket.getUpcoming()).isZero());
+    }
+
+    @Test
+    void findSuggestionChunk_ShouldPageByIdIncludingUnassignedTasks() {
+        // Given
+        User user = User.builder()
+            .name("Test User")
+            .email("test@example.com")
+            .password("password")
+            .role(Role.ROLE_USER)
+            .active(true)
+            .build();
+        userRepository.save(user);
+        Task first = taskRepository.save(createTask(user, "First", TaskStatus.TODO, null));
+        Task unassigned = createTask(null, "Unassigned", TaskStatus.TODO, null);
+        unassigned.setCreatedBy(user);
+        taskRepository.save(unassigned);
+        taskRepository.save(createTask(user, "Third", TaskStatus.TODO, null));
+
+        // When
+        List<TaskSuggestion> chunk = taskRepository.findSuggestionChunk(first.getId(), PageRequest.of(0, 1));
+
+        // Then
+        assertThat(chunk).singleElement().satisfies(entry -> {
+            assertThat(entry.getId()).isEqualTo(unassigned.getId());
+            assertThat(entry.getTitle()).isEqualTo("Unassigned");
+            assertThat(entry.getAssignedUserId()).isNull();
+        });
+    }
+
+    @Test
+    void search_ShouldRankTitleAboveDescriptionAndComments() {
+        // Given
+        User user = User.builder()
+            .name("Test User")
+            .email("test@example.com")
+            .password("password")
+            .role(Role.ROLE_USER)
+            .active(true)
+            .build();
+        User other = User.builder()
+            .name("Other User")
+            .email("other@example.com")
+            .password("password")
+            .role(Role.ROLE_USER)
+            .active(true)
+            .build();
+        userRepository.save(user);
+        userRepository.save(other);
+
+        Task inTitle = taskRepository.save(createTask(user, "Rapor hatası", TaskStatus.TODO, null));
+        Task inDescription = createTask(user, "Aylık kontrol", TaskStatus.TODO, null);
+        inDescription.setDescription("Rapor ekranında hata var");
+        taskRepository.save(inDescription);
+        Task inComment = taskRepository.save(createTask(user, "Müşteri talebi", TaskStatus.TODO, null));
+        commentRepository.save(TaskComment.builder()
+            .task(inComment)
+            .user(user)
+            .content("Rapor çıktısında hata görüldü")
+            .build());
+        taskRepository.save(createTask(user, "Rapor taslağı", TaskStatus.TODO, null));
+        taskRepository.save(createTask(other, "Rapor hatası", TaskStatus.TODO, null));
+
+        // When
+        List<TaskRepositoryCustom.SearchHit> all = taskRepository.search(List.of("rapor", "hata"), null, null, null, 10);
+        List<TaskRepositoryCustom.SearchHit> mine = taskRepository.search(List.of("rapor", "hata"), user.getId(), null, null, 2);
+        TaskRepositoryCustom.SearchHit last = mine.get(1);
+        List<TaskRepositoryCustom.SearchHit> next = taskRepository.search(
+            List.of("rapor", "hata"), user.getId(), last.getRank(), last.getTaskId(), 2);
+
+        // Then: her terim geçmeli; başlık eşleşmesi açıklamadan, açıklama yorumdan önce gelir
+        assertThat(all).hasSize(4);
+        assertThat(mine).extracting(TaskRepositoryCustom.SearchHit::getTaskId)
+            .containsExactly(inTitle.getId(), inDescription.getId());
+        assertThat(next).extracting(TaskRepositoryCustom.SearchHit::getTaskId)
+            .containsExactly(inComment.getId());
+    }
+
+    @Test
+    void search_ShouldMatchWildcardCharactersLiterally() {
+        // Given
+        User user = userRepository.save(User.builder()
+            .name("Test User")
+            .email("test@example.com")
+            .password("password")
+            .role(Role.ROLE_USER)
+            .active(true)
+            .build());
+        Task percent = taskRepository.save(createTask(user, "Yüzde 50% indirim", TaskStatus.TODO, null));
+        taskRepository.save(createTask(user, "Yüzde 500 indirim", TaskStatus.TODO, null));
+        Task underscore = taskRepository.save(createTask(user, "user_id sütunu", TaskStatus.TODO, null));
+        taskRepository.save(createTask(user, "userxid sütunu", TaskStatus.TODO, null));
+        Task backslash = taskRepository.save(createTask(user, "C:\\temp yolu", TaskStatus.TODO, null));
+        taskRepository.save(createTask(user, "C:temp yolu", TaskStatus.TODO, null));
+
+        // When & Then: %, _ ve \ joker olarak yorumlanmaz
+        assertThat(taskRepository.search(List.of("50%"), null, null, null, 10))
+            .extracting(TaskRepositoryCustom.SearchHit::getTaskId).containsExactly(percent.getId());
+        assertThat(taskRepository.search(List.of("user_id"), null, null, null, 10))
+            .extracting(TaskRepositoryCustom.SearchHit::getTaskId).containsExactly(underscore.getId());
+        assertThat(taskRepository.search(List.of("c:\\temp"), null, null, null, 10))
+            .extracting(TaskRepositoryCustom.SearchHit::getTaskId).containsExactly(backslash.getId());
+    }
+
+    private Task createTask(User user, String title, TaskStatus status, LocalDate dueDate) {
+        return Task.builder()
+            .title(title)
+            .assignedUser(user)
+            .createdBy(user)
+            .status(status)
+            .priority(TaskPriority.MEDIUM)
+            .dueDate(dueDate)
+            .build();
+    }
+}
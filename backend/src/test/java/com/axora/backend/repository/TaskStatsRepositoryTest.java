@@ -0,0 +1,170 @@
+package com.axora.backend.repository;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import com.axora.backend.dto.task.TaskStatsSnapshot;
+import com.axora.backend.entity.Category;
+import com.axora.backend.entity.Role;
+import com.axora.backend.entity.StatsScope;
+import com.axora.backend.entity.Task;
+import com.axora.backend.entity.TaskPriority;
+import com.axora.backend.entity.TaskStats;
+import com.axora.backend.entity.TaskStatsId;
+import com.axora.backend.entity.TaskStatus;
+import com.axora.backend.entity.Team;
+import com.axora.backend.entity.User;
+import com.axora.backend.service.TaskStatsService;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@Import(TaskStatsService.class)
+class TaskStatsRepositoryTest {
+
+    @Autowired
+    private TaskStatsService statsService;
+
+    @Autowired
+    private TaskStatsRepository statsRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private User alice;
+    private User bob;
+    private Category category;
+    private Team team;
+
+    @BeforeEach
+    void setUp() {
+        alice = persistUser("alice");
+        bob = persistUser("bob");
+        category = entityManager.persist(Category.builder().name("Backend").colorCode("#000000").active(true).build());
+        team = Team.builder().name("Core").active(true).build();
+        team.getMembers().add(alice);
+        team = entityManager.persist(team);
+    }
+
+    @Test
+    void getStats_ShouldAggregateTasksPerScope() {
+        // Given
+        LocalDate today = LocalDate.now();
+        persistTask(alice, TaskStatus.TODO, TaskPriority.HIGH, today.minusDays(1));
+        persistTask(alice, TaskStatus.DONE, TaskPriority.LOW, today.minusDays(1));
+        persistTask(bob, TaskStatus.IN_PROGRESS, TaskPriority.MEDIUM, today.plusDays(1));
+        entityManager.flush();
+
+        // When
+        TaskStats aliceStats = statsService.getStats(StatsScope.USER, alice.getId());
+        TaskStats teamStats = statsService.getStats(StatsScope.TEAM, team.getId());
+        TaskStats categoryStats = statsService.getStats(StatsScope.CATEGORY, category.getId());
+
+        // Then
+        assertThat(aliceStats.getTodo()).isEqualTo(1);
+        assertThat(aliceStats.getDone()).isEqualTo(1);
+        assertThat(aliceStats.getOverdue()).isEqualTo(1);
+        assertThat(teamStats.getTodo() + teamStats.getInProgress() + teamStats.getDone()).isEqualTo(2);
+        assertThat(categoryStats.getInProgress()).isEqualTo(1);
+        assertThat(categoryStats.getMediumPriority()).isEqualTo(1);
+        assertThat(statsRepository.count()).isEqualTo(3);
+    }
+
+    @Test
+    void incrementalUpdates_ShouldMatchReconciledCounts() {
+        // Given
+        LocalDate today = LocalDate.now();
+        Task first = persistTask(alice, TaskStatus.TODO, TaskPriority.HIGH, today.minusDays(2));
+        Task second = persistTask(alice, TaskStatus.IN_PROGRESS, TaskPriority.LOW, today.plusDays(2));
+        entityManager.flush();
+        statsService.getStats(StatsScope.USER, alice.getId());
+        statsService.getStats(StatsScope.USER, bob.getId());
+        statsService.getStats(StatsScope.TEAM, team.getId());
+        statsService.getStats(StatsScope.CATEGORY, category.getId());
+
+        // When: biri tamamlanır, diğeri bob'a atanır
+        TaskStatsSnapshot before = TaskStatsSnapshot.of(first);
+        first.setStatus(TaskStatus.DONE);
+        statsService.onTaskChanged(before, TaskStatsSnapshot.of(first));
+        before = TaskStatsSnapshot.of(second);
+        second.setAssignedUser(bob);
+        statsService.onTaskChanged(before, TaskStatsSnapshot.of(second));
+        entityManager.flush();
+        entityManager.clear();
+        TaskStats incremental = statsRepository.findById(new TaskStatsId(StatsScope.USER, alice.getId())).orElseThrow();
+        TaskStats incrementalTeam = statsRepository.findById(new TaskStatsId(StatsScope.TEAM, team.getId())).orElseThrow();
+
+        statsService.reconcile();
+        entityManager.flush();
+        entityManager.clear();
+
+        // Then
+        assertThat(incremental.getDone()).isEqualTo(1);
+        assertThat(incremental.getInProgress()).isZero();
+        assertThat(incremental.getOverdue()).isZero();
+        assertThat(statsRepository.findById(new TaskStatsId(StatsScope.USER, alice.getId())))
+            .contains(incremental);
+        assertThat(statsRepository.findById(new TaskStatsId(StatsScope.TEAM, team.getId())))
+            .contains(incrementalTeam);
+        assertThat(statsRepository.findById(new TaskStatsId(StatsScope.USER, bob.getId())))
+            .hasValueSatisfying(stats -> assertThat(stats.getInProgress()).isEqualTo(1));
+    }
+
+    @Test
+    void reconcile_ShouldOverwriteDriftedRowsAndDropScopesWithoutTasks() {
+        // Given
+        LocalDate today = LocalDate.now();
+        persistTask(alice, TaskStatus.TODO, TaskPriority.HIGH, today.minusDays(1));
+        statsRepository.save(TaskStats.builder().id(new TaskStatsId(StatsScope.USER, alice.getId()))
+            .todo(99).done(4).highPriority(7).build());
+        statsRepository.save(TaskStats.builder().id(new TaskStatsId(StatsScope.CATEGORY, 999L)).todo(3).build());
+        entityManager.flush();
+
+        // When
+        statsService.reconcile();
+        entityManager.clear();
+
+        // Then
+        assertThat(statsRepository.findById(new TaskStatsId(StatsScope.USER, alice.getId())))
+            .hasValueSatisfying(stats -> {
+                assertThat(stats.getTodo()).isEqualTo(1);
+                assertThat(stats.getDone()).isZero();
+                assertThat(stats.getHighPriority()).isEqualTo(1);
+                assertThat(stats.getOverdue()).isEqualTo(1);
+            });
+        assertThat(statsRepository.findById(new TaskStatsId(StatsScope.CATEGORY, 999L))).isEmpty();
+        assertThat(statsRepository.findById(new TaskStatsId(StatsScope.TEAM, team.getId())))
+            .hasValueSatisfying(stats -> assertThat(stats.getTodo()).isEqualTo(1));
+        assertThat(statsRepository.findById(new TaskStatsId(StatsScope.USER, bob.getId()))).isEmpty();
+    }
+
+    private Task persistTask(User assignee, TaskStatus status, TaskPriority priority, LocalDate dueDate) {
+        return entityManager.persist(Task.builder()
+            .title("Task")
+            .status(status)
+            .priority(priority)
+            .dueDate(dueDate)
+            .assignedUser(assignee)
+            .createdBy(assignee)
+            .category(category)
+            .build());
+    }
+
+    private User persistUser(String name) {
+        return entityManager.persist(User.builder()
+            .name(name)
+            .email(name + "@example.com")
+            .password("password")
+            .role(Role.ROLE_USER)
+            .active(true)
+            .build());
+    }
+}
@@ -0,0 +1,95 @@
+package com.axora.backend.repository;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import com.axora.backend.entity.Role;
+import com.axora.backend.entity.Team;
+import com.axora.backend.entity.User;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+class TeamRepositoryQueryCountTest {
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManager()
+            .getEntityManagerFactory()
+            .unwrap(SessionFactory.class)
+            .getStatistics();
+    }
+
+    @Test
+    void findAll_ShouldLoadTeamsWithMembersInOneStatement() {
+        // Given
+        for (int i = 0; i < 10; i++) {
+            Team team = Team.builder().name("team-" + i).build();
+            team.getMembers().add(persistUser("team-" + i + "-a"));
+            team.getMembers().add(persistUser("team-" + i + "-b"));
+            entityManager.persist(team);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        statistics.clear();
+        List<Team> teams = teamRepository.findAll();
+
+        // Then
+        assertThat(teams).hasSize(10).allSatisfy(team -> assertThat(team.getMembers()).hasSize(2));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void addingMember_ShouldInsertSingleJoinRow() {
+        // Given
+        Team team = Team.builder().name("big-team").build();
+        for (int i = 0; i < 50; i++) {
+            team.getMembers().add(persistUser("member-" + i));
+        }
+        entityManager.persist(team);
+        User newcomer = persistUser("newcomer");
+        entityManager.flush();
+        entityManager.clear();
+
+        Team loaded = teamRepository.findWithMembersById(team.getId()).orElseThrow();
+        User reference = entityManager.find(User.class, newcomer.getId());
+
+        // When
+        statistics.clear();
+        loaded.getMembers().add(reference);
+        entityManager.flush();
+
+        // Then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getCollectionRecreateCount()).isZero();
+    }
+
+    private User persistUser(String name) {
+        return entityManager.persist(User.builder()
+            .name(name)
+            .email(name + "@example.com")
+            .password("password")
+            .role(Role.ROLE_USER)
+            .active(true)
+            .build());
+    }
+}
@@ -11,6 +11,7 @@ import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabas
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 
+import com.axora.backend.dto.team.TeamSummaryResponse;
 import com.axora.backend.entity.Role;
 import com.axora.backend.entity.Team;
 import com.axora.backend.entity.User;
@@ -98,4 +99,50 @@ class TeamRepositoryTest {
         assertThat(activeTeams).isNotEmpty();
         assertThat(activeTeams).allMatch(Team::isActive);
     }
-} 
\ No newline at end of file
+
+    @Test
+    void findSummariesByMemberId_ShouldReturnActiveTeamsWithMemberCount() {
+        // Given
+        User user = userRepository.save(user("member@example.com"));
+        User other = userRepository.save(user("other@example.com"));
+        Team backend = teamRepository.save(Team.builder().name("Backend").active(true).members(Set.of(user, other)).build());
+        teamRepository.save(Team.builder().name("Archived").active(false).members(Set.of(user)).build());
+        teamRepository.save(Team.builder().name("Frontend").active(true).members(Set.of(other)).build());
+
+        // When
+        List<TeamSummaryResponse> summaries = teamRepository.findSummariesByMemberId(user.getId());
+        List<Long> teamIds = teamRepository.findTeamIdsByMemberId(user.getId());
+
+        // Then
+        assertThat(summaries).hasSize(1);
+        assertThat(summaries.get(0).getName()).isEqualTo("Backend");
+        assertThat(summaries.get(0).getMemberCount()).isEqualTo(2);
+        assertThat(teamIds).containsExactly(backend.getId());
+        assertThat(teamRepository.findMemberIdsByTeamId(backend.getId()))
+            .containsExactlyInAnyOrder(user.getId(), other.getId());
+    }
+
+    @Test
+    void existsActiveMembership_ShouldMatchOnlyActiveTeamsOfUser() {
+        // Given
+        User user = userRepository.save(user("member@example.com"));
+        User other = userRepository.save(user("other@example.com"));
+        Team backend = teamRepository.save(Team.builder().name("Backend").active(true).members(Set.of(user)).build());
+        Team archived = teamRepository.save(Team.builder().name("Archived").active(false).members(Set.of(user)).build());
+
+        // When & Then
+        assertThat(teamRepository.existsActiveMembership(backend.getId(), user.getId())).isTrue();
+        assertThat(teamRepository.existsActiveMembership(backend.getId(), other.getId())).isFalse();
+        assertThat(teamRepository.existsActiveMembership(archived.getId(), user.getId())).isFalse();
+    }
+
+    private User user(String email) {
+        return User.builder()
+            .name("Test User")
+            .email(email)
+            .password("password")
+            .role(Role.ROLE_USER)
+            .active(true)
+            .build();
+    }
+}
@@ -0,0 +1,143 @@
+package com.axora.backend.unit.security;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.axora.backend.entity.Role;
+import com.axora.backend.entity.User;
+import com.axora.backend.security.AuthenticatedUser;
+import com.axora.backend.security.JwtAuthenticationFilter;
+import com.axora.backend.security.JwtService;
+import com.axora.backend.security.PrincipalCache;
+
+@ExtendWith(MockitoExtension.class)
+class JwtAuthenticationFilterTest {
+
+    private static final String SECRET = "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970";
+
+    @Mock
+    private UserDetailsService userDetailsService;
+
+    @Mock
+    private PrincipalCache principalCache;
+
+    private JwtService jwtService;
+    private JwtAuthenticationFilter filter;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        jwtService = new JwtService();
+        ReflectionTestUtils.setField(jwtService, "secretKey", SECRET);
+        ReflectionTestUtils.setField(jwtService, "jwtExpiration", 60_000L);
+        filter = new JwtAuthenticationFilter(jwtService, userDetailsService, principalCache);
+
+        user = User.builder()
+            .id(7L)
+            .name("Test User")
+            .email("test@example.com")
+            .password("encoded")
+            .role(Role.ROLE_USER)
+            .active(true)
+            .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void generateToken_ShouldEmbedUserClaims() {
+        // When
+        var claims = jwtService.parseVerifiedClaims(jwtService.generateToken(user));
+
+        // Then
+        assertThat(claims.getSubject()).isEqualTo("test@example.com");
+        assertThat(claims.get(JwtService.CLAIM_USER_ID, Long.class)).isEqualTo(7L);
+        assertThat(claims.get(JwtService.CLAIM_ROLE, String.class)).isEqualTo("ROLE_USER");
+        assertThat(claims.get(JwtService.CLAIM_ACTIVE, Boolean.class)).isTrue();
+    }
+
+    @Test
+    void doFilter_ShouldAuthenticateFromCacheWithoutUserLookup() throws Exception {
+        // Given
+        when(principalCache.get(7L)).thenReturn(Optional.of(AuthenticatedUser.from(user)));
+
+        // When
+        filter.doFilter(request(jwtService.generateToken(user)), new MockHttpServletResponse(), new MockFilterChain());
+
+        // Then
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertThat(authentication).isNotNull();
+        assertThat(authentication.getName()).isEqualTo("test@example.com");
+        assertThat(authentication.getAuthorities()).extracting("authority").containsExactly("ROLE_USER");
+        verify(userDetailsService, never()).loadUserByUsername(anyString());
+    }
+
+    @Test
+    void doFilter_ShouldRejectTokenWhenRoleChanged() throws Exception {
+        // Given
+        String token = jwtService.generateToken(user);
+        user.setRole(Role.ROLE_ADMIN);
+        when(principalCache.get(7L)).thenReturn(Optional.of(AuthenticatedUser.from(user)));
+
+        // When
+        filter.doFilter(request(token), new MockHttpServletResponse(), new MockFilterChain());
+
+        // Then
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    @Test
+    void doFilter_ShouldRejectTokenWhenUserDeactivated() throws Exception {
+        // Given
+        String token = jwtService.generateToken(user);
+        user.setActive(false);
+        when(principalCache.get(7L)).thenReturn(Optional.of(AuthenticatedUser.from(user)));
+
+        // When
+        filter.doFilter(request(token), new MockHttpServletResponse(), new MockFilterChain());
+
+        // Then
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    @Test
+    void doFilter_ShouldContinueUnauthenticatedForInvalidToken() throws Exception {
+        // Given
+        MockFilterChain chain = new MockFilterChain();
+
+        // When
+        filter.doFilter(request("invalid.token.value"), new MockHttpServletResponse(), chain);
+
+        // Then
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        assertThat(chain.getRequest()).isNotNull();
+        verify(principalCache, never()).get(7L);
+    }
+
+    private MockHttpServletRequest request(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/tasks");
+        request.addHeader("Authorization", "Bearer " + token);
+        return request;
+    }
+}
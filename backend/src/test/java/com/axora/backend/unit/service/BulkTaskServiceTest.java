@@ -0,0 +1,227 @@
+package com.axora.backend.unit.service;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.axora.backend.dto.task.BulkTaskAssignRequest;
+import com.axora.backend.dto.task.BulkTaskCreateRequest;
+import com.axora.backend.dto.task.BulkTaskDeleteRequest;
+import com.axora.backend.dto.task.BulkTaskResponse;
+import com.axora.backend.dto.task.BulkTaskStatusRequest;
+import com.axora.backend.dto.task.TaskRequest;
+import com.axora.backend.dto.task.TaskResponse;
+import com.axora.backend.dto.task.TaskStatsSnapshot;
+import com.axora.backend.entity.Category;
+import com.axora.backend.entity.NotificationType;
+import com.axora.backend.entity.Role;
+import com.axora.backend.entity.Task;
+import com.axora.backend.entity.TaskPriority;
+import com.axora.backend.entity.TaskStatus;
+import com.axora.backend.entity.User;
+import com.axora.backend.repository.CategoryRepository;
+import com.axora.backend.repository.NotificationRepository;
+import com.axora.backend.repository.TaskCommentRepository;
+import com.axora.backend.repository.TaskRepository;
+import com.axora.backend.repository.UserRepository;
+import com.axora.backend.service.BulkTaskService;
+import com.axora.backend.service.NotificationCounterService;
+import com.axora.backend.service.NotificationService;
+import com.axora.backend.service.TaskStatsService;
+import com.axora.backend.service.TaskTitleIndex;
+import com.axora.backend.service.UserService;
+
+@ExtendWith(MockitoExtension.class)
+class BulkTaskServiceTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @Mock
+    private TaskCommentRepository commentRepository;
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Mock
+    private NotificationCounterService counterService;
+
+    @Mock
+    private NotificationService notificationService;
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private TaskStatsService statsService;
+
+    @Mock
+    private TaskTitleIndex titleIndex;
+
+    @InjectMocks
+    private BulkTaskService bulkTaskService;
+
+    private User admin;
+    private User member;
+
+    @BeforeEach
+    void setUp() {
+        admin = User.builder().id(1L).name("Admin User").email("admin@test.com").role(Role.ROLE_ADMIN).build();
+        member = User.builder().id(2L).name("Member").email("member@test.com").role(Role.ROLE_USER).build();
+        lenient().when(userService.getCurrentUser()).thenReturn(admin);
+    }
+
+    @Test
+    void updateStatus_ShouldSendOneDigestPerRecipient() {
+        // Given
+        List<Task> tasks = List.of(task(1L, admin, member), task(2L, admin, member), task(3L, admin, member));
+        when(taskRepository.findAllWithUsersByIdIn(Set.of(1L, 2L, 3L))).thenReturn(tasks);
+
+        // When
+        BulkTaskResponse response = bulkTaskService.updateStatus(
+            new BulkTaskStatusRequest(Set.of(1L, 2L, 3L), TaskStatus.DONE));
+
+        // Then
+        assertThat(response.getAffectedCount()).isEqualTo(3);
+        assertThat(tasks).allMatch(task -> task.getStatus() == TaskStatus.DONE);
+        verify(notificationService, times(1)).createNotification(any(), any(), anyString(), anyString(), any());
+        verify(notificationService).createNotification(eq(member), eq(tasks.get(0)), eq("Görev Durumu Değişti"),
+            eq("3 görev DONE durumuna güncellendi"), eq(NotificationType.TASK_STATUS_CHANGED));
+    }
+
+    @Test
+    void updateStatus_ShouldRejectUnknownTaskIds() {
+        // Given
+        when(taskRepository.findAllWithUsersByIdIn(Set.of(1L, 2L, 3L)))
+            .thenReturn(List.of(task(1L, admin, member)));
+
+        // When & Then
+        assertThatThrownBy(() -> bulkTaskService.updateStatus(
+                new BulkTaskStatusRequest(Set.of(1L, 2L, 3L), TaskStatus.DONE)))
+            .isInstanceOf(RuntimeException.class)
+            .hasMessage("Görev bulunamadı: 2, 3");
+        verify(notificationService, never()).createNotification(any(), any(), anyString(), anyString(), any());
+    }
+
+    @Test
+    void reassign_ShouldSkipTasksAlreadyAssignedToUser() {
+        // Given
+        Task alreadyAssigned = task(1L, admin, member);
+        Task unassigned = task(2L, admin, null);
+        when(userRepository.findById(2L)).thenReturn(java.util.Optional.of(member));
+        when(taskRepository.findAllWithUsersByIdIn(Set.of(1L, 2L))).thenReturn(List.of(alreadyAssigned, unassigned));
+
+        // When
+        BulkTaskResponse response = bulkTaskService.reassign(new BulkTaskAssignRequest(Set.of(1L, 2L), 2L));
+
+        // Then
+        assertThat(response.getAffectedCount()).isEqualTo(1);
+        assertThat(unassigned.getAssignedUser()).isEqualTo(member);
+        verify(notificationService).createNotification(eq(member), eq(unassigned), eq("Yeni Görev Atandı"),
+            eq("Admin User size yeni bir görev atadı: Task 2"), eq(NotificationType.TASK_ASSIGNED));
+    }
+
+    @Test
+    void delete_ShouldRemoveDependentsAndAdjustCounters() {
+        // Given
+        Set<Long> ids = Set.of(1L, 2L);
+        NotificationRepository.UnreadByUser unread = mock(NotificationRepository.UnreadByUser.class);
+        when(unread.getUserId()).thenReturn(2L);
+        when(unread.getUnread()).thenReturn(4L);
+        when(taskRepository.findIdsByIdIn(ids)).thenReturn(List.of(1L, 2L));
+        when(notificationRepository.countUnreadByTaskIdIn(ids)).thenReturn(List.of(unread));
+        when(taskRepository.deleteAllByIdIn(ids)).thenReturn(2);
+        List<TaskStatsSnapshot> deleted = List.of(
+            new TaskStatsSnapshot(2L, 1L, TaskStatus.TODO, TaskPriority.HIGH, null),
+            new TaskStatsSnapshot(2L, 1L, TaskStatus.DONE, TaskPriority.LOW, null));
+        when(taskRepository.findStatsSnapshotsByIdIn(ids)).thenReturn(deleted);
+
+        // When
+        BulkTaskResponse response = bulkTaskService.delete(new BulkTaskDeleteRequest(ids));
+
+        // Then
+        assertThat(response.getAffectedCount()).isEqualTo(2);
+        verify(commentRepository).deleteAllByTaskIdIn(ids);
+        verify(notificationRepository).deleteAllByTaskIdIn(ids);
+        verify(counterService).adjust(2L, -4L);
+        verify(statsService).onTasksChanged(deleted, List.of());
+        verify(titleIndex).onTasksDeleted(ids);
+    }
+
+    @Test
+    void create_ShouldResolveReferencesOnceAndNotifyEachAssigneeOnce() {
+        // Given
+        Category category = Category.builder().id(1L).name("Backend").build();
+        List<TaskRequest> requests = List.of(request("First", 2L), request("Second", 2L), request("Third", 2L));
+        when(userRepository.findAllById(Set.of(2L))).thenReturn(List.of(member));
+        when(categoryRepository.findAllById(Set.of(1L))).thenReturn(List.of(category));
+        when(taskRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        List<TaskResponse> created = bulkTaskService.create(new BulkTaskCreateRequest(requests));
+
+        // Then
+        assertThat(created).hasSize(3).allSatisfy(task -> {
+            assertThat(task.getAssignedUserId()).isEqualTo(2L);
+            assertThat(task.getCategory()).isEqualTo("Backend");
+        });
+        verify(userRepository, never()).findById(any());
+        verify(notificationService, times(1)).createNotification(eq(member), any(), eq("Yeni Görev Atandı"),
+            eq("Admin User size 3 yeni görev atadı"), eq(NotificationType.TASK_ASSIGNED));
+    }
+
+    @Test
+    void create_ShouldReportMissingUsers() {
+        // Given
+        List<TaskRequest> requests = List.of(request("First", 2L), request("Second", 5L));
+        when(userRepository.findAllById(Set.of(2L, 5L))).thenReturn(List.of(member));
+
+        // When & Then
+        assertThatThrownBy(() -> bulkTaskService.create(new BulkTaskCreateRequest(requests)))
+            .isInstanceOf(RuntimeException.class)
+            .hasMessage("Kullanıcı bulunamadı: 5");
+        verify(taskRepository, never()).saveAll(anyList());
+    }
+
+    private Task task(Long id, User createdBy, User assignedUser) {
+        return Task.builder()
+            .id(id)
+            .title("Task " + id)
+            .status(TaskStatus.TODO)
+            .createdBy(createdBy)
+            .assignedUser(assignedUser)
+            .build();
+    }
+
+    private TaskRequest request(String title, Long assignedUserId) {
+        return TaskRequest.builder()
+            .title(title)
+            .assignedUserId(assignedUserId)
+            .categoryId(1L)
+            .build();
+    }
+}
@@ -0,0 +1,109 @@
+package com.axora.backend.unit.service;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.axora.backend.dto.dashboard.AdminDashboardResponse;
+import com.axora.backend.dto.dashboard.UserDashboardResponse;
+import com.axora.backend.entity.TaskStatus;
+import com.axora.backend.entity.User;
+import com.axora.backend.repository.CategoryRepository;
+import com.axora.backend.repository.TaskRepository;
+import com.axora.backend.repository.TeamRepository;
+import com.axora.backend.repository.UserRepository;
+import com.axora.backend.service.DashboardService;
+
+@ExtendWith(MockitoExtension.class)
+class DashboardServiceTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @Mock
+    private TeamRepository teamRepository;
+
+    @InjectMocks
+    private DashboardService dashboardService;
+
+    @Test
+    void getAdminDashboard_ShouldDeriveTotalsFromStatusBuckets() {
+        // Given
+        List<TaskRepository.StatusBucket> buckets = List.of(
+            bucket(TaskStatus.TODO, 4, 2, 0, 1, 1),
+            bucket(TaskStatus.IN_PROGRESS, 3, 1, 0, 2, 0),
+            bucket(TaskStatus.DONE, 5, 1, 3, 4, 0));
+        when(taskRepository.countByStatus(any(), any(), any())).thenReturn(buckets);
+        when(userRepository.count()).thenReturn(10L);
+        User newUser = User.builder().id(7L).name("New User").email("new@test.com").build();
+        when(userRepository.findTop5ByOrderByCreatedAtDescIdDesc()).thenReturn(List.of(newUser));
+        when(categoryRepository.count()).thenReturn(3L);
+        when(teamRepository.count()).thenReturn(2L);
+        when(teamRepository.countByActiveTrue()).thenReturn(1L);
+
+        // When
+        AdminDashboardResponse response = dashboardService.getAdminDashboard();
+
+        // Then
+        assertThat(response.getTotalUsers()).isEqualTo(10);
+        assertThat(response.getTotalTasks()).isEqualTo(12);
+        assertThat(response.getActiveTasks()).isEqualTo(7);
+        assertThat(response.getCreatedThisMonth()).isEqualTo(4);
+        // Tamamlanan görevler gecikmiş sayılmaz
+        assertThat(response.getOverdueTasks()).isEqualTo(3);
+        assertThat(response.getActiveTeams()).isEqualTo(1);
+        assertThat(response.getTasksByStatus()).containsEntry(TaskStatus.DONE, 5L);
+        assertThat(response.getRecentUsers()).singleElement()
+            .satisfies(user -> assertThat(user.getEmail()).isEqualTo("new@test.com"));
+    }
+
+    @Test
+    void getUserDashboard_ShouldCountOnlyOpenTasksAsUpcomingOrOverdue() {
+        // Given
+        List<TaskRepository.StatusBucket> buckets = List.of(
+            bucket(TaskStatus.TODO, 2, 0, 0, 1, 1),
+            bucket(TaskStatus.DONE, 3, 0, 2, 1, 1));
+        when(taskRepository.countByStatusForAssignee(eq(1L), any(), any(), any())).thenReturn(buckets);
+
+        // When
+        UserDashboardResponse response = dashboardService.getUserDashboard(1L);
+
+        // Then
+        assertThat(response.getTotalTasks()).isEqualTo(5);
+        assertThat(response.getActiveTasks()).isEqualTo(2);
+        assertThat(response.getOverdueTasks()).isEqualTo(1);
+        assertThat(response.getUpcomingTasks()).isEqualTo(1);
+        assertThat(response.getCompletedThisMonth()).isEqualTo(2);
+        assertThat(response.getTasksByStatus())
+            .containsEntry(TaskStatus.TODO, 2L)
+            .containsEntry(TaskStatus.IN_PROGRESS, 0L);
+    }
+
+    private TaskRepository.StatusBucket bucket(TaskStatus status, long total, long createdSince,
+                                               long updatedSince, long overdue, long upcoming) {
+        TaskRepository.StatusBucket bucket = mock(TaskRepository.StatusBucket.class);
+        lenient().when(bucket.getStatus()).thenReturn(status);
+        lenient().when(bucket.getTotal()).thenReturn(total);
+        lenient().when(bucket.getCreatedSince()).thenReturn(createdSince);
+        lenient().when(bucket.getUpdatedSince()).thenReturn(updatedSince);
+        lenient().when(bucket.getOverdue()).thenReturn(overdue);
+        lenient().when(bucket.getUpcoming()).thenReturn(upcoming);
+        return bucket;
+    }
+}
@@ -0,0 +1,77 @@
+package com.axora.backend.unit.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import com.axora.backend.entity.JobCheckpoint;
+import com.axora.backend.repository.JobCheckpointRepository;
+import com.axora.backend.service.JobLeaseService;
+
+@ExtendWith(MockitoExtension.class)
+class JobLeaseServiceTest {
+
+    @Mock
+    private JobCheckpointRepository checkpointRepository;
+
+    @InjectMocks
+    private JobLeaseService leaseService;
+
+    @Test
+    void tryAcquire_ShouldCreateMissingRowAndClaimUntilLeaseEnds() {
+        // Given
+        when(checkpointRepository.existsById("nightly")).thenReturn(false);
+        when(checkpointRepository.claim(eq("nightly"), eq("node-a"), any(LocalDateTime.class), any(LocalDateTime.class)))
+            .thenAnswer(invocation -> {
+                LocalDateTime leaseUntil = invocation.getArgument(2);
+                LocalDateTime now = invocation.getArgument(3);
+                return Duration.between(now, leaseUntil).equals(Duration.ofHours(1)) ? 1 : 0;
+            });
+
+        // When
+        boolean acquired = leaseService.tryAcquire("nightly", "node-a", Duration.ofHours(1));
+
+        // Then
+        assertThat(acquired).isTrue();
+        verify(checkpointRepository).save(any(JobCheckpoint.class));
+    }
+
+    @Test
+    void tryAcquire_ShouldClaimWhenAnotherNodeCreatedRowConcurrently() {
+        // Given
+        when(checkpointRepository.existsById("nightly")).thenReturn(false);
+        when(checkpointRepository.save(any(JobCheckpoint.class))).thenThrow(new DataIntegrityViolationException("pk"));
+        when(checkpointRepository.claim(eq("nightly"), eq("node-b"), any(), any())).thenReturn(0);
+
+        // When
+        boolean acquired = leaseService.tryAcquire("nightly", "node-b", Duration.ofHours(1));
+
+        // Then
+        assertThat(acquired).isFalse();
+    }
+
+    @Test
+    void tryAcquire_ShouldNotRecreateExistingRow() {
+        // Given
+        when(checkpointRepository.existsById("nightly")).thenReturn(true);
+        when(checkpointRepository.claim(eq("nightly"), eq("node-a"), any(), any())).thenReturn(1);
+
+        // When
+        leaseService.tryAcquire("nightly", "node-a", Duration.ofHours(1));
+
+        // Then
+        verify(checkpointRepository, never()).save(any(JobCheckpoint.class));
+    }
+}
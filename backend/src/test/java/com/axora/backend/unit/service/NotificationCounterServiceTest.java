@@ -0,0 +1,133 @@
+package com.axora.backend.unit.service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.axora.backend.dto.notification.UnreadCountMessage;
+import com.axora.backend.entity.NotificationCounter;
+import com.axora.backend.repository.NotificationCounterRepository;
+import com.axora.backend.repository.NotificationRepository;
+import com.axora.backend.service.JobLeaseService;
+import com.axora.backend.service.NotificationCounterService;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationCounterServiceTest {
+
+    @Mock
+    private NotificationCounterRepository counterRepository;
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Mock
+    private JobLeaseService leaseService;
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    @InjectMocks
+    private NotificationCounterService counterService;
+
+    @Test
+    void getUnreadCount_ShouldReadCounterWithoutCounting() {
+        // Given
+        when(counterRepository.findById(1L)).thenReturn(Optional.of(new NotificationCounter(1L, 3L)));
+
+        // When
+        long unread = counterService.getUnreadCount(1L);
+
+        // Then
+        assertThat(unread).isEqualTo(3L);
+        verify(notificationRepository, never()).countByUserIdAndReadFalse(any());
+    }
+
+    @Test
+    void getUnreadCount_ShouldInitializeMissingCounterFromDatabase() {
+        // Given
+        when(counterRepository.findById(1L)).thenReturn(Optional.empty());
+        when(notificationRepository.countByUserIdAndReadFalse(1L)).thenReturn(5L);
+
+        // When
+        long unread = counterService.getUnreadCount(1L);
+
+        // Then
+        assertThat(unread).isEqualTo(5L);
+        verify(counterRepository).save(new NotificationCounter(1L, 5L));
+    }
+
+    @Test
+    void adjust_ShouldUpdateCounterAndPushNewValue() {
+        // Given
+        when(counterRepository.findById(1L)).thenReturn(Optional.of(new NotificationCounter(1L, 4L)));
+
+        // When
+        counterService.adjust(1L, 2L);
+
+        // Then
+        verify(counterRepository).adjust(1L, 2L);
+        verify(messagingTemplate).convertAndSendToUser(
+            "1",
+            "/notifications",
+            new UnreadCountMessage(4L, 2L),
+            Map.<String, Object>of(NotificationCounterService.MESSAGE_TYPE_HEADER,
+                NotificationCounterService.UNREAD_COUNT_MESSAGE_TYPE)
+        );
+    }
+
+    @Test
+    void adjust_ShouldIgnoreZeroDelta() {
+        // When
+        counterService.adjust(1L, 0L);
+
+        // Then
+        verifyNoInteractions(counterRepository, messagingTemplate);
+    }
+
+    @Test
+    void reconcileExclusively_ShouldReconcileAndKeepLeaseForInterval() {
+        // Given
+        ReflectionTestUtils.setField(counterService, "reconcileInterval", Duration.ofMinutes(10));
+        when(leaseService.tryAcquire(eq(NotificationCounterService.RECONCILE_JOB_NAME), anyString(), eq(Duration.ofMinutes(10))))
+            .thenReturn(true);
+        when(counterRepository.reconcileAll()).thenReturn(4);
+
+        // When
+        int updated = counterService.reconcileExclusively();
+
+        // Then
+        assertThat(updated).isEqualTo(4);
+        verify(leaseService, never()).release(any(), any());
+    }
+
+    @Test
+    void reconcileExclusively_ShouldSkipWhenAnotherNodeHoldsLease() {
+        // Given
+        ReflectionTestUtils.setField(counterService, "reconcileInterval", Duration.ofMinutes(10));
+        when(leaseService.tryAcquire(eq(NotificationCounterService.RECONCILE_JOB_NAME), anyString(), eq(Duration.ofMinutes(10))))
+            .thenReturn(false);
+
+        // When
+        int updated = counterService.reconcileExclusively();
+
+        // Then
+        assertThat(updated).isZero();
+        verify(counterRepository, never()).reconcileAll();
+    }
+}
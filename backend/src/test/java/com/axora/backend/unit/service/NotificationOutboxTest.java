@@ -0,0 +1,121 @@
+package com.axora.backend.unit.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.anyList;
+import org.mockito.Mock;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.axora.backend.entity.Notification;
+import com.axora.backend.entity.NotificationType;
+import com.axora.backend.event.NotificationEvent;
+import com.axora.backend.service.NotificationOutbox;
+import com.axora.backend.service.NotificationService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationOutboxTest {
+
+    @Mock
+    private NotificationService notificationService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private List<Integer> batchSizes;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        batchSizes = new ArrayList<>();
+        when(notificationService.saveAll(anyList())).thenAnswer(invocation -> {
+            List<NotificationEvent> events = invocation.getArgument(0);
+            batchSizes.add(events.size());
+            List<Notification> saved = new ArrayList<>();
+            events.forEach(event -> saved.add(Notification.builder().title(event.getTitle()).build()));
+            return saved;
+        });
+    }
+
+    @Test
+    void stop_ShouldDrainQueuedNotificationsInBatches() {
+        // Given
+        NotificationOutbox outbox = outbox(100, 10);
+        for (int i = 0; i < 25; i++) {
+            outbox.enqueue(event(i));
+        }
+        assertThat(outbox.getQueueSize()).isEqualTo(25);
+
+        // When
+        outbox.start();
+        outbox.stop();
+
+        // Then
+        assertThat(outbox.getQueueSize()).isZero();
+        assertThat(batchSizes).allMatch(size -> size <= 10);
+        assertThat(batchSizes.stream().mapToInt(Integer::intValue).sum()).isEqualTo(25);
+        assertThat(meterRegistry.counter("notification.outbox.written").count()).isEqualTo(25);
+        verify(notificationService, atLeast(3)).publish(anyList());
+    }
+
+    @Test
+    void enqueue_ShouldWriteOnCallerThreadWhenQueueIsFull() {
+        // Given
+        NotificationOutbox outbox = outbox(2, 10);
+        outbox.enqueue(event(1));
+        outbox.enqueue(event(2));
+
+        // When
+        outbox.enqueue(event(3));
+
+        // Then
+        assertThat(outbox.getQueueSize()).isEqualTo(2);
+        assertThat(batchSizes).containsExactly(1);
+        assertThat(meterRegistry.counter("notification.outbox.caller.runs").count()).isEqualTo(1);
+        assertThat(meterRegistry.get("notification.outbox.queue.size").gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    void enqueue_ShouldWriteDirectlyAfterStop() {
+        // Given
+        NotificationOutbox outbox = outbox(100, 10);
+        outbox.start();
+        outbox.stop();
+
+        // When
+        outbox.enqueue(event(1));
+
+        // Then
+        assertThat(outbox.getQueueSize()).isZero();
+        assertThat(batchSizes).containsExactly(1);
+    }
+
+    private NotificationOutbox outbox(int capacity, int batchSize) {
+        return new NotificationOutbox(notificationService, transactionManager, meterRegistry, capacity, batchSize,
+            Duration.ofMillis(1), Duration.ofSeconds(5));
+    }
+
+    private NotificationEvent event(int index) {
+        return NotificationEvent.builder()
+            .userId(1L)
+            .taskId(1L)
+            .title("Bildirim " + index)
+            .message("Test Message")
+            .type(NotificationType.TASK_ASSIGNED)
+            .createdAt(LocalDateTime.now())
+            .build();
+    }
+}
@@ -0,0 +1,100 @@
+package com.axora.backend.unit.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import org.mockito.Mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import com.axora.backend.repository.NotificationRepository;
+import com.axora.backend.service.JobLeaseService;
+import com.axora.backend.service.NotificationCounterService;
+import com.axora.backend.service.NotificationRetentionService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationRetentionServiceTest {
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Mock
+    private JobLeaseService leaseService;
+
+    @Mock
+    private NotificationCounterService counterService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private NotificationRetentionService retentionService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        retentionService = new NotificationRetentionService(notificationRepository, leaseService,
+            counterService, meterRegistry, Duration.ofDays(30), Duration.ofDays(180), 2, Duration.ofMinutes(30));
+    }
+
+    @Test
+    void purgeExpired_ShouldDeleteInBatchesAndRecordMetrics() {
+        // Given
+        when(leaseService.tryAcquire(eq(NotificationRetentionService.JOB_NAME), anyString(), any())).thenReturn(true);
+        when(notificationRepository.findExpiredIds(eq(true), any(LocalDateTime.class), eq(PageRequest.of(0, 2))))
+            .thenReturn(List.of(1L, 2L), List.of(3L));
+        when(notificationRepository.findExpiredIds(eq(false), any(LocalDateTime.class), eq(PageRequest.of(0, 2))))
+            .thenReturn(List.of());
+        when(notificationRepository.deleteAllByIdIn(List.of(1L, 2L))).thenReturn(2);
+        when(notificationRepository.deleteAllByIdIn(List.of(3L))).thenReturn(1);
+
+        // When
+        long purged = retentionService.purgeExpired();
+
+        // Then
+        assertThat(purged).isEqualTo(3);
+        assertThat(meterRegistry.counter("notification.retention.purged", "state", "read").count()).isEqualTo(3);
+        assertThat(meterRegistry.timer("notification.retention.duration").count()).isEqualTo(1);
+        verify(counterService, never()).reconcile();
+        verify(leaseService).release(eq(NotificationRetentionService.JOB_NAME), anyString());
+    }
+
+    @Test
+    void purgeExpired_ShouldReconcileCountersWhenUnreadPurged() {
+        // Given
+        when(leaseService.tryAcquire(eq(NotificationRetentionService.JOB_NAME), anyString(), any())).thenReturn(true);
+        when(notificationRepository.findExpiredIds(eq(true), any(LocalDateTime.class), any())).thenReturn(List.of());
+        when(notificationRepository.findExpiredIds(eq(false), any(LocalDateTime.class), any())).thenReturn(List.of(9L));
+        when(notificationRepository.deleteAllByIdIn(List.of(9L))).thenReturn(1);
+
+        // When
+        retentionService.purgeExpired();
+
+        // Then
+        verify(counterService).reconcile();
+    }
+
+    @Test
+    void purgeExpired_ShouldSkipWhenAnotherNodeHoldsLease() {
+        // Given
+        when(leaseService.tryAcquire(eq(NotificationRetentionService.JOB_NAME), anyString(), any())).thenReturn(false);
+
+        // When
+        long purged = retentionService.purgeExpired();
+
+        // Then
+        assertThat(purged).isZero();
+        verify(notificationRepository, never()).findExpiredIds(anyBoolean(), any(), any());
+    }
+}
@@ -4,34 +4,67 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.messaging.MessageDeliveryException;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 
+import com.axora.backend.dto.common.CursorPage;
 import com.axora.backend.dto.notification.NotificationResponse;
 import com.axora.backend.entity.Notification;
 import com.axora.backend.entity.NotificationType;
 import com.axora.backend.entity.Task;
 import com.axora.backend.entity.User;
+import com.axora.backend.event.NotificationEvent;
 import com.axora.backend.repository.NotificationRepository;
+import com.axora.backend.repository.TaskRepository;
+import com.axora.backend.repository.UserRepository;
+import com.axora.backend.service.NotificationCounterService;
 import com.axora.backend.service.NotificationService;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 @ExtendWith(MockitoExtension.class)
 class NotificationServiceTest {
 
     @Mock
     private NotificationRepository notificationRepository;
 
-    @SuppressWarnings("unused")
     @Mock
     private SimpMessagingTemplate messagingTemplate;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private NotificationCounterService counterService;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @InjectMocks
     private NotificationService notificationService;
 
@@ -79,60 +112,208 @@ class NotificationServiceTest {
             .build();
 
         when(notificationRepository.findById(1L)).thenReturn(java.util.Optional.of(notification));
-        when(notificationRepository.save(any(Notification.class))).thenReturn(notification);
+        when(notificationRepository.markReadIfUnread(eq(1L), any(LocalDateTime.class))).thenReturn(1);
+
+        // When
+        notificationService.markAsRead(1L);
+
+        // Then
+        verify(notificationRepository).markReadIfUnread(eq(1L), any(LocalDateTime.class));
+        verify(counterService).adjust(1L, -1);
+    }
+
+    @Test
+    void markAsRead_ShouldNotDecrementCounterWhenAlreadyRead() {
+        // Given
+        Notification notification = Notification.builder()
+            .id(1L)
+            .user(User.builder().id(1L).build())
+            .task(Task.builder().id(1L).build())
+            .read(true)
+            .build();
+
+        when(notificationRepository.findById(1L)).thenReturn(java.util.Optional.of(notification));
+        when(notificationRepository.markReadIfUnread(eq(1L), any(LocalDateTime.class))).thenReturn(0);
 
         // When
         notificationService.markAsRead(1L);
 
         // Then
-        verify(notificationRepository).save(any(Notification.class));
+        verifyNoInteractions(counterService);
+    }
+
+    @Test
+    void getNotificationFeed_ShouldReturnPageWithNextCursor() {
+        // Given
+        LocalDateTime createdAt = LocalDateTime.of(2024, 5, 1, 10, 0);
+        List<NotificationResponse> rows = List.of(
+            NotificationResponse.builder().id(3L).createdAt(createdAt).build(),
+            NotificationResponse.builder().id(2L).createdAt(createdAt).build(),
+            NotificationResponse.builder().id(1L).createdAt(createdAt.minusHours(1)).build());
+        when(notificationRepository.findFeed(eq(1L), any(LocalDateTime.class), eq(Long.MAX_VALUE), eq(PageRequest.of(0, 3))))
+            .thenReturn(rows);
+
+        // When
+        CursorPage<NotificationResponse> page = notificationService.getNotificationFeed(1L, null, 2, null);
+
+        // Then
+        assertThat(page.getItems()).extracting(NotificationResponse::getId).containsExactly(3L, 2L);
+        assertThat(CursorPage.decodeCursor(page.getNextCursor()))
+            .isEqualTo(new CursorPage.Cursor(createdAt.toString(), 2L));
+    }
+
+    @Test
+    void getNotificationFeed_ShouldContinueFromCursorAndFilterByType() {
+        // Given
+        LocalDateTime createdAt = LocalDateTime.of(2024, 5, 1, 10, 0);
+        String cursor = CursorPage.encodeCursor(createdAt.toString(), 2L);
+        when(notificationRepository.findFeedByType(1L, NotificationType.TASK_COMMENTED, createdAt, 2L, PageRequest.of(0, 51)))
+            .thenReturn(List.of());
+
+        // When
+        CursorPage<NotificationResponse> page = notificationService.getNotificationFeed(1L, cursor, null, NotificationType.TASK_COMMENTED);
+
+        // Then
+        assertThat(page.getItems()).isEmpty();
+        assertThat(page.hasNext()).isFalse();
+    }
+
+    @Test
+    void getNotificationFeed_ShouldRejectInvalidCursor() {
+        // Given
+        String cursor = CursorPage.encodeCursor("not-a-date", 2L);
+
+        // When & Then
+        assertThatThrownBy(() -> notificationService.getNotificationFeed(1L, cursor, null, null))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Geçersiz sayfa imleci");
+    }
+
+    @Test
+    void markAllAsRead_ShouldUpdateInBulkAndAdjustCounter() {
+        // Given
+        when(notificationRepository.markAllReadByUserId(eq(1L), any(LocalDateTime.class))).thenReturn(7);
+
+        // When
+        notificationService.markAllAsRead(1L);
+
+        // Then
+        verify(notificationRepository, never()).findByUserIdAndReadFalseOrderByCreatedAtDesc(any());
+        verify(counterService).adjust(1L, -7);
+    }
+
+    @Test
+    void markAllAsReadUpTo_ShouldOnlyAdjustForUpdatedRows() {
+        // Given
+        LocalDateTime seenAt = LocalDateTime.of(2025, 1, 1, 9, 0);
+        when(notificationRepository.markReadByUserIdUpTo(eq(1L), eq(seenAt), eq(42L), any(LocalDateTime.class))).thenReturn(3);
+
+        // When
+        notificationService.markAllAsReadUpTo(1L, seenAt, 42L);
+
+        // Then
+        verify(counterService).adjust(1L, -3);
     }
 
     @Test
-    void createNotification_ShouldCreateAndSendNotification() {
+    void createNotification_ShouldPublishEventWithoutWriting() {
         // Given
         User user = User.builder()
             .id(1L)
             .email("test@example.com")
             .build();
-        
+
         Task task = Task.builder()
-            .id(1L)
+            .id(2L)
             .title("Test Task")
             .build();
 
-        String title = "Test Notification";
-        String message = "Test Message";
-        NotificationType type = NotificationType.TASK_ASSIGNED;
+        // When
+        notificationService.createNotification(user, task, "Test Notification", "Test Message", NotificationType.TASK_ASSIGNED);
+
+        // Then
+        ArgumentCaptor<NotificationEvent> captor = ArgumentCaptor.forClass(NotificationEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        assertThat(captor.getValue().getUserId()).isEqualTo(1L);
+        assertThat(captor.getValue().getTaskId()).isEqualTo(2L);
+        assertThat(captor.getValue().getType()).isEqualTo(NotificationType.TASK_ASSIGNED);
+        verify(notificationRepository, never()).save(any(Notification.class));
+        verifyNoInteractions(messagingTemplate);
+    }
 
-        Notification savedNotification = Notification.builder()
+    @Test
+    void saveAll_ShouldWriteBatchWithReferences() {
+        // Given
+        User user = User.builder().id(1L).build();
+        Task task = Task.builder().id(2L).build();
+        NotificationEvent event = NotificationEvent.builder()
+            .userId(1L)
+            .taskId(2L)
+            .title("Test Notification")
+            .message("Test Message")
+            .type(NotificationType.TASK_COMMENTED)
+            .createdAt(LocalDateTime.now())
+            .build();
+
+        when(userRepository.getReferenceById(1L)).thenReturn(user);
+        when(taskRepository.getReferenceById(2L)).thenReturn(task);
+        when(notificationRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        List<Notification> saved = notificationService.saveAll(List.of(event, event));
+
+        // Then
+        assertThat(saved).hasSize(2);
+        assertThat(saved.get(0).getUser()).isSameAs(user);
+        assertThat(saved.get(0).getTask()).isSameAs(task);
+        assertThat(saved.get(0).getCreatedAt()).isEqualTo(event.getCreatedAt());
+        verify(userRepository, never()).findById(any());
+        verify(counterService).adjust(1L, 2L);
+    }
+
+    @Test
+    void publish_ShouldContinueWhenOneSendFails() {
+        // Given
+        Notification first = Notification.builder()
             .id(1L)
-            .user(user)
-            .task(task)
-            .title(title)
-            .message(message)
-            .type(type)
+            .user(User.builder().id(1L).build())
+            .task(Task.builder().id(3L).build())
+            .title("Test Notification")
+            .message("Test Message")
+            .type(NotificationType.TASK_ASSIGNED)
+            .createdAt(LocalDateTime.now())
+            .build();
+        Notification second = Notification.builder()
+            .id(2L)
+            .user(User.builder().id(2L).build())
+            .task(Task.builder().id(3L).build())
+            .title("Test Notification")
+            .message("Test Message")
+            .type(NotificationType.TASK_ASSIGNED)
             .createdAt(LocalDateTime.now())
             .build();
 
-        when(notificationRepository.save(any(Notification.class))).thenReturn(savedNotification);
+        doThrow(new MessageDeliveryException("kapalı"))
+            .when(messagingTemplate).convertAndSendToUser(eq("1"), eq("/notifications"), any(Object.class));
 
         // When
-        notificationService.createNotification(user, task, title, message, type);
+        int sent = notificationService.publish(List.of(first, second));
 
         // Then
-        verify(notificationRepository).save(any(Notification.class));
+        assertThat(sent).isEqualTo(1);
+        assertThat(meterRegistry.get("notification.push").tag("result", "sent").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("notification.push").tag("result", "failed").counter().count()).isEqualTo(1);
         verify(messagingTemplate).convertAndSendToUser(
-            user.getId().toString(),
+            "2",
             "/notifications",
             NotificationResponse.builder()
-                .id(savedNotification.getId())
-                .title(title)
-                .message(message)
-                .type(type)
-                .taskId(task.getId())
+                .id(2L)
+                .title("Test Notification")
+                .message("Test Message")
+                .type(NotificationType.TASK_ASSIGNED)
+                .taskId(3L)
                 .read(false)
-                .createdAt(savedNotification.getCreatedAt())
+                .createdAt(second.getCreatedAt())
                 .build()
         );
     }
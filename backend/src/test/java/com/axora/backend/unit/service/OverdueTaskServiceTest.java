@@ -0,0 +1,161 @@
+package com.axora.backend.unit.service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import com.axora.backend.entity.JobCheckpoint;
+import com.axora.backend.entity.Role;
+import com.axora.backend.entity.Task;
+import com.axora.backend.entity.TaskStatus;
+import com.axora.backend.entity.User;
+import com.axora.backend.event.NotificationEvent;
+import com.axora.backend.repository.JobCheckpointRepository;
+import com.axora.backend.repository.TaskRepository;
+import com.axora.backend.service.NotificationService;
+import com.axora.backend.service.OverdueTaskService;
+
+@ExtendWith(MockitoExtension.class)
+class OverdueTaskServiceTest {
+
+    private static final Duration LEASE = Duration.ofMinutes(10);
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private JobCheckpointRepository checkpointRepository;
+
+    @Mock
+    private NotificationService notificationService;
+
+    @InjectMocks
+    private OverdueTaskService overdueTaskService;
+
+    private final LocalDate today = LocalDate.now();
+
+    @Test
+    void planPartitions_ShouldSplitIdRangeOncePerDay() {
+        // Given
+        JobCheckpoint master = JobCheckpoint.builder()
+            .jobName(OverdueTaskService.JOB_NAME).runDate(today.minusDays(1)).lastId(0L).completed(true).build();
+        when(checkpointRepository.findForUpdate(OverdueTaskService.JOB_NAME)).thenReturn(Optional.of(master));
+        when(taskRepository.findMaxId()).thenReturn(10L);
+
+        // When
+        overdueTaskService.planPartitions(today, 4);
+
+        // Then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<JobCheckpoint>> partitions = ArgumentCaptor.forClass(List.class);
+        verify(checkpointRepository).deleteByJobNameStartingWith(OverdueTaskService.PARTITION_PREFIX);
+        verify(checkpointRepository).saveAll(partitions.capture());
+        assertThat(partitions.getValue()).extracting(JobCheckpoint::getLastId).containsExactly(0L, 3L, 6L, 9L);
+        assertThat(partitions.getValue()).extracting(JobCheckpoint::getUpperId).containsExactly(3L, 6L, 9L, Long.MAX_VALUE);
+        assertThat(master.getRunDate()).isEqualTo(today);
+    }
+
+    @Test
+    void planPartitions_ShouldKeepExistingPlanOfToday() {
+        // Given
+        when(checkpointRepository.findForUpdate(OverdueTaskService.JOB_NAME)).thenReturn(Optional.of(
+            JobCheckpoint.builder().jobName(OverdueTaskService.JOB_NAME).runDate(today).lastId(0L).completed(true).build()));
+
+        // When
+        overdueTaskService.planPartitions(today, 4);
+
+        // Then
+        verify(checkpointRepository, never()).deleteByJobNameStartingWith(anyString());
+        verify(taskRepository, never()).findMaxId();
+    }
+
+    @Test
+    void claimPartition_ShouldSkipPartitionsHeldByOtherNodes() {
+        // Given
+        JobCheckpoint taken = partition("overdue-task-scan#0", null);
+        JobCheckpoint free = partition("overdue-task-scan#1", null);
+        when(checkpointRepository.findByJobNameStartingWithAndRunDateAndCompletedFalseOrderByJobName(
+            OverdueTaskService.PARTITION_PREFIX, today)).thenReturn(List.of(taken, free));
+        when(checkpointRepository.claim(eq("overdue-task-scan#0"), eq("node-a"), any(), any())).thenReturn(0);
+        when(checkpointRepository.claim(eq("overdue-task-scan#1"), eq("node-a"), any(), any())).thenReturn(1);
+        when(checkpointRepository.findById("overdue-task-scan#1")).thenReturn(Optional.of(free));
+
+        // When
+        Optional<JobCheckpoint> claimed = overdueTaskService.claimPartition(today, "node-a", LEASE);
+
+        // Then
+        assertThat(claimed).contains(free);
+    }
+
+    @Test
+    void processChunk_ShouldBulkWriteNotificationsAndRecordProgress() {
+        // Given
+        User admin = User.builder().id(1L).role(Role.ROLE_ADMIN).build();
+        User member = User.builder().id(2L).role(Role.ROLE_USER).build();
+        Task adminTask = Task.builder().id(10L).title("Rapor").assignedUser(member).createdBy(admin).status(TaskStatus.TODO).build();
+        Task memberTask = Task.builder().id(11L).title("Sunum").assignedUser(member).createdBy(member).status(TaskStatus.TODO).build();
+        JobCheckpoint partition = partition("overdue-task-scan#0", "node-a");
+
+        when(taskRepository.findOverdueChunk(TaskStatus.TODO, today, today.atStartOfDay(), 5L, 100L, PageRequest.of(0, 2)))
+            .thenReturn(List.of(adminTask, memberTask));
+        when(checkpointRepository.advance(eq("overdue-task-scan#0"), eq("node-a"), eq(11L), eq(false), any(), any()))
+            .thenReturn(1);
+        when(notificationService.saveAll(anyList())).thenReturn(List.of());
+
+        // When
+        OverdueTaskService.ChunkResult result = overdueTaskService.processChunk(partition, 2, LEASE);
+
+        // Then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<NotificationEvent>> events = ArgumentCaptor.forClass(List.class);
+        verify(notificationService).saveAll(events.capture());
+        assertThat(events.getValue()).extracting(NotificationEvent::getUserId).containsExactly(2L, 1L, 2L);
+        assertThat(result.getLastId()).isEqualTo(11L);
+        assertThat(result.isCompleted()).isFalse();
+    }
+
+    @Test
+    void processChunk_ShouldNotWriteWhenLeaseLost() {
+        // Given
+        Task task = Task.builder().id(10L).title("Rapor").assignedUser(User.builder().id(2L).build()).status(TaskStatus.TODO).build();
+        JobCheckpoint partition = partition("overdue-task-scan#0", "node-a");
+
+        when(taskRepository.findOverdueChunk(any(), any(), any(), any(), any(), any())).thenReturn(List.of(task));
+        when(checkpointRepository.advance(anyString(), anyString(), any(), anyBoolean(), any(), any())).thenReturn(0);
+
+        // When & Then
+        assertThatThrownBy(() -> overdueTaskService.processChunk(partition, 10, LEASE))
+            .isInstanceOf(IllegalStateException.class);
+        verify(notificationService, never()).saveAll(anyList());
+    }
+
+    private JobCheckpoint partition(String name, String owner) {
+        return JobCheckpoint.builder()
+            .jobName(name)
+            .runDate(today)
+            .lastId(5L)
+            .upperId(100L)
+            .owner(owner)
+            .completed(false)
+            .build();
+    }
+}
@@ -0,0 +1,65 @@
+package com.axora.backend.unit.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.stereotype.Service;
+
+import com.axora.backend.metrics.ServiceMetricsAspect;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ServiceMetricsAspectTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private SampleService service;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        AspectJProxyFactory factory = new AspectJProxyFactory(new SampleService());
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new ServiceMetricsAspect(meterRegistry));
+        service = factory.getProxy();
+    }
+
+    @Test
+    void time_ShouldRecordServiceMethodTimer() {
+        // When
+        service.find();
+        service.find();
+
+        // Then
+        Timer timer = meterRegistry.find(ServiceMetricsAspect.METRIC_NAME)
+            .tags("class", "SampleService", "method", "find", "exception", "none")
+            .timer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isEqualTo(2);
+    }
+
+    @Test
+    void time_ShouldTagExceptionAndRethrow() {
+        // When & Then
+        assertThatThrownBy(service::fail).isInstanceOf(IllegalArgumentException.class);
+        Timer timer = meterRegistry.find(ServiceMetricsAspect.METRIC_NAME)
+            .tags("method", "fail", "exception", "IllegalArgumentException")
+            .timer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isEqualTo(1);
+    }
+
+    @Service
+    static class SampleService {
+
+        public String find() {
+            return "ok";
+        }
+
+        public void fail() {
+            throw new IllegalArgumentException("Geçersiz istek");
+        }
+    }
+}
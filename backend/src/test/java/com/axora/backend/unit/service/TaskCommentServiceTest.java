@@ -4,6 +4,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import static org.mockito.ArgumentMatchers.any;
@@ -12,9 +13,11 @@ import org.mockito.Mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
 
 import com.axora.backend.dto.comment.CommentRequest;
 import com.axora.backend.dto.comment.CommentResponse;
+import com.axora.backend.dto.common.CursorPage;
 import com.axora.backend.entity.Role;
 import com.axora.backend.entity.Task;
 import com.axora.backend.entity.TaskComment;
@@ -89,40 +92,54 @@ class TaskCommentServiceTest {
         assertThat(response.getContent()).isEqualTo("Test Comment");
         assertThat(response.getUserName()).isEqualTo("Test User");
         verify(commentRepository).save(any(TaskComment.class));
+        verify(taskRepository).adjustCommentCount(1L, 1);
     }
 
     @Test
-    void getTaskComments_ShouldReturnComments() {
+    void getTaskComments_ShouldReturnFirstPageWithNextCursor() {
         // Given
-        User user = User.builder()
-            .id(1L)
-            .name("Test User")
-            .email("test@example.com")
-            .build();
+        LocalDateTime now = LocalDateTime.of(2025, 1, 10, 12, 0);
+        List<CommentResponse> rows = List.of(
+            new CommentResponse(9L, "Üçüncü", "Test User", 1L, now),
+            new CommentResponse(8L, "İkinci", "Test User", 1L, now.minusMinutes(1)),
+            new CommentResponse(7L, "Birinci", "Test User", 1L, now.minusMinutes(2)));
+        when(commentRepository.findPageByTaskId(1L, PageRequest.of(0, 3))).thenReturn(rows);
 
-        Task task = Task.builder()
-            .id(1L)
-            .title("Test Task")
-            .build();
+        // When
+        CursorPage<CommentResponse> page = taskCommentService.getTaskComments(1L, null, 2);
 
-        TaskComment comment = TaskComment.builder()
-            .id(1L)
-            .task(task)
-            .user(user)
-            .content("Test Comment")
-            .createdAt(LocalDateTime.now())
-            .build();
+        // Then
+        assertThat(page.getItems()).extracting(CommentResponse::getId).containsExactly(9L, 8L);
+        assertThat(page.getItems().get(0).getUserName()).isEqualTo("Test User");
+        CursorPage.Cursor cursor = CursorPage.decodeCursor(page.getNextCursor());
+        assertThat(cursor.getValue()).isEqualTo("2025-01-10T11:59");
+        assertThat(cursor.getId()).isEqualTo(8L);
+    }
 
-        when(commentRepository.findByTaskIdOrderByCreatedAtDesc(1L))
-            .thenReturn(List.of(comment));
+    @Test
+    void getTaskComments_ShouldContinueAfterCursor() {
+        // Given
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 10, 11, 59);
+        when(commentRepository.findPageByTaskIdAfter(1L, createdAt, 8L,
+                PageRequest.of(0, TaskCommentService.DEFAULT_PAGE_SIZE + 1)))
+            .thenReturn(List.of(new CommentResponse(7L, "Birinci", "Test User", 1L, createdAt.minusMinutes(1))));
 
         // When
-        List<CommentResponse> comments = taskCommentService.getTaskComments(1L);
+        CursorPage<CommentResponse> page = taskCommentService.getTaskComments(
+            1L, CursorPage.encodeCursor(createdAt.toString(), 8L), null);
 
         // Then
-        assertThat(comments).isNotEmpty();
-        assertThat(comments.get(0).getContent()).isEqualTo("Test Comment");
-        assertThat(comments.get(0).getUserName()).isEqualTo("Test User");
+        assertThat(page.getItems()).extracting(CommentResponse::getId).containsExactly(7L);
+        assertThat(page.hasNext()).isFalse();
+    }
+
+    @Test
+    void getTaskComments_ShouldRejectInvalidCursor() {
+        // When & Then
+        assertThatThrownBy(() -> taskCommentService.getTaskComments(
+                1L, CursorPage.encodeCursor("not-a-date", 8L), null))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Geçersiz sayfa imleci");
     }
 
     @Test
@@ -135,18 +152,20 @@ class TaskCommentServiceTest {
 
         TaskComment comment = TaskComment.builder()
             .id(1L)
+            .task(Task.builder().id(1L).build())
             .user(currentUser)
             .content("Test Comment")
             .build();
 
         when(commentRepository.findById(1L)).thenReturn(java.util.Optional.of(comment));
-        when(userService.getCurrentUser()).thenReturn(currentUser);
+        when(userService.getCurrentUserId()).thenReturn(currentUser.getId());
 
         // When
         taskCommentService.deleteComment(1L, 1L);
 
         // Then
         verify(commentRepository).delete(comment);
+        verify(taskRepository).adjustCommentCount(1L, -1);
     }
 
     @Test
@@ -167,7 +186,7 @@ class TaskCommentServiceTest {
         request.setContent("Updated Comment");
 
         when(commentRepository.findById(1L)).thenReturn(java.util.Optional.of(comment));
-        when(userService.getCurrentUser()).thenReturn(currentUser);
+        when(userService.getCurrentUserId()).thenReturn(currentUser.getId());
         when(commentRepository.save(any(TaskComment.class))).thenReturn(comment);
 
         // When
@@ -5,31 +5,39 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContext;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.data.domain.Sort;
 
+import com.axora.backend.dto.common.CursorPage;
+import com.axora.backend.dto.task.TaskFilterRequest;
 import com.axora.backend.dto.task.TaskRequest;
 import com.axora.backend.dto.task.TaskResponse;
+import com.axora.backend.dto.task.TaskStatsSnapshot;
+import com.axora.backend.dto.task.TaskSuggestion;
+import com.axora.backend.dto.task.TaskSortField;
 import com.axora.backend.entity.Category;
+import com.axora.backend.entity.Role;
 import com.axora.backend.entity.Task;
 import com.axora.backend.entity.TaskStatus;
 import com.axora.backend.entity.User;
 import com.axora.backend.repository.CategoryRepository;
 import com.axora.backend.repository.TaskRepository;
+import com.axora.backend.repository.TaskRepositoryCustom.SearchHit;
 import com.axora.backend.repository.UserRepository;
 import com.axora.backend.service.CategoryService;
 import com.axora.backend.service.NotificationService;
 import com.axora.backend.service.TaskService;
+import com.axora.backend.service.TaskStatsService;
+import com.axora.backend.service.TaskTitleIndex;
 import com.axora.backend.service.UserService;
 
 @ExtendWith(MockitoExtension.class)
@@ -47,6 +55,12 @@ class TaskServiceTest {
     @Mock
     private NotificationService notificationService;
 
+    @Mock
+    private TaskStatsService statsService;
+
+    @Mock
+    private TaskTitleIndex titleIndex;
+
     @InjectMocks
     private TaskService taskService;
 
@@ -109,22 +123,139 @@ class TaskServiceTest {
     }
 
     @Test
-    void getAllTasks_ShouldReturnAllTasks() {
+    void getAllTasks_ShouldReturnFirstPage() {
         // Given
-        Task task = Task.builder()
+        TaskResponse task = TaskResponse.builder()
             .id(1L)
             .title("Test Task")
             .status(TaskStatus.TODO)
             .build();
 
-        when(taskRepository.findAll()).thenReturn(List.of(task));
+        when(taskRepository.findSlice(any(), eq(TaskSortField.CREATED_AT), eq(Sort.Direction.DESC),
+            eq(TaskService.DEFAULT_PAGE_SIZE + 1))).thenReturn(List.of(task));
 
         // When
-        List<TaskResponse> tasks = taskService.getAllTasks();
+        CursorPage<TaskResponse> page = taskService.getAllTasks(new TaskFilterRequest());
 
         // Then
-        assertThat(tasks).isNotEmpty();
-        assertThat(tasks.get(0).getTitle()).isEqualTo("Test Task");
+        assertThat(page.getItems()).hasSize(1);
+        assertThat(page.getItems().get(0).getTitle()).isEqualTo("Test Task");
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    void getAllTasks_ShouldReturnNextCursor_WhenMoreTasksExist() {
+        // Given
+        LocalDate dueDate = LocalDate.of(2025, 1, 10);
+        TaskResponse first = TaskResponse.builder().id(5L).title("First").dueDate(dueDate).build();
+        TaskResponse second = TaskResponse.builder().id(4L).title("Second").dueDate(dueDate).build();
+        TaskResponse third = TaskResponse.builder().id(3L).title("Third").dueDate(dueDate).build();
+
+        TaskFilterRequest filter = TaskFilterRequest.builder()
+            .status(TaskStatus.TODO)
+            .sort(TaskSortField.DUE_DATE)
+            .direction(Sort.Direction.ASC)
+            .size(2)
+            .build();
+
+        when(taskRepository.findSlice(any(), eq(TaskSortField.DUE_DATE), eq(Sort.Direction.ASC), eq(3)))
+            .thenReturn(List.of(first, second, third));
+
+        // When
+        CursorPage<TaskResponse> page = taskService.getAllTasks(filter);
+
+        // Then
+        assertThat(page.getItems()).extracting(TaskResponse::getId).containsExactly(5L, 4L);
+        CursorPage.Cursor cursor = CursorPage.decodeCursor(page.getNextCursor());
+        assertThat(cursor.getValue()).isEqualTo("2025-01-10");
+        assertThat(cursor.getId()).isEqualTo(4L);
+    }
+
+    @Test
+    void getAllTasks_ShouldCapPageSize() {
+        // Given
+        TaskFilterRequest filter = TaskFilterRequest.builder().size(10_000).build();
+        when(taskRepository.findSlice(any(), any(), any(), eq(TaskService.MAX_PAGE_SIZE + 1)))
+            .thenReturn(List.of());
+
+        // When
+        CursorPage<TaskResponse> page = taskService.getAllTasks(filter);
+
+        // Then
+        assertThat(page.getItems()).isEmpty();
+        assertThat(page.hasNext()).isFalse();
+    }
+
+    @Test
+    void getAllTasks_ShouldRejectInvalidCursor() {
+        // Given
+        TaskFilterRequest filter = TaskFilterRequest.builder().cursor("not-a-cursor").build();
+
+        // When & Then
+        assertThatThrownBy(() -> taskService.getAllTasks(filter))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Geçersiz sayfa imleci");
+    }
+
+    @Test
+    void searchTasks_ShouldRestrictNonAdminsAndKeepRankOrder() {
+        // Given
+        User member = User.builder().id(7L).name("Member").role(Role.ROLE_USER).build();
+        when(userService.getCurrentUser()).thenReturn(member);
+        when(taskRepository.search(List.of("rapor", "hata"), 7L, null, null, 3))
+            .thenReturn(List.of(new SearchHit(9L, 2.0), new SearchHit(4L, 0.8), new SearchHit(2L, 0.4)));
+        when(taskRepository.findResponsesByIdIn(List.of(9L, 4L))).thenReturn(List.of(
+            TaskResponse.builder().id(4L).title("Aylık kontrol").build(),
+            TaskResponse.builder().id(9L).title("Rapor hatası").build()));
+
+        // When
+        CursorPage<TaskResponse> page = taskService.searchTasks("  Rapor, HATA rapor a ", null, 2);
+
+        // Then
+        assertThat(page.getItems()).extracting(TaskResponse::getId).containsExactly(9L, 4L);
+        CursorPage.Cursor cursor = CursorPage.decodeCursor(page.getNextCursor());
+        assertThat(cursor.getValue()).isEqualTo("0.8");
+        assertThat(cursor.getId()).isEqualTo(4L);
+    }
+
+    @Test
+    void searchTasks_ShouldSearchAllTasksForAdminsFromCursor() {
+        // Given
+        User admin = User.builder().id(1L).name("Admin").role(Role.ROLE_ADMIN).build();
+        when(userService.getCurrentUser()).thenReturn(admin);
+        when(taskRepository.search(List.of("istanbul"), null, 0.8, 4L, TaskService.DEFAULT_PAGE_SIZE + 1))
+            .thenReturn(List.of());
+        when(taskRepository.findResponsesByIdIn(List.of())).thenReturn(List.of());
+
+        // When
+        CursorPage<TaskResponse> page = taskService.searchTasks("İSTANBUL", CursorPage.encodeCursor("0.8", 4L), null);
+
+        // Then
+        assertThat(page.getItems()).isEmpty();
+        assertThat(page.hasNext()).isFalse();
+    }
+
+    @Test
+    void searchTasks_ShouldRejectTextWithoutSearchableTerms() {
+        // When & Then
+        assertThatThrownBy(() -> taskService.searchTasks(" a - ! ", null, null))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Arama metni en az 2 karakterlik bir kelime içermelidir");
+    }
+
+    @Test
+    void suggestTasks_ShouldLimitNonAdminsToOwnTasksAndCapLimit() {
+        // Given
+        List<TaskSuggestion> suggestions = List.of(new TaskSuggestion(3L, "Rapor hatası", 7L));
+        when(userService.isCurrentUserAdmin()).thenReturn(false);
+        when(userService.getCurrentUserId()).thenReturn(7L);
+        when(titleIndex.suggest("rap", 7L, TaskTitleIndex.MAX_SUGGESTIONS)).thenReturn(suggestions);
+
+        // When
+        List<TaskSuggestion> result = taskService.suggestTasks("rap", 500);
+
+        // Then
+        assertThat(result).isEqualTo(suggestions);
     }
 
     @Test
@@ -136,22 +267,15 @@ class TaskServiceTest {
             .email("test@example.com")
             .build();
 
-        Task task = Task.builder()
+        TaskResponse task = TaskResponse.builder()
             .id(1L)
             .title("Test Task")
-            .assignedUser(currentUser)
+            .assignedUserId(currentUser.getId())
             .status(TaskStatus.TODO)
             .build();
 
-        Authentication authentication = mock(Authentication.class);
-        SecurityContext securityContext = mock(SecurityContext.class);
-        
-        when(authentication.getName()).thenReturn("test@example.com");
-        when(securityContext.getAuthentication()).thenReturn(authentication);
-        SecurityContextHolder.setContext(securityContext);
-
-        when(userRepository.findByEmail("test@example.com")).thenReturn(java.util.Optional.of(currentUser));
-        when(taskRepository.findByAssignedUser(currentUser)).thenReturn(List.of(task));
+        when(userService.getCurrentUserId()).thenReturn(currentUser.getId());
+        when(taskRepository.findResponsesByAssignedUserId(1L)).thenReturn(List.of(task));
 
         // When
         List<TaskResponse> tasks = taskService.getTasksByCurrentUser();
@@ -164,13 +288,13 @@ class TaskServiceTest {
     @Test
     void getTaskById_ShouldReturnTask() {
         // Given
-        Task task = Task.builder()
+        TaskResponse task = TaskResponse.builder()
             .id(1L)
             .title("Test Task")
             .status(TaskStatus.TODO)
             .build();
 
-        when(taskRepository.findById(1L)).thenReturn(java.util.Optional.of(task));
+        when(taskRepository.findResponseById(1L)).thenReturn(java.util.Optional.of(task));
 
         // When
         TaskResponse response = taskService.getTaskById(1L);
@@ -183,20 +307,16 @@ class TaskServiceTest {
     @Test
     void getTasksByAssignedUser_ShouldReturnUserTasks() {
         // Given
-        User user = User.builder()
-            .id(1L)
-            .name("Test User")
-            .build();
-
-        Task task = Task.builder()
+        TaskResponse task = TaskResponse.builder()
             .id(1L)
             .title("Test Task")
-            .assignedUser(user)
+            .assignedUser("Test User")
+            .assignedUserId(1L)
             .status(TaskStatus.TODO)
             .build();
 
-        when(userRepository.findById(1L)).thenReturn(java.util.Optional.of(user));
-        when(taskRepository.findByAssignedUser(user)).thenReturn(List.of(task));
+        when(userRepository.existsById(1L)).thenReturn(true);
+        when(taskRepository.findResponsesByAssignedUserId(1L)).thenReturn(List.of(task));
 
         // When
         List<TaskResponse> tasks = taskService.getTasksByAssignedUser(1L);
@@ -209,20 +329,16 @@ class TaskServiceTest {
     @Test
     void getTasksByCategory_ShouldReturnCategoryTasks() {
         // Given
-        Category category = Category.builder()
-            .id(1L)
-            .name("Test Category")
-            .build();
-
-        Task task = Task.builder()
+        TaskResponse task = TaskResponse.builder()
             .id(1L)
             .title("Test Task")
-            .category(category)
+            .category("Test Category")
+            .categoryId(1L)
             .status(TaskStatus.TODO)
             .build();
 
-        when(categoryRepository.findById(1L)).thenReturn(java.util.Optional.of(category));
-        when(taskRepository.findByCategory(category)).thenReturn(List.of(task));
+        when(categoryRepository.existsById(1L)).thenReturn(true);
+        when(taskRepository.findResponsesByCategoryId(1L)).thenReturn(List.of(task));
 
         // When
         List<TaskResponse> tasks = taskService.getTasksByCategory(1L);
@@ -290,7 +406,7 @@ class TaskServiceTest {
             .build();
 
         when(taskRepository.findById(1L)).thenReturn(java.util.Optional.of(task));
-        when(userService.getCurrentUser()).thenReturn(currentUser);
+        when(userService.getCurrentUserId()).thenReturn(currentUser.getId());
         when(taskRepository.save(any(Task.class))).thenReturn(task);
 
         // When
@@ -303,14 +419,23 @@ class TaskServiceTest {
     }
 
     @Test
-    void deleteTask_ShouldDeleteTask() {
+    void deleteTask_ShouldDeleteTaskAndDecrementStats() {
         // Given
-        when(taskRepository.existsById(1L)).thenReturn(true);
+        User assignedUser = User.builder().id(2L).build();
+        Task task = Task.builder()
+            .id(1L)
+            .title("Test Task")
+            .assignedUser(assignedUser)
+            .status(TaskStatus.IN_PROGRESS)
+            .build();
+        when(taskRepository.findById(1L)).thenReturn(java.util.Optional.of(task));
 
         // When
         taskService.deleteTask(1L);
 
         // Then
-        verify(taskRepository).deleteById(1L);
+        verify(taskRepository).delete(task);
+        verify(statsService).onTaskChanged(TaskStatsSnapshot.of(task), null);
+        verify(titleIndex).onTasksDeleted(List.of(task.getId()));
     }
 } 
\ No newline at end of file
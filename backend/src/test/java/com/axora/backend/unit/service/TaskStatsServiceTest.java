@@ -0,0 +1,128 @@
+package com.axora.backend.unit.service;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.axora.backend.dto.task.TaskStatsSnapshot;
+import com.axora.backend.entity.StatsScope;
+import com.axora.backend.entity.TaskPriority;
+import com.axora.backend.entity.TaskStats;
+import com.axora.backend.entity.TaskStatsId;
+import com.axora.backend.entity.TaskStatus;
+import com.axora.backend.repository.TaskStatsRepository;
+import com.axora.backend.repository.TeamRepository;
+import com.axora.backend.service.TaskStatsService;
+
+@ExtendWith(MockitoExtension.class)
+class TaskStatsServiceTest {
+
+    @Mock
+    private TaskStatsRepository statsRepository;
+
+    @Mock
+    private TeamRepository teamRepository;
+
+    @InjectMocks
+    private TaskStatsService statsService;
+
+    @Test
+    void onTaskChanged_ShouldMoveCountsBetweenStatuses() {
+        // Given
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        when(teamRepository.findTeamIdsByMemberId(1L)).thenReturn(List.of(5L));
+        TaskStatsSnapshot before = new TaskStatsSnapshot(1L, 3L, TaskStatus.TODO, TaskPriority.HIGH, yesterday);
+        TaskStatsSnapshot after = new TaskStatsSnapshot(1L, 3L, TaskStatus.DONE, TaskPriority.HIGH, yesterday);
+
+        // When
+        statsService.onTaskChanged(before, after);
+
+        // Then: görev tamamlandığı için gecikmiş sayısı da düşer; öncelik değişmez
+        verify(statsRepository).adjust(new TaskStatsId(StatsScope.USER, 1L), -1, 0, 1, 0, 0, 0, -1);
+        verify(statsRepository).adjust(new TaskStatsId(StatsScope.TEAM, 5L), -1, 0, 1, 0, 0, 0, -1);
+        verify(statsRepository).adjust(new TaskStatsId(StatsScope.CATEGORY, 3L), -1, 0, 1, 0, 0, 0, -1);
+    }
+
+    @Test
+    void onTaskChanged_ShouldSkipScopesWithoutNetChange() {
+        // Given
+        when(teamRepository.findTeamIdsByMemberId(1L)).thenReturn(List.of(5L));
+        when(teamRepository.findTeamIdsByMemberId(2L)).thenReturn(List.of(5L));
+        TaskStatsSnapshot before = new TaskStatsSnapshot(1L, 3L, TaskStatus.TODO, TaskPriority.LOW, null);
+        TaskStatsSnapshot after = new TaskStatsSnapshot(2L, 3L, TaskStatus.TODO, TaskPriority.LOW, null);
+
+        // When
+        statsService.onTaskChanged(before, after);
+
+        // Then: aynı takım ve kategori içinde yeniden atama yalnızca kullanıcı sayaçlarını değiştirir
+        verify(statsRepository).adjust(new TaskStatsId(StatsScope.USER, 1L), -1, 0, 0, -1, 0, 0, 0);
+        verify(statsRepository).adjust(new TaskStatsId(StatsScope.USER, 2L), 1, 0, 0, 1, 0, 0, 0);
+        verifyNoMoreInteractions(statsRepository);
+    }
+
+    @Test
+    void getStats_ShouldComputeMissingRowFromTasks() {
+        // Given
+        TaskStatsId id = new TaskStatsId(StatsScope.CATEGORY, 3L);
+        List<TaskStatsRepository.StatsRow> rows = List.of(
+            row(3L, TaskStatus.TODO, TaskPriority.HIGH, 2, 1),
+            row(3L, TaskStatus.DONE, TaskPriority.LOW, 4, 0));
+        when(statsRepository.findById(id)).thenReturn(Optional.empty());
+        when(statsRepository.findCategoryRows(eq(3L), any())).thenReturn(rows);
+        when(statsRepository.save(any(TaskStats.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        TaskStats stats = statsService.getStats(StatsScope.CATEGORY, 3L);
+
+        // Then
+        assertThat(stats.getTodo()).isEqualTo(2);
+        assertThat(stats.getDone()).isEqualTo(4);
+        assertThat(stats.getHighPriority()).isEqualTo(2);
+        assertThat(stats.getLowPriority()).isEqualTo(4);
+        assertThat(stats.getOverdue()).isEqualTo(1);
+        verify(statsRepository).save(stats);
+    }
+
+    @Test
+    void getStats_ShouldNotPersistEmptyScope() {
+        // Given
+        TaskStatsId id = new TaskStatsId(StatsScope.USER, 9L);
+        when(statsRepository.findById(id)).thenReturn(Optional.empty());
+        when(statsRepository.findUserRows(eq(9L), any())).thenReturn(List.of());
+
+        // When
+        TaskStats stats = statsService.getStats(StatsScope.USER, 9L);
+
+        // Then
+        assertThat(stats.getTodo()).isZero();
+        verify(statsRepository, never()).save(any());
+        verify(statsRepository, never()).adjust(any(), anyLong(), anyLong(), anyLong(), anyLong(), anyLong(),
+            anyLong(), anyLong());
+    }
+
+    private TaskStatsRepository.StatsRow row(Long scopeId, TaskStatus status, TaskPriority priority,
+                                             long total, long overdue) {
+        TaskStatsRepository.StatsRow row = mock(TaskStatsRepository.StatsRow.class);
+        when(row.getScopeId()).thenReturn(scopeId);
+        when(row.getStatus()).thenReturn(status);
+        when(row.getPriority()).thenReturn(priority);
+        when(row.getTotal()).thenReturn(total);
+        when(row.getOverdue()).thenReturn(overdue);
+        return row;
+    }
+}
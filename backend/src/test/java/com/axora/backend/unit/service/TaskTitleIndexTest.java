@@ -0,0 +1,142 @@
+package com.axora.backend.unit.service;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import org.mockito.Mock;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import com.axora.backend.dto.task.TaskSuggestion;
+import com.axora.backend.entity.Task;
+import com.axora.backend.entity.User;
+import com.axora.backend.repository.TaskRepository;
+import com.axora.backend.service.TaskTitleIndex;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class TaskTitleIndexTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TaskTitleIndex index;
+    // Görev tablosunun güncel hali; adaylar buna karşı kontrol edilir
+    private final Map<Long, TaskSuggestion> database = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        index = new TaskTitleIndex(taskRepository, meterRegistry, 2);
+        lenient().when(taskRepository.findSuggestionsByIdIn(anyCollection())).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            return ids.stream().map(database::get).filter(Objects::nonNull).collect(Collectors.toList());
+        });
+    }
+
+    @Test
+    void rebuild_ShouldLoadTasksInChunksAndReportMetrics() {
+        // Given
+        when(taskRepository.findSuggestionChunk(0L, PageRequest.of(0, 2))).thenReturn(List.of(
+            stored(new TaskSuggestion(1L, "Rapor hatası", 7L)),
+            stored(new TaskSuggestion(2L, "Aylık rapor", 8L))));
+        when(taskRepository.findSuggestionChunk(2L, PageRequest.of(0, 2))).thenReturn(List.of(
+            stored(new TaskSuggestion(3L, "Müşteri raporları", null))));
+
+        // When
+        index.rebuild();
+
+        // Then
+        verify(taskRepository).findSuggestionChunk(2L, PageRequest.of(0, 2));
+        assertThat(index.suggest("rap", null, 10)).extracting(TaskSuggestion::getId).containsExactly(3L, 2L, 1L);
+        assertThat(meterRegistry.get("task.suggest.index.entries").gauge().value()).isEqualTo(3);
+        assertThat(meterRegistry.get("task.suggest.index.memory").gauge().value()).isPositive();
+        assertThat(meterRegistry.get("task.suggest.index.rebuild").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void suggest_ShouldMatchEveryWordPrefixAndFilterByAssignee() {
+        // Given
+        index.onTaskSaved(task(1L, "Rapor hatası", 7L));
+        index.onTaskSaved(task(2L, "Hata raporu şablonu", 8L));
+        index.onTaskSaved(task(3L, "Raporlama ekranı", 7L));
+        index.onTaskSaved(task(4L, "İSTANBUL ofisi", 7L));
+
+        // When & Then: kelime ortasındaki eşleşme ("aporu") sayılmaz
+        assertThat(index.suggest("hat rap", null, 10)).extracting(TaskSuggestion::getId).containsExactly(2L, 1L);
+        assertThat(index.suggest("hat rap", 7L, 10)).extracting(TaskSuggestion::getId).containsExactly(1L);
+        assertThat(index.suggest("apor", null, 10)).isEmpty();
+        assertThat(index.suggest("rap", null, 1)).extracting(TaskSuggestion::getId).containsExactly(3L);
+        assertThat(index.suggest("istan", 7L, 10)).extracting(TaskSuggestion::getTitle).containsExactly("İSTANBUL ofisi");
+        assertThat(index.suggest("r", null, 10)).isEmpty();
+    }
+
+    @Test
+    void hooks_ShouldReflectRenamesReassignmentsAndDeletes() {
+        // Given
+        index.onTaskSaved(task(1L, "Rapor hatası", 7L));
+        index.onTaskSaved(task(2L, "Sunucu bakımı", 7L));
+
+        // When
+        index.onTaskSaved(task(1L, "Fatura hatası", 7L));
+        index.onTaskSaved(task(2L, "Sunucu bakımı", 8L));
+        database.remove(2L);
+        index.onTasksDeleted(List.of(2L));
+
+        // Then
+        assertThat(index.suggest("rapor", null, 10)).isEmpty();
+        assertThat(index.suggest("fat", null, 10)).extracting(TaskSuggestion::getId).containsExactly(1L);
+        assertThat(index.suggest("sunucu", null, 10)).isEmpty();
+        assertThat(meterRegistry.get("task.suggest.index.entries").gauge().value()).isEqualTo(1);
+        assertThat(meterRegistry.get("task.suggest.index.tombstones").gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    void suggest_ShouldRecheckCandidatesChangedOnOtherNodes() {
+        // Given
+        index.onTaskSaved(task(1L, "Rapor hatası", 7L));
+        index.onTaskSaved(task(2L, "Rapor şablonu", 7L));
+        index.onTaskSaved(task(3L, "Raporlama ekranı", 7L));
+        index.onTaskSaved(task(4L, "Rapor arşivi", 7L));
+
+        // When: başka düğümde 1 yeniden atandı, 2 silindi, 3'ün başlığı değişti
+        stored(new TaskSuggestion(1L, "Rapor hatası", 8L));
+        database.remove(2L);
+        stored(new TaskSuggestion(3L, "Giriş ekranı", 7L));
+
+        // Then
+        assertThat(index.suggest("rap", 7L, 10)).extracting(TaskSuggestion::getId).containsExactly(4L);
+        assertThat(index.suggest("rap", null, 10)).extracting(TaskSuggestion::getId).containsExactly(4L, 1L);
+        assertThat(index.suggest("rap", null, 10)).filteredOn(suggestion -> suggestion.getId() == 1L)
+            .extracting(TaskSuggestion::getAssignedUserId).containsExactly(8L);
+    }
+
+    private TaskSuggestion stored(TaskSuggestion suggestion) {
+        database.put(suggestion.getId(), suggestion);
+        return suggestion;
+    }
+
+    // Kancalar commit sonrası çağrıldığından görev tabloda da güncellenir
+    private Task task(Long id, String title, Long assignedUserId) {
+        stored(new TaskSuggestion(id, title, assignedUserId));
+        return Task.builder()
+            .id(id)
+            .title(title)
+            .assignedUser(User.builder().id(assignedUserId).build())
+            .build();
+    }
+}
@@ -1,24 +1,30 @@
 package com.axora.backend.unit.service;
 
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import static org.mockito.ArgumentMatchers.any;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.axora.backend.dto.team.TeamRequest;
 import com.axora.backend.dto.team.TeamResponse;
+import com.axora.backend.dto.user.UserResponse;
+import com.axora.backend.entity.StatsScope;
 import com.axora.backend.entity.Team;
 import com.axora.backend.entity.User;
 import com.axora.backend.repository.TeamRepository;
 import com.axora.backend.repository.UserRepository;
+import com.axora.backend.service.TaskStatsService;
 import com.axora.backend.service.TeamService;
 import com.axora.backend.service.UserService;
 
@@ -34,6 +40,9 @@ class TeamServiceTest {
     @Mock
     private UserService userService;
 
+    @Mock
+    private TaskStatsService statsService;
+
     @InjectMocks
     private TeamService teamService;
 
@@ -59,8 +68,7 @@ class TeamServiceTest {
             .members(members)
             .build();
 
-        when(userRepository.findById(1L)).thenReturn(java.util.Optional.of(members.iterator().next()));
-        when(userRepository.findById(2L)).thenReturn(java.util.Optional.of(members.iterator().next()));
+        when(userRepository.findAllById(memberIds)).thenReturn(List.copyOf(members));
         when(teamRepository.save(any(Team.class))).thenReturn(savedTeam);
 
         // When
@@ -116,7 +124,7 @@ class TeamServiceTest {
             .members(members)
             .build();
 
-        when(teamRepository.findById(1L)).thenReturn(java.util.Optional.of(team));
+        when(teamRepository.findWithMembersById(1L)).thenReturn(java.util.Optional.of(team));
 
         // When
         TeamResponse response = teamService.getTeamById(1L);
@@ -148,9 +156,8 @@ class TeamServiceTest {
         request.setDescription("Updated Description");
         request.setMemberIds(memberIds);
 
-        when(teamRepository.findById(1L)).thenReturn(java.util.Optional.of(existingTeam));
-        when(userRepository.findById(1L)).thenReturn(java.util.Optional.of(members.iterator().next()));
-        when(userRepository.findById(2L)).thenReturn(java.util.Optional.of(members.iterator().next()));
+        when(teamRepository.findWithMembersById(1L)).thenReturn(java.util.Optional.of(existingTeam));
+        when(userRepository.findAllById(memberIds)).thenReturn(List.copyOf(members));
         when(teamRepository.save(any(Team.class))).thenReturn(existingTeam);
 
         // When
@@ -161,6 +168,54 @@ class TeamServiceTest {
         verify(teamRepository).save(any(Team.class));
     }
 
+    @Test
+    void updateTeam_ShouldOnlyLoadAndAddNewMembers() {
+        // Given
+        User kept = User.builder().id(1L).name("Kept").build();
+        User removed = User.builder().id(2L).name("Removed").build();
+        User added = User.builder().id(3L).name("Added").build();
+        Team existingTeam = Team.builder()
+            .id(1L)
+            .name("Team")
+            .active(true)
+            .members(new HashSet<>(Set.of(kept, removed)))
+            .build();
+
+        TeamRequest request = new TeamRequest();
+        request.setName("Team");
+        request.setMemberIds(Set.of(1L, 3L));
+
+        when(teamRepository.findWithMembersById(1L)).thenReturn(java.util.Optional.of(existingTeam));
+        when(userRepository.findAllById(Set.of(3L))).thenReturn(List.of(added));
+        when(teamRepository.save(any(Team.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        TeamResponse response = teamService.updateTeam(1L, request);
+
+        // Then
+        assertThat(existingTeam.getMembers()).containsExactlyInAnyOrder(kept, added);
+        assertThat(response.getMembers()).extracting(UserResponse::getId).containsExactlyInAnyOrder(1L, 3L);
+        verify(userRepository).findAllById(Set.of(3L));
+        verify(statsService).evict(StatsScope.TEAM, 1L);
+    }
+
+    @Test
+    void createTeam_ShouldReportMissingMemberIds() {
+        // Given
+        TeamRequest request = new TeamRequest();
+        request.setName("Test Team");
+        request.setMemberIds(Set.of(1L, 2L, 3L));
+
+        when(userRepository.findAllById(request.getMemberIds()))
+            .thenReturn(List.of(User.builder().id(1L).name("Member 1").build()));
+
+        // When & Then
+        assertThatThrownBy(() -> teamService.createTeam(request))
+            .isInstanceOf(RuntimeException.class)
+            .hasMessage("Kullanıcı bulunamadı: 2, 3");
+        verify(teamRepository, never()).save(any(Team.class));
+    }
+
     @Test
     void deleteTeam_ShouldDeleteTeam() {
         // Given
@@ -170,6 +225,7 @@ class TeamServiceTest {
         teamService.deleteTeam(1L);
 
         // Then
+        verify(statsService).evict(StatsScope.TEAM, 1L);
         verify(teamRepository).deleteById(1L);
     }
 } 
\ No newline at end of file
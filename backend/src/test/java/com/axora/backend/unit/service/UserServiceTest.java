@@ -23,6 +23,7 @@ import com.axora.backend.dto.user.UserResponse;
 import com.axora.backend.entity.Role;
 import com.axora.backend.entity.User;
 import com.axora.backend.repository.UserRepository;
+import com.axora.backend.security.PrincipalCache;
 import com.axora.backend.service.UserService;
 
 @ExtendWith(MockitoExtension.class)
@@ -34,6 +35,9 @@ class UserServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private PrincipalCache principalCache;
+
     @InjectMocks
     private UserService userService;
 
@@ -170,6 +174,7 @@ class UserServiceTest {
         // Then
         assertThat(response).isNotNull();
         verify(userRepository).save(any(User.class));
+        verify(principalCache).evict(1L);
     }
 
     @Test
@@ -189,6 +194,7 @@ class UserServiceTest {
 
         // Then
         verify(userRepository).save(any(User.class));
+        verify(principalCache).evict(1L);
     }
 
     @Test
@@ -67,7 +67,7 @@ export default function NotificationDropdown() {
                         <Button
                             variant="ghost"
                             size="sm"
-                            onClick={() => markAllAsReadMutation.mutate()}
+                            onClick={() => markAllAsReadMutation.mutate(notifications[0])}
                         >
                             Tümünü Okundu İşaretle
                         </Button>
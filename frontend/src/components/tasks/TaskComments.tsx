@@ -1,5 +1,5 @@
 import { useState } from "react";
-import { useQuery, useMutation, useQueryClient } from "@tanstack/react-query";
+import { useInfiniteQuery, useMutation, useQueryClient } from "@tanstack/react-query";
 import { taskService } from "@/services/taskService";
 import { Button } from "@/components/ui/button";
 import { Textarea } from "@/components/ui/textarea";
@@ -22,10 +22,13 @@ export default function TaskComments({ taskId }: TaskCommentsProps) {
     const queryClient = useQueryClient();
     const { user } = useAuthStore();
 
-    const { data: comments = [], isLoading } = useQuery({
+    const { data, isLoading, hasNextPage, fetchNextPage, isFetchingNextPage } = useInfiniteQuery({
         queryKey: ["taskComments", taskId],
-        queryFn: () => taskService.getTaskComments(taskId),
+        queryFn: ({ pageParam }) => taskService.getTaskComments(taskId, pageParam),
+        initialPageParam: undefined as string | undefined,
+        getNextPageParam: (lastPage) => lastPage.nextCursor,
     });
+    const comments = data?.pages.flatMap((page) => page.comments) ?? [];
 
     const mutation = useMutation({
         mutationFn: (content: string) => 
@@ -133,6 +136,15 @@ export default function TaskComments({ taskId }: TaskCommentsProps) {
                         <p className="mt-2">{comment.content}</p>
                     </div>
                 ))}
+                {hasNextPage && (
+                    <Button
+                        variant="outline"
+                        onClick={() => fetchNextPage()}
+                        disabled={isFetchingNextPage}
+                    >
+                        {isFetchingNextPage ? "Yükleniyor..." : "Daha fazla yorum"}
+                    </Button>
+                )}
             </div>
 
             <EditCommentDialog
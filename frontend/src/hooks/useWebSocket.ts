@@ -1,5 +1,6 @@
 import { useEffect, useRef } from 'react';
 import { Client } from '@stomp/stompjs';
+import { useQueryClient } from '@tanstack/react-query';
 import { useAuthStore } from '@/store/useAuthStore';
 import { useNotificationStore } from '@/store/useNotificationStore';
 import { toast } from '@/components/ui/use-toast';
@@ -8,6 +9,7 @@ export function useWebSocket() {
     const clientRef = useRef<Client | null>(null);
     const { user } = useAuthStore();
     const { addNotification } = useNotificationStore();
+    const queryClient = useQueryClient();
     const reconnectTimeoutRef = useRef<NodeJS.Timeout | undefined>(undefined);
 
     useEffect(() => {
@@ -30,6 +32,12 @@ export function useWebSocket() {
 
                 client.subscribe(`/user/${user.id}/notifications`, message => {
                     try {
+                        // Okunmamış sayısı aynı kanaldan gelir; bildirim olarak gösterilmez,
+                        // navbar rozetinin okuduğu sorgu önbelleğine yazılır
+                        if (message.headers['message-type'] === 'unread-count') {
+                            queryClient.setQueryData(['notifications', 'unread'], JSON.parse(message.body).unreadCount);
+                            return;
+                        }
                         const notification = JSON.parse(message.body);
                         addNotification(notification);
                         toast({
@@ -1,41 +1,16 @@
 import { useQuery } from "@tanstack/react-query"
 import { Users, CheckSquare, FolderKanban, Users2 } from "lucide-react"
 import StatsCard from "@/components/dashboard/StatsCard"
-import { userService } from "@/services/userService"
-import { taskService } from "@/services/taskService"
-import { categoryService } from "@/services/categoryService"
-import { teamService } from "@/services/teamService"
+import { dashboardService } from "@/services/dashboardService"
 import { TaskStatus } from "@/types/task"
 
 export default function AdminDashboard() {
-  const { data: users = [] } = useQuery({
-    queryKey: ["users"],
-    queryFn: () => userService.getUsers(),
+  const { data: dashboard } = useQuery({
+    queryKey: ["dashboard", "admin"],
+    queryFn: () => dashboardService.getAdminDashboard(),
   })
 
-  const { data: tasks = [] } = useQuery({
-    queryKey: ["tasks"],
-    queryFn: () => taskService.getTasks(),
-  })
-
-  const { data: categories = [] } = useQuery({
-    queryKey: ["categories"],
-    queryFn: () => categoryService.getCategories(),
-  })
-
-  const { data: teams = [] } = useQuery({
-    queryKey: ["teams"],
-    queryFn: () => teamService.getTeams(),
-  })
-
-  const activeTasks = tasks.filter(task => task.status !== TaskStatus.DONE)
-  const thisMonth = new Date()
-  const tasksThisMonth = tasks.filter(task => {
-    const createdDate = new Date(task.createdAt)
-    return createdDate.getMonth() === thisMonth.getMonth()
-  })
-
-  const activeTeams = teams.filter(team => team.active)
+  const recentUsers = dashboard?.recentUsers ?? []
 
   return (
     <div className="space-y-6">
@@ -49,27 +24,27 @@ export default function AdminDashboard() {
       <div className="grid gap-4 md:grid-cols-2 lg:grid-cols-4">
         <StatsCard
           title="Toplam Kullanıcı"
-          value={users.length}
+          value={dashboard?.totalUsers ?? 0}
           icon={Users}
           className="bg-white/50 backdrop-blur-lg border-white/20 shadow-lg hover:shadow-xl transition-all"
         />
         <StatsCard
           title="Aktif Görevler"
-          value={activeTasks.length}
+          value={dashboard?.activeTasks ?? 0}
           icon={CheckSquare}
           description="Bu ay oluşturulan"
-          trend={{ value: tasksThisMonth.length, isPositive: true }}
+          trend={{ value: dashboard?.createdThisMonth ?? 0, isPositive: true }}
         />
         <StatsCard
           title="Kategoriler"
-          value={categories.length}
+          value={dashboard?.totalCategories ?? 0}
           icon={FolderKanban}
         />
         <StatsCard
           title="Takımlar"
-          value={teams.length}
+          value={dashboard?.totalTeams ?? 0}
           icon={Users2}
-          description={`${activeTeams.length} aktif takım`}
+          description={`${dashboard?.activeTeams ?? 0} aktif takım`}
         />
       </div>
 
@@ -80,11 +55,9 @@ export default function AdminDashboard() {
               <h3 className="text-lg font-medium">Son Eklenen Kullanıcılar</h3>
             </div>
             <div className="p-6 pt-0">
-              {users.length > 0 ? (
+              {recentUsers.length > 0 ? (
                 <div className="space-y-4">
-                  {users
-                    .sort((a, b) => new Date(b.createdAt).getTime() - new Date(a.createdAt).getTime())
-                    .slice(0, 5)
+                  {recentUsers
                     .map(user => (
                       <div key={user.id} className="flex items-center justify-between">
                         <div>
@@ -108,24 +81,24 @@ export default function AdminDashboard() {
               <h3 className="text-lg font-medium">Görev Durumları</h3>
             </div>
             <div className="p-6 pt-0">
-              {tasks.length > 0 ? (
+              {dashboard && dashboard.totalTasks > 0 ? (
                 <div className="space-y-4">
                   <div className="flex items-center justify-between">
                     <div>Yapılacak</div>
                     <div className="font-medium">
-                      {tasks.filter(t => t.status === TaskStatus.TODO).length}
+                      {dashboard.tasksByStatus[TaskStatus.TODO]}
                     </div>
                   </div>
                   <div className="flex items-center justify-between">
                     <div>Devam Eden</div>
                     <div className="font-medium">
-                      {tasks.filter(t => t.status === TaskStatus.IN_PROGRESS).length}
+                      {dashboard.tasksByStatus[TaskStatus.IN_PROGRESS]}
                     </div>
                   </div>
                   <div className="flex items-center justify-between">
                     <div>Tamamlanan</div>
                     <div className="font-medium">
-                      {tasks.filter(t => t.status === TaskStatus.DONE).length}
+                      {dashboard.tasksByStatus[TaskStatus.DONE]}
                     </div>
                   </div>
                 </div>
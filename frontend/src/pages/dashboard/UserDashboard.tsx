@@ -2,6 +2,7 @@ import { useQuery } from "@tanstack/react-query"
 import { CheckSquare, Clock, AlertCircle, CheckCircle2 } from "lucide-react"
 import StatsCard from "@/components/dashboard/StatsCard"
 import { taskService } from "@/services/taskService"
+import { dashboardService } from "@/services/dashboardService"
 import { TaskStatus } from "@/types/task"
 import { Card, CardContent, CardHeader, CardTitle } from "@/components/ui/card"
 import { Badge } from "@/components/ui/badge"
@@ -13,6 +14,11 @@ export default function UserDashboard() {
     queryFn: () => taskService.getMyTasks(),
   })
 
+  const { data: dashboard } = useQuery({
+    queryKey: ["dashboard", "me"],
+    queryFn: () => dashboardService.getMyDashboard(),
+  })
+
   if (isLoading) {
     return <div>Yükleniyor...</div>
   }
@@ -25,18 +31,9 @@ export default function UserDashboard() {
     nextWeek.setDate(today.getDate() + 7)
     return task.status !== TaskStatus.DONE && dueDate <= nextWeek
   })
-  const overdueTasks = tasks.filter(task => {
-    const dueDate = new Date(task.dueDate)
-    const today = new Date()
-    return task.status !== TaskStatus.DONE && dueDate < today
-  })
-  const completedTasks = tasks.filter(task => task.status === TaskStatus.DONE)
-
-  const thisMonth = new Date()
-  const completedThisMonth = completedTasks.filter(task => {
-    const completedDate = new Date(task.updatedAt)
-    return completedDate.getMonth() === thisMonth.getMonth()
-  })
+  const upcomingCount = dashboard?.upcomingTasks ?? 0
+  const overdueCount = dashboard?.overdueTasks ?? 0
+  const completedThisMonth = dashboard?.completedThisMonth ?? 0
 
   return (
     <div className="space-y-6">
@@ -50,29 +47,29 @@ export default function UserDashboard() {
       <div className="grid gap-4 md:grid-cols-2 lg:grid-cols-4">
         <StatsCard
           title="Aktif Görevler"
-          value={activeTasks.length}
+          value={dashboard?.activeTasks ?? 0}
           icon={CheckSquare}
           className="bg-white/50 backdrop-blur-lg border-white/20 shadow-lg hover:shadow-xl transition-all"
         />
         <StatsCard
           title="Yaklaşan Teslim"
-          value={upcomingTasks.length}
+          value={upcomingCount}
           icon={Clock}
           description="Bu hafta"
-          trend={upcomingTasks.length > 0 ? { value: upcomingTasks.length, isPositive: false } : undefined}
+          trend={upcomingCount > 0 ? { value: upcomingCount, isPositive: false } : undefined}
         />
         <StatsCard
           title="Geciken"
-          value={overdueTasks.length}
+          value={overdueCount}
           icon={AlertCircle}
-          trend={overdueTasks.length > 0 ? { value: overdueTasks.length, isPositive: false } : undefined}
+          trend={overdueCount > 0 ? { value: overdueCount, isPositive: false } : undefined}
         />
         <StatsCard
           title="Tamamlanan"
-          value={completedThisMonth.length}
+          value={completedThisMonth}
           icon={CheckCircle2}
           description="Bu ay"
-          trend={completedThisMonth.length > 0 ? { value: completedThisMonth.length, isPositive: true } : undefined}
+          trend={completedThisMonth > 0 ? { value: completedThisMonth, isPositive: true } : undefined}
         />
       </div>
 
@@ -1,5 +1,5 @@
 import { useState } from "react"
-import { useQuery, useMutation, useQueryClient } from "@tanstack/react-query"
+import { useInfiniteQuery, useMutation, useQueryClient } from "@tanstack/react-query"
 import { Plus, Trash2 } from "lucide-react"
 import { Button } from "@/components/ui/button"
 import { Badge } from "@/components/ui/badge"
@@ -19,11 +19,17 @@ export default function TasksPage() {
   const queryClient = useQueryClient()
   const navigate = useNavigate()
 
-  const { data: tasks = [], isLoading, isError, error } = useQuery({
+  // Yönetici listesi sayfalıdır; kullanıcının kendi görevleri tek sayfada gelir
+  const { data, isLoading, isError, error, hasNextPage, fetchNextPage, isFetchingNextPage } = useInfiniteQuery({
     queryKey: ["tasks"],
-    queryFn: () => isAdmin() ? taskService.getTasks() : taskService.getMyTasks(),
+    queryFn: async ({ pageParam }) => isAdmin()
+      ? taskService.getTasks(undefined, pageParam)
+      : { tasks: await taskService.getMyTasks(), nextCursor: undefined },
+    initialPageParam: undefined as string | undefined,
+    getNextPageParam: (lastPage) => lastPage.nextCursor,
     enabled: isAuthenticated(),
   })
+  const tasks = data?.pages.flatMap((page) => page.tasks) ?? []
 
   const deleteMutation = useMutation({
     mutationFn: (id: number) => taskService.deleteTask(id),
@@ -155,6 +161,18 @@ export default function TasksPage() {
         </table>
       </div>
 
+      {hasNextPage && (
+        <div className="flex justify-center">
+          <Button
+            variant="outline"
+            onClick={() => fetchNextPage()}
+            disabled={isFetchingNextPage}
+          >
+            {isFetchingNextPage ? "Yükleniyor..." : "Daha fazla görev"}
+          </Button>
+        </div>
+      )}
+
       {isAdmin() && (
         <>
           <TaskFormDialog
@@ -0,0 +1,12 @@
+import axios from "@/lib/axios"
+import { AdminDashboard, UserDashboard } from "@/types/dashboard"
+
+export const dashboardService = {
+  getAdminDashboard: () => {
+    return axios.get<AdminDashboard>("/api/dashboard/admin").then((res) => res.data)
+  },
+
+  getMyDashboard: () => {
+    return axios.get<UserDashboard>("/api/dashboard/me").then((res) => res.data)
+  }
+}
@@ -28,9 +28,12 @@ export const notificationService = {
         }
     },
 
-    markAllAsRead: async () => {
+    // Verilen bildirim ve ondan eskiler okundu olur; arada gelenler okunmamış kalır
+    markAllAsRead: async (upTo?: Pick<Notification, 'id' | 'createdAt'>) => {
         try {
-            await axios.patch('/api/notifications/read-all');
+            await axios.patch('/api/notifications/read-all', null, {
+                params: upTo && { upToCreatedAt: upTo.createdAt, upToId: upTo.id },
+            });
         } catch (error) {
             throw error;
         }
@@ -10,10 +10,16 @@ const handleError = (error: any) => {
 }
 
 export const taskService = {
-  getTasks: async (filters?: TaskFilter) => {
+  // Görevler sayfa sayfa gelir; sonraki sayfanın imleci X-Next-Cursor başlığındadır
+  getTasks: async (filters?: TaskFilter, cursor?: string) => {
     try {
-      const response = await axios.get<Task[]>("/tasks", { params: filters })
-      return response.data
+      const response = await axios.get<Task[]>("/tasks", {
+        params: cursor ? { ...filters, cursor } : filters
+      })
+      return {
+        tasks: response.data,
+        nextCursor: (response.headers["x-next-cursor"] as string | undefined) ?? undefined
+      }
     } catch (error) {
       throw handleError(error)
     }
@@ -82,10 +88,16 @@ export const taskService = {
     }
   },
 
-  getTaskComments: async (taskId: number) => {
+  // Yorumlar sayfa sayfa gelir; sonraki sayfanın imleci X-Next-Cursor başlığındadır
+  getTaskComments: async (taskId: number, cursor?: string) => {
     try {
-      const response = await axios.get<CommentResponse[]>(`/tasks/${taskId}/comments`)
-      return response.data
+      const response = await axios.get<CommentResponse[]>(`/tasks/${taskId}/comments`, {
+        params: cursor ? { cursor } : undefined
+      })
+      return {
+        comments: response.data,
+        nextCursor: (response.headers["x-next-cursor"] as string | undefined) ?? undefined
+      }
     } catch (error) {
       throw handleError(error)
     }
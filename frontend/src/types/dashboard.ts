@@ -0,0 +1,24 @@
+import { TaskStatus } from "./task"
+import { User } from "./user"
+
+export interface AdminDashboard {
+  totalUsers: number
+  totalCategories: number
+  totalTeams: number
+  activeTeams: number
+  totalTasks: number
+  activeTasks: number
+  createdThisMonth: number
+  overdueTasks: number
+  tasksByStatus: Record<TaskStatus, number>
+  recentUsers: Pick<User, "id" | "name" | "email">[]
+}
+
+export interface UserDashboard {
+  totalTasks: number
+  activeTasks: number
+  upcomingTasks: number
+  overdueTasks: number
+  completedThisMonth: number
+  tasksByStatus: Record<TaskStatus, number>
+}
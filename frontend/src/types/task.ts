@@ -23,6 +23,7 @@ export interface Task {
   assignedUser: string
   createdAt: string
   updatedAt: string
+  commentCount: number
 }
 
 export interface CreateTaskRequest {
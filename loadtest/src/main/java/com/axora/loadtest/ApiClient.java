@@ -0,0 +1,142 @@
+package com.axora.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Backend REST uçları için ince istemci. Her çağrı verilen işlem adıyla rapora yazılır; 4xx/5xx
+ * yanıtlar ve bağlantı hataları hata olarak sayılır, senaryo çalışmaya devam eder.
+ */
+final class ApiClient {
+
+    private final HttpClient http;
+    private final URI baseUri;
+    private final Duration timeout;
+    private final LatencyReport report;
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    ApiClient(URI baseUri, Duration timeout, ExecutorService executor, LatencyReport report) {
+        this.http = HttpClient.newBuilder()
+            .connectTimeout(timeout)
+            .executor(executor)
+            .build();
+        this.baseUri = baseUri;
+        this.timeout = timeout;
+        this.report = report;
+    }
+
+    HttpClient http() {
+        return http;
+    }
+
+    LatencyReport report() {
+        return report;
+    }
+
+    Session login(String email, String password) {
+        Response response = send(null, "auth.login", "POST", "/auth/login",
+            mapper.createObjectNode().put("email", email).put("password", password));
+        if (!response.isSuccess()) {
+            throw new IllegalStateException("Giriş başarısız: " + email + " (HTTP " + response.status + ")");
+        }
+        JsonNode body = response.json();
+        JsonNode user = body.get("user");
+        return new Session(email, body.get("token").asText(), user.get("id").asLong(),
+            "ROLE_ADMIN".equals(user.get("role").asText()));
+    }
+
+    Response get(Session session, String operation, String path) {
+        return send(session, operation, "GET", path, null);
+    }
+
+    Response post(Session session, String operation, String path, Object body) {
+        return send(session, operation, "POST", path, body);
+    }
+
+    Response patch(Session session, String operation, String path) {
+        return send(session, operation, "PATCH", path, null);
+    }
+
+    private Response send(Session session, String operation, String method, String path, Object body) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(baseUri.resolve(path)).timeout(timeout);
+        if (session != null) {
+            request.header("Authorization", "Bearer " + session.token);
+        }
+        try {
+            if (body != null) {
+                request.header("Content-Type", "application/json")
+                    .method(method, HttpRequest.BodyPublishers.ofByteArray(mapper.writeValueAsBytes(body)));
+            } else {
+                request.method(method, HttpRequest.BodyPublishers.noBody());
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException("İstek gövdesi yazılamadı", e);
+        }
+
+        long started = System.nanoTime();
+        try {
+            HttpResponse<String> response = http.send(request.build(), HttpResponse.BodyHandlers.ofString());
+            Response result = new Response(response.statusCode(), response.body(),
+                response.headers().firstValue("X-Next-Cursor").orElse(null));
+            report.record(operation, System.nanoTime() - started, result.isSuccess());
+            return result;
+        } catch (IOException e) {
+            report.record(operation, System.nanoTime() - started, false);
+            return new Response(-1, e.toString(), null);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new Response(-1, "kesildi", null);
+        }
+    }
+
+    ObjectMapper mapper() {
+        return mapper;
+    }
+
+    final class Response {
+        final int status;
+        final String body;
+        final String nextCursor;
+
+        private Response(int status, String body, String nextCursor) {
+            this.status = status;
+            this.body = body;
+            this.nextCursor = nextCursor;
+        }
+
+        boolean isSuccess() {
+            return status >= 200 && status < 300;
+        }
+
+        JsonNode json() {
+            try {
+                return mapper.readTree(body);
+            } catch (IOException e) {
+                throw new IllegalStateException("Yanıt JSON değil: " + body, e);
+            }
+        }
+    }
+
+    // Giriş yapmış kullanıcı; aynı hesap birden fazla sanal kullanıcı tarafından paylaşılabilir
+    static final class Session {
+        final String email;
+        final String token;
+        final long userId;
+        final boolean admin;
+
+        Session(String email, String token, long userId, boolean admin) {
+            this.email = email;
+            this.token = token;
+            this.userId = userId;
+            this.admin = admin;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.axora.loadtest;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Yorum patlaması: sanal kullanıcılar az sayıda "sıcak" göreve art arda yorum yazar ve yorum
+ * listesinin ilk sayfasını yeniden yükler. Sıcak görevler oturum açmış kullanıcılara atanmış
+ * görevlerden seçilir; bildirim kanalı açıksa atanan kişiye bildirimin ulaşma süresi de ölçülür.
+ */
+final class CommentBurstScenario implements Scenario {
+
+    private static final int TASKS_PER_ASSIGNEE = 5;
+
+    private final int hotTaskCount;
+    private final int burstSize;
+    private final boolean trackPush;
+    private final List<HotTask> hotTasks = new ArrayList<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    CommentBurstScenario(int hotTaskCount, int burstSize, boolean trackPush) {
+        this.hotTaskCount = hotTaskCount;
+        this.burstSize = burstSize;
+        this.trackPush = trackPush;
+    }
+
+    @Override
+    public String name() {
+        return "comments";
+    }
+
+    @Override
+    public void prepare(ApiClient client, ApiClient.Session admin, List<ApiClient.Session> sessions) {
+        Set<Long> assignees = new LinkedHashSet<>();
+        sessions.forEach(session -> assignees.add(session.userId));
+        for (Long assigneeId : assignees) {
+            if (hotTasks.size() >= hotTaskCount) {
+                break;
+            }
+            String path = "/tasks?assignedUserId=" + assigneeId + "&size=" + TASKS_PER_ASSIGNEE;
+            for (JsonNode task : client.get(admin, "prepare", path).json()) {
+                hotTasks.add(new HotTask(task.get("id").asLong(), assigneeId));
+            }
+        }
+        if (hotTasks.isEmpty()) {
+            throw new IllegalStateException("Sanal kullanıcılara atanmış görev bulunamadı; önce veri üretilmelidir");
+        }
+    }
+
+    @Override
+    public void iterate(ApiClient client, ApiClient.Session session) {
+        HotTask task = hotTasks.get(ThreadLocalRandom.current().nextInt(hotTasks.size()));
+        String path = "/tasks/" + task.id + "/comments";
+        for (int i = 0; i < burstSize; i++) {
+            String tag = NotificationSocket.TAG_PREFIX + sequence.incrementAndGet();
+            // Kullanıcı kendi görevine yorum yazınca bildirim gitmez
+            if (trackPush && task.assigneeId != session.userId) {
+                NotificationSocket.expect(tag);
+            }
+            client.post(session, "comments.add", path,
+                client.mapper().createObjectNode().put("content", "Yük testi yorumu " + tag));
+        }
+        client.get(session, "comments.list", path);
+    }
+
+    private static final class HotTask {
+        private final long id;
+        private final long assigneeId;
+
+        private HotTask(long id, long assigneeId) {
+            this.id = id;
+            this.assigneeId = assigneeId;
+        }
+    }
+}
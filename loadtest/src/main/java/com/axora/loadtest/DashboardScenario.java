@@ -0,0 +1,23 @@
+package com.axora.loadtest;
+
+/**
+ * Uygulama açılışı: gösterge paneli ve okunmamış bildirim sayısı. Yöneticiler genel paneli,
+ * diğer kullanıcılar kendi panellerini yükler.
+ */
+final class DashboardScenario implements Scenario {
+
+    @Override
+    public String name() {
+        return "dashboard";
+    }
+
+    @Override
+    public void iterate(ApiClient client, ApiClient.Session session) {
+        if (session.admin) {
+            client.get(session, "dashboard.admin", "/api/dashboard/admin");
+        } else {
+            client.get(session, "dashboard.me", "/api/dashboard/me");
+        }
+        client.get(session, "notifications.unread-count", "/api/notifications/unread/count");
+    }
+}
@@ -0,0 +1,456 @@
+package com.axora.loadtest;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Yük testi için büyük veri seti üretir: kullanıcılar, kategoriler, görevler, yorumlar ve
+ * bildirimler JDBC batch ile doğrudan tablolara yazılır. Şema backend tarafından oluşturulur
+ * (ddl-auto=update); üretici mevcut kayıtlara dokunmaz, id'leri en büyük mevcut id'den devam
+ * ettirir ve bitince kimlik kolonlarını ve sequence'leri ileri alır.
+ *
+ * <p>Türetilmiş tablolar (görev istatistikleri, okunmamış sayaçları) silinir; backend bunları
+ * ilk okumada yeniden hesaplar. Öneri indeksi backend açılışında kurulduğu için veri backend
+ * durdurulmuşken üretilmelidir.
+ */
+public final class DataGenerator {
+
+    // development/data.sql'deki test kullanıcısının şifresi (test123)
+    static final String PASSWORD = "test123";
+    static final String EMAIL_FORMAT = "load.user%d@axora.test";
+    static final int ADMIN_EVERY = 50;
+
+    private static final String PASSWORD_HASH = "$2a$10$vwZTD3YWZtBH8i9hHIJqB.0SELfJ4NWZ7.jVqEaM1.9WUuXk/Dwz.";
+    private static final int PROGRESS_EVERY = 100_000;
+    private static final int MAX_COMMENTS_PER_TASK = 5_000;
+
+    // Entity'lerdeki @SequenceGenerator tanımları; değer backend ile aynı tutulmalıdır
+    private static final Map<String, String> SEQUENCES = Map.of(
+        "tasks", "tasks_seq",
+        "task_comments", "task_comments_seq",
+        "notifications", "notifications_seq");
+    private static final int SEQUENCE_ALLOCATION_SIZE = 50;
+
+    static final String[] WORDS = {
+        "rapor", "hata", "müşteri", "fatura", "sunucu", "bakım", "güncelleme", "ekran", "tasarım",
+        "veritabanı", "yedekleme", "entegrasyon", "ödeme", "bildirim", "performans", "güvenlik",
+        "kullanıcı", "yetki", "arama", "filtre", "mobil", "dokümantasyon", "test", "dağıtım",
+        "sözleşme", "toplantı", "sunum", "analiz", "kampanya", "stok", "sipariş", "iade", "kargo",
+        "destek", "talep", "şikayet", "eğitim", "bütçe", "tedarikçi", "lisans", "sertifika", "log",
+        "izleme", "alarm", "önbellek", "kuyruk", "e-posta", "şablon", "aylık", "haftalık", "acil"
+    };
+    private static final String[] STATUSES = {"TODO", "IN_PROGRESS", "DONE"};
+    private static final String[] PRIORITIES = {"LOW", "MEDIUM", "HIGH"};
+    private static final String[] NOTIFICATION_TYPES = {"TASK_ASSIGNED", "TASK_STATUS_CHANGED", "TASK_COMMENTED", "TASK_OVERDUE"};
+
+    private final Connection connection;
+    private final Database database;
+    private final Random random;
+    private final int batchSize;
+    private final LocalDateTime now = LocalDateTime.now();
+    private final LocalDate today = now.toLocalDate();
+
+    private DataGenerator(Connection connection, Random random, int batchSize) throws SQLException {
+        this.connection = connection;
+        this.database = Database.detect(connection);
+        this.random = random;
+        this.batchSize = batchSize;
+    }
+
+    public static void main(String[] args) throws SQLException {
+        String url = Settings.string("generate.jdbc-url",
+            "jdbc:postgresql://localhost:5434/axora_db?reWriteBatchedInserts=true");
+        String username = Settings.string("generate.jdbc-user", "postgres");
+        String password = Settings.string("generate.jdbc-password", "postgres");
+
+        try (Connection connection = DriverManager.getConnection(url, username, password)) {
+            connection.setAutoCommit(false);
+            DataGenerator generator = new DataGenerator(connection,
+                new Random(Settings.integer("generate.seed", 42)),
+                Settings.integer("generate.batch-size", 1_000));
+            generator.generate(
+                Settings.integer("generate.users", 1_000),
+                Settings.integer("generate.categories", 20),
+                Settings.integer("generate.tasks", 1_000_000),
+                Settings.integer("generate.comments", 3_000_000),
+                Settings.integer("generate.notifications", 2_000_000),
+                Settings.decimal("generate.overdue-ratio", 0.05));
+        }
+    }
+
+    private void generate(int userCount, int categoryCount, int taskCount, int commentCount,
+                          int notificationCount, double overdueRatio) throws SQLException {
+        if (userCount < 1 || categoryCount < 1) {
+            throw new IllegalArgumentException("En az bir kullanıcı ve bir kategori üretilmelidir");
+        }
+        requireSchema();
+        long started = System.nanoTime();
+
+        Users users = insertUsers(userCount);
+        long[] categoryIds = insertCategories(categoryCount);
+        long firstTaskId = maxId("tasks") + 1;
+        long comments = insertTasksAndComments(taskCount, (double) commentCount / Math.max(taskCount, 1),
+            overdueRatio, users, categoryIds);
+        if (taskCount > 0) {
+            insertNotifications(notificationCount, users.ids, firstTaskId, taskCount);
+        }
+
+        resetIdentities();
+        clearDerivedTables();
+        if (database == Database.POSTGRESQL) {
+            execute("ANALYZE");
+        }
+
+        System.out.printf("Tamamlandı (%s): %d kullanıcı, %d kategori, %d görev, %d yorum, %d bildirim%n",
+            Duration.ofNanos(System.nanoTime() - started).withNanos(0), userCount, categoryCount, taskCount,
+            comments, taskCount > 0 ? notificationCount : 0);
+        System.out.printf("Giriş: %s ... %s / %s (her %d. kullanıcı yönetici)%n",
+            String.format(EMAIL_FORMAT, users.firstIndex), String.format(EMAIL_FORMAT, users.firstIndex + userCount - 1),
+            PASSWORD, ADMIN_EVERY);
+    }
+
+    private Users insertUsers(int count) throws SQLException {
+        long firstIndex = count("SELECT COUNT(*) FROM users WHERE email LIKE 'load.user%'") + 1;
+        long id = maxId("users");
+        Users users = new Users(firstIndex, new long[count]);
+        try (Batch batch = new Batch("users", count,
+                "INSERT INTO users (id, name, email, password, role, active, created_at, updated_at) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < count; i++) {
+                long index = firstIndex + i;
+                // Görevlerin oluşturanı yönetici olmalı; her çalıştırmanın ilk kullanıcısı da yöneticidir
+                boolean admin = index % ADMIN_EVERY == 1 || i == 0;
+                PreparedStatement statement = batch.statement;
+                statement.setLong(1, ++id);
+                statement.setString(2, (admin ? "Yük Yöneticisi " : "Yük Kullanıcısı ") + index);
+                statement.setString(3, String.format(EMAIL_FORMAT, index));
+                statement.setString(4, PASSWORD_HASH);
+                statement.setString(5, admin ? "ROLE_ADMIN" : "ROLE_USER");
+                statement.setBoolean(6, true);
+                statement.setTimestamp(7, Timestamp.valueOf(now));
+                statement.setTimestamp(8, Timestamp.valueOf(now));
+                batch.add();
+                users.ids[i] = id;
+                if (admin) {
+                    users.adminIds.add(id);
+                }
+            }
+        }
+        return users;
+    }
+
+    private long[] insertCategories(int count) throws SQLException {
+        long id = maxId("categories");
+        long[] ids = new long[count];
+        try (Batch batch = new Batch("categories", count,
+                "INSERT INTO categories (id, name, color_code, description, active, created_at) VALUES (?, ?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < count; i++) {
+                PreparedStatement statement = batch.statement;
+                statement.setLong(1, ++id);
+                // Ad benzersiz olmalı; tekrar çalıştırmalarda id ile ayrışır
+                statement.setString(2, "Yük " + id);
+                statement.setString(3, String.format("#%06x", random.nextInt(0x1000000)));
+                statement.setString(4, "Yük testi kategorisi");
+                statement.setBoolean(5, true);
+                statement.setTimestamp(6, Timestamp.valueOf(now));
+                batch.add();
+                ids[i] = id;
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Görevler bir yıla yayılır ve id sırasıyla oluşturulur. Yorum sayıları üstel dağılır; çoğu
+     * görevde birkaç yorum, az sayıda görevde yoğun yorum trafiği olur. Yorumlar görevle birlikte
+     * üretildiği için comment_count ayrı bir güncellemeye gerek kalmadan doğru yazılır.
+     */
+    private long insertTasksAndComments(int taskCount, double averageComments, double overdueRatio,
+                                        Users users, long[] categoryIds) throws SQLException {
+        long taskId = maxId("tasks");
+        long commentId = maxId("task_comments");
+        long comments = 0;
+        Duration step = Duration.ofDays(365).dividedBy(Math.max(taskCount, 1));
+        LocalDateTime first = now.minusDays(365);
+
+        try (Batch tasks = new Batch("tasks", taskCount,
+                "INSERT INTO tasks (id, title, description, status, priority, category_id, assigned_user_id, "
+                    + "created_by_id, due_date, created_at, updated_at, comment_count) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)");
+             Batch commentBatch = new Batch("task_comments", -1,
+                "INSERT INTO task_comments (id, content, task_id, user_id, created_at) VALUES (?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < taskCount; i++) {
+                LocalDateTime createdAt = first.plus(step.multipliedBy(i));
+                String status = pick(STATUSES);
+                LocalDate dueDate = null;
+                if (random.nextDouble() < overdueRatio) {
+                    status = random.nextBoolean() ? "TODO" : "IN_PROGRESS";
+                    dueDate = today.minusDays(1 + random.nextInt(30));
+                } else if (random.nextInt(10) > 0) {
+                    dueDate = createdAt.toLocalDate().plusDays(1 + random.nextInt(60));
+                    if (dueDate.isBefore(today)) {
+                        status = "DONE";
+                    }
+                }
+                int taskComments = (int) Math.min(MAX_COMMENTS_PER_TASK,
+                    Math.round(-averageComments * Math.log(1 - random.nextDouble())));
+
+                PreparedStatement statement = tasks.statement;
+                statement.setLong(1, ++taskId);
+                statement.setString(2, title());
+                statement.setString(3, sentence(12));
+                statement.setString(4, status);
+                statement.setString(5, pick(PRIORITIES));
+                statement.setLong(6, categoryIds[random.nextInt(categoryIds.length)]);
+                statement.setLong(7, users.ids[random.nextInt(users.ids.length)]);
+                statement.setLong(8, users.adminIds.get(random.nextInt(users.adminIds.size())));
+                statement.setDate(9, dueDate != null ? Date.valueOf(dueDate) : null);
+                statement.setTimestamp(10, Timestamp.valueOf(createdAt));
+                statement.setTimestamp(11, Timestamp.valueOf(createdAt));
+                statement.setLong(12, taskComments);
+                tasks.add();
+
+                long age = Duration.between(createdAt, now).getSeconds();
+                for (int c = 0; c < taskComments; c++) {
+                    PreparedStatement comment = commentBatch.statement;
+                    comment.setLong(1, ++commentId);
+                    comment.setString(2, sentence(8));
+                    comment.setLong(3, taskId);
+                    comment.setLong(4, users.ids[random.nextInt(users.ids.length)]);
+                    comment.setTimestamp(5, Timestamp.valueOf(createdAt.plusSeconds((long) (random.nextDouble() * age))));
+                    commentBatch.add();
+                }
+                comments += taskComments;
+            }
+        }
+        return comments;
+    }
+
+    private void insertNotifications(int count, long[] userIds, long firstTaskId, int taskCount) throws SQLException {
+        long id = maxId("notifications");
+        long window = Duration.ofDays(90).getSeconds();
+        try (Batch batch = new Batch("notifications", count,
+                "INSERT INTO notifications (id, user_id, task_id, title, message, type, read, created_at, read_at) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < count; i++) {
+                String type = pick(NOTIFICATION_TYPES);
+                LocalDateTime createdAt = now.minusSeconds((long) (random.nextDouble() * window));
+                boolean read = random.nextInt(10) < 7;
+
+                PreparedStatement statement = batch.statement;
+                statement.setLong(1, ++id);
+                statement.setLong(2, userIds[random.nextInt(userIds.length)]);
+                statement.setLong(3, firstTaskId + random.nextInt(taskCount));
+                statement.setString(4, notificationTitle(type));
+                statement.setString(5, sentence(10));
+                statement.setString(6, type);
+                statement.setBoolean(7, read);
+                statement.setTimestamp(8, Timestamp.valueOf(createdAt));
+                statement.setTimestamp(9, read ? Timestamp.valueOf(createdAt.plusMinutes(random.nextInt(600))) : null);
+                batch.add();
+            }
+        }
+    }
+
+    // Backend'in sonraki insert'leri üretilen id'lerle çakışmasın
+    private void resetIdentities() throws SQLException {
+        for (String table : List.of("users", "categories", "tasks", "task_comments")) {
+            if (!SEQUENCES.containsKey(table)) {
+                database.resetIdentity(this, table, maxId(table) + 1);
+            }
+        }
+        for (Map.Entry<String, String> sequence : SEQUENCES.entrySet()) {
+            // Havuzlu sequence'te değer bloğun üst sınırıdır; bir blok ileri alınır
+            database.resetSequence(this, sequence.getValue(), maxId(sequence.getKey()) + SEQUENCE_ALLOCATION_SIZE);
+        }
+        connection.commit();
+    }
+
+    private void clearDerivedTables() throws SQLException {
+        execute("DELETE FROM task_stats");
+        execute("DELETE FROM notification_counters");
+        connection.commit();
+    }
+
+    private void requireSchema() throws SQLException {
+        try {
+            count("SELECT COUNT(*) FROM notification_counters");
+        } catch (SQLException e) {
+            throw new IllegalStateException(
+                "Şema bulunamadı; backend bu veritabanıyla bir kez başlatılıp şema oluşturulmalıdır", e);
+        }
+    }
+
+    private String title() {
+        String title = sentence(2 + random.nextInt(3));
+        return Character.toUpperCase(title.charAt(0)) + title.substring(1);
+    }
+
+    private String sentence(int words) {
+        StringBuilder sentence = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                sentence.append(' ');
+            }
+            sentence.append(pick(WORDS));
+        }
+        return sentence.toString();
+    }
+
+    private String notificationTitle(String type) {
+        switch (type) {
+            case "TASK_ASSIGNED":
+                return "Yeni Görev Atandı";
+            case "TASK_STATUS_CHANGED":
+                return "Görev Durumu Değişti";
+            case "TASK_COMMENTED":
+                return "Yeni Yorum";
+            default:
+                return "Görev Süresi Geçti";
+        }
+    }
+
+    private String pick(String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private long maxId(String table) throws SQLException {
+        return count("SELECT COALESCE(MAX(id), 0) FROM " + table);
+    }
+
+    long count(String sql) throws SQLException {
+        try (Statement statement = connection.createStatement(); ResultSet result = statement.executeQuery(sql)) {
+            result.next();
+            return result.getLong(1);
+        }
+    }
+
+    void execute(String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private static final class Users {
+        private final long firstIndex;
+        private final long[] ids;
+        private final List<Long> adminIds = new ArrayList<>();
+
+        private Users(long firstIndex, long[] ids) {
+            this.firstIndex = firstIndex;
+            this.ids = ids;
+        }
+    }
+
+    // Satırları batchSize'lık gruplar halinde gönderir; her grup ayrı commit edilir
+    private final class Batch implements AutoCloseable {
+        private final String table;
+        private final int total;
+        private final PreparedStatement statement;
+        private final long started = System.nanoTime();
+        private int pending;
+        private long written;
+        private long reported = -1;
+
+        private Batch(String table, int total, String sql) throws SQLException {
+            this.table = table;
+            this.total = total;
+            this.statement = connection.prepareStatement(sql);
+        }
+
+        private void add() throws SQLException {
+            statement.addBatch();
+            if (++pending == batchSize) {
+                flush();
+            }
+        }
+
+        private void flush() throws SQLException {
+            if (pending == 0) {
+                return;
+            }
+            long before = written;
+            statement.executeBatch();
+            connection.commit();
+            written += pending;
+            pending = 0;
+            if (before / PROGRESS_EVERY != written / PROGRESS_EVERY) {
+                report();
+            }
+        }
+
+        private void report() {
+            if (reported == written) {
+                return;
+            }
+            reported = written;
+            double seconds = Math.max((System.nanoTime() - started) / 1e9, 0.001);
+            System.out.printf("%-14s %,12d%s satır  %,10.0f satır/sn%n", table, written,
+                total > 0 ? String.format(" / %,d", total) : "", written / seconds);
+        }
+
+        @Override
+        public void close() throws SQLException {
+            try {
+                flush();
+                report();
+            } finally {
+                statement.close();
+            }
+        }
+    }
+
+    private enum Database {
+        POSTGRESQL {
+            @Override
+            void resetIdentity(DataGenerator generator, String table, long nextId) throws SQLException {
+                generator.execute(String.format("SELECT setval(pg_get_serial_sequence('%s', 'id'), %d, false)", table, nextId));
+            }
+
+            @Override
+            void resetSequence(DataGenerator generator, String sequence, long nextValue) throws SQLException {
+                generator.execute(String.format("SELECT setval('%s', %d, false)", sequence, nextValue));
+            }
+        },
+        H2 {
+            @Override
+            void resetIdentity(DataGenerator generator, String table, long nextId) throws SQLException {
+                generator.execute(String.format("ALTER TABLE %s ALTER COLUMN id RESTART WITH %d", table, nextId));
+            }
+
+            @Override
+            void resetSequence(DataGenerator generator, String sequence, long nextValue) throws SQLException {
+                generator.execute(String.format("ALTER SEQUENCE %s RESTART WITH %d", sequence, nextValue));
+            }
+        };
+
+        abstract void resetIdentity(DataGenerator generator, String table, long nextId) throws SQLException;
+
+        abstract void resetSequence(DataGenerator generator, String sequence, long nextValue) throws SQLException;
+
+        static Database detect(Connection connection) throws SQLException {
+            String product = connection.getMetaData().getDatabaseProductName();
+            switch (product) {
+                case "PostgreSQL":
+                    return POSTGRESQL;
+                case "H2":
+                    return H2;
+                default:
+                    throw new IllegalArgumentException("Desteklenmeyen veritabanı: " + product);
+            }
+        }
+    }
+}
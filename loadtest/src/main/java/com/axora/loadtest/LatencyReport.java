@@ -0,0 +1,85 @@
+package com.axora.loadtest;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * İşlem başına gecikme dağılımı. Değerler mikrosaniye çözünürlükle HdrHistogram'a yazılır;
+ * ısınma süresince gelen ölçümler {@link #start()} çağrılana kadar atılır.
+ */
+final class LatencyReport {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(2);
+
+    private final Map<String, Operation> operations = new ConcurrentSkipListMap<>();
+    private volatile boolean recording;
+    private volatile long startedAt;
+
+    void start() {
+        operations.values().forEach(Operation::reset);
+        startedAt = System.nanoTime();
+        recording = true;
+    }
+
+    void stop() {
+        recording = false;
+    }
+
+    void record(String operation, long elapsedNanos, boolean success) {
+        if (!recording) {
+            return;
+        }
+        Operation stats = operations.computeIfAbsent(operation, name -> new Operation());
+        stats.latencies.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(elapsedNanos), HIGHEST_TRACKABLE_MICROS));
+        if (!success) {
+            stats.errors.increment();
+        }
+    }
+
+    double errorRate() {
+        long total = 0;
+        long errors = 0;
+        for (Operation stats : operations.values()) {
+            total += stats.latencies.getTotalCount();
+            errors += stats.errors.sum();
+        }
+        return total == 0 ? 0 : (double) errors / total;
+    }
+
+    void print(PrintStream out) {
+        double seconds = Math.max((System.nanoTime() - startedAt) / 1e9, 0.001);
+        out.printf("%nÖlçüm süresi: %s%n", Duration.ofMillis((long) (seconds * 1000)));
+        out.printf("%-28s %9s %8s %9s %9s %9s %9s %9s %7s%n",
+            "işlem", "adet", "istek/sn", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "maks ms", "hata");
+        operations.forEach((name, stats) -> {
+            Histogram latencies = stats.latencies.copy();
+            out.printf("%-28s %9d %8.1f %9.1f %9.1f %9.1f %9.1f %9.1f %7d%n",
+                name, latencies.getTotalCount(), latencies.getTotalCount() / seconds,
+                millis(latencies.getValueAtPercentile(50)), millis(latencies.getValueAtPercentile(90)),
+                millis(latencies.getValueAtPercentile(99)), millis(latencies.getValueAtPercentile(99.9)),
+                millis(latencies.getMaxValue()), stats.errors.sum());
+        });
+        out.printf("Hata oranı: %.2f%%%n", errorRate() * 100);
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+    private static final class Operation {
+        private final Histogram latencies = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+        private final LongAdder errors = new LongAdder();
+
+        private void reset() {
+            latencies.reset();
+            errors.reset();
+        }
+    }
+}
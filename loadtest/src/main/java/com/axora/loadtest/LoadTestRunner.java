@@ -0,0 +1,177 @@
+package com.axora.loadtest;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Kapalı model yük testi: her sanal kullanıcı kendi iş parçacığında bir senaryoyu bekleme
+ * süresiyle döngüde çalıştırır. Sanal kullanıcılar seçilen senaryolara sırayla dağıtılır ve
+ * {@link DataGenerator}'ün ürettiği hesaplarla giriş yapar. Isınmadan sonraki ölçümler işlem
+ * başına yüzdelik gecikmelerle raporlanır; hata oranı eşiği aşılırsa çıkış kodu 1 olur.
+ */
+public final class LoadTestRunner {
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        URI baseUri = URI.create(Settings.string("loadtest.base-url", "http://localhost:8080"));
+        int virtualUsers = Settings.integer("loadtest.users", 50);
+        int accounts = Settings.integer("loadtest.accounts", 1_000);
+        Duration warmup = Settings.duration("loadtest.warmup", Duration.ofSeconds(15));
+        Duration duration = Settings.duration("loadtest.duration", Duration.ofMinutes(2));
+        Duration thinkTime = Settings.duration("loadtest.think-time", Duration.ofMillis(500));
+        Duration timeout = Settings.duration("loadtest.timeout", Duration.ofSeconds(30));
+        boolean sockets = Boolean.parseBoolean(Settings.string("loadtest.sockets", "true"));
+        String origin = Settings.string("loadtest.origin", "http://localhost:5173");
+        double maxErrorRate = Settings.decimal("loadtest.max-error-rate", 0.01);
+        List<Scenario> scenarios = new ArrayList<>();
+        for (String name : Settings.list("loadtest.scenarios", "dashboard,tasks,comments,overdue")) {
+            scenarios.add(scenario(name, sockets));
+        }
+
+        System.out.printf("Hedef %s, %d sanal kullanıcı, senaryolar %s, ısınma %s, ölçüm %s%n",
+            baseUri, virtualUsers, Settings.list("loadtest.scenarios", "dashboard,tasks,comments,overdue"),
+            warmup, duration);
+
+        // Java 17: sanal kullanıcı başına bir platform iş parçacığı
+        ExecutorService workers = Executors.newFixedThreadPool(virtualUsers);
+        ExecutorService io = Executors.newCachedThreadPool();
+        LatencyReport setup = new LatencyReport();
+        LatencyReport report = new LatencyReport();
+        setup.start();
+        ApiClient setupClient = new ApiClient(baseUri, timeout, io, setup);
+        ApiClient client = new ApiClient(baseUri, timeout, io, report);
+
+        try {
+            List<VirtualUser> users = login(setupClient, workers, scenarios, virtualUsers, accounts);
+            List<ApiClient.Session> sessions = new ArrayList<>();
+            users.forEach(user -> sessions.add(user.session));
+            ApiClient.Session admin = setupClient.login(String.format(DataGenerator.EMAIL_FORMAT, 1), DataGenerator.PASSWORD);
+            for (Scenario scenario : scenarios) {
+                scenario.prepare(setupClient, admin, sessions);
+            }
+
+            List<NotificationSocket> openSockets = new ArrayList<>();
+            if (sockets) {
+                Map<Long, ApiClient.Session> distinct = new LinkedHashMap<>();
+                sessions.forEach(session -> distinct.putIfAbsent(session.userId, session));
+                for (ApiClient.Session session : distinct.values()) {
+                    openSockets.add(NotificationSocket.open(client.http(), baseUri, origin, session.userId, setup, report));
+                }
+            }
+            setup.stop();
+
+            long deadline = System.nanoTime() + warmup.plus(duration).toNanos();
+            List<Future<?>> running = new ArrayList<>();
+            for (VirtualUser user : users) {
+                running.add(workers.submit(() -> user.run(client, thinkTime, deadline)));
+            }
+            TimeUnit.NANOSECONDS.sleep(warmup.toNanos());
+            report.start();
+            for (Future<?> future : running) {
+                future.get();
+            }
+            report.stop();
+            openSockets.forEach(NotificationSocket::close);
+
+            System.out.printf("%nHazırlık%n");
+            setup.print(System.out);
+            System.out.printf("%nÖlçüm%n");
+            report.print(System.out);
+            if (sockets) {
+                System.out.printf("Bildirim kanalı: %d mesaj alındı, %d yorum bildirimi ulaşmadı%n",
+                    NotificationSocket.received(), NotificationSocket.undelivered());
+            }
+        } finally {
+            workers.shutdownNow();
+            io.shutdownNow();
+        }
+
+        if (report.errorRate() > maxErrorRate) {
+            System.out.printf("Hata oranı eşiği aşıldı (%.2f%%)%n", maxErrorRate * 100);
+            System.exit(1);
+        }
+        System.exit(0);
+    }
+
+    private static Scenario scenario(String name, boolean sockets) {
+        switch (name) {
+            case "dashboard":
+                return new DashboardScenario();
+            case "tasks":
+                return new TaskListScenario();
+            case "comments":
+                return new CommentBurstScenario(Settings.integer("loadtest.hot-tasks", 50),
+                    Settings.integer("loadtest.comment-burst", 5), sockets);
+            case "overdue":
+                return new OverdueRunScenario();
+            default:
+                throw new IllegalArgumentException("Bilinmeyen senaryo: " + name);
+        }
+    }
+
+    /**
+     * Hesaplar üreticinin numaralandırmasını izler: yönetici isteyen senaryolar her
+     * {@link DataGenerator#ADMIN_EVERY}. hesabı, diğerleri tüm hesapları sırayla kullanır.
+     * Aynı hesaba düşen sanal kullanıcılar tek oturumu paylaşır; girişler paralel yapılır.
+     */
+    private static List<VirtualUser> login(ApiClient client, ExecutorService workers, List<Scenario> scenarios,
+                                           int virtualUsers, int accounts) throws Exception {
+        int admins = (accounts + DataGenerator.ADMIN_EVERY - 1) / DataGenerator.ADMIN_EVERY;
+        Map<Long, Future<ApiClient.Session>> logins = new LinkedHashMap<>();
+        List<Long> indexes = new ArrayList<>();
+        for (int i = 0; i < virtualUsers; i++) {
+            Scenario scenario = scenarios.get(i % scenarios.size());
+            long index = scenario.requiresAdmin()
+                ? 1 + (long) DataGenerator.ADMIN_EVERY * (i % admins)
+                : 1 + (i % accounts);
+            indexes.add(index);
+            logins.computeIfAbsent(index, key -> workers.submit(
+                () -> client.login(String.format(DataGenerator.EMAIL_FORMAT, key), DataGenerator.PASSWORD)));
+        }
+
+        List<VirtualUser> users = new ArrayList<>();
+        for (int i = 0; i < virtualUsers; i++) {
+            users.add(new VirtualUser(scenarios.get(i % scenarios.size()), logins.get(indexes.get(i)).get()));
+        }
+        return users;
+    }
+
+    private static final class VirtualUser {
+        private final Scenario scenario;
+        private final ApiClient.Session session;
+
+        private VirtualUser(Scenario scenario, ApiClient.Session session) {
+            this.scenario = scenario;
+            this.session = session;
+        }
+
+        // Bekleme süresi ±%50 oynatılır; sanal kullanıcılar aynı anda istek atmaz
+        private void run(ApiClient client, Duration thinkTime, long deadline) {
+            while (System.nanoTime() < deadline) {
+                try {
+                    scenario.iterate(client, session);
+                } catch (RuntimeException e) {
+                    client.report().record(scenario.name() + ".failure", 0, false);
+                }
+                long pause = thinkTime.toMillis() / 2 + ThreadLocalRandom.current().nextLong(thinkTime.toMillis() + 1);
+                try {
+                    Thread.sleep(pause);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+}
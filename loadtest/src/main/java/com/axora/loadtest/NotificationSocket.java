@@ -0,0 +1,117 @@
+package com.axora.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.WebSocket;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Frontend'deki gibi STOMP ile kullanıcının bildirim kanalına abone olur. SockJS uç noktasının
+ * ham WebSocket adresi ({@code /ws/websocket}) kullanılır. Yorum senaryosu yorum içeriğine
+ * benzersiz bir etiket koyar; etiket bildirimde görüldüğünde yorumun gönderilmesinden
+ * bildirimin ulaşmasına kadar geçen süre ölçülür.
+ */
+final class NotificationSocket implements WebSocket.Listener {
+
+    static final String TAG_PREFIX = "#yuk-";
+
+    private static final Pattern TAG = Pattern.compile(Pattern.quote(TAG_PREFIX) + "\\d+");
+    private static final LongAdder RECEIVED = new LongAdder();
+    private static final Map<String, Long> PENDING = new ConcurrentHashMap<>();
+
+    private final long userId;
+    private final LatencyReport setup;
+    private final LatencyReport report;
+    private final StringBuilder buffer = new StringBuilder();
+    private final long started = System.nanoTime();
+    private WebSocket socket;
+
+    private NotificationSocket(long userId, LatencyReport setup, LatencyReport report) {
+        this.userId = userId;
+        this.setup = setup;
+        this.report = report;
+    }
+
+    // Bağlantı süresi hazırlık raporuna, bildirim gecikmeleri ölçüm raporuna yazılır
+    static NotificationSocket open(HttpClient http, URI baseUri, String origin, long userId,
+                                   LatencyReport setup, LatencyReport report) {
+        NotificationSocket listener = new NotificationSocket(userId, setup, report);
+        URI uri = URI.create(baseUri.toString().replaceFirst("^http", "ws")).resolve("/ws/websocket");
+        http.newWebSocketBuilder()
+            .header("Origin", origin)
+            .connectTimeout(Duration.ofSeconds(10))
+            .buildAsync(uri, listener)
+            .join();
+        return listener;
+    }
+
+    // Gönderilen yorumun etiketi; bildirim geldiğinde gecikme kaydedilir
+    static void expect(String tag) {
+        PENDING.put(tag, System.nanoTime());
+    }
+
+    static long received() {
+        return RECEIVED.sum();
+    }
+
+    // Süre içinde bildirimi gelmeyen yorumlar
+    static int undelivered() {
+        return PENDING.size();
+    }
+
+    void close() {
+        if (socket != null) {
+            socket.sendClose(WebSocket.NORMAL_CLOSURE, "");
+        }
+    }
+
+    @Override
+    public void onOpen(WebSocket webSocket) {
+        socket = webSocket;
+        webSocket.sendText("CONNECT\naccept-version:1.2\nheart-beat:0,0\n\n\0", true);
+        webSocket.request(1);
+    }
+
+    @Override
+    public CompletionStage<?> onText(WebSocket webSocket, CharSequence data, boolean last) {
+        buffer.append(data);
+        if (last) {
+            String frames = buffer.toString();
+            buffer.setLength(0);
+            for (String frame : frames.split("\0")) {
+                handle(webSocket, frame.stripLeading());
+            }
+        }
+        webSocket.request(1);
+        return null;
+    }
+
+    @Override
+    public void onError(WebSocket webSocket, Throwable error) {
+        report.record("stomp.error", 0, false);
+    }
+
+    private void handle(WebSocket webSocket, String frame) {
+        if (frame.startsWith("CONNECTED")) {
+            setup.record("stomp.connect", System.nanoTime() - started, true);
+            webSocket.sendText("SUBSCRIBE\nid:sub-0\ndestination:/user/" + userId + "/notifications\n\n\0", true);
+        } else if (frame.startsWith("MESSAGE")) {
+            RECEIVED.increment();
+            Matcher tag = TAG.matcher(frame);
+            while (tag.find()) {
+                Long sent = PENDING.remove(tag.group());
+                if (sent != null) {
+                    report.record("stomp.comment-push", System.nanoTime() - sent, true);
+                }
+            }
+        } else if (frame.startsWith("ERROR")) {
+            report.record("stomp.error", System.nanoTime() - started, false);
+        }
+    }
+}
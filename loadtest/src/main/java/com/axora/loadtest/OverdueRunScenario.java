@@ -0,0 +1,34 @@
+package com.axora.loadtest;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Sabah 09:00 yoğunluğu: gecikmiş görev taraması bildirim üretirken kullanıcılar bildirim
+ * listesini, okunmamış sayısını ve kendi panellerini yükler, bir kısmı tümünü okundu işaretler.
+ * Tarama backend'de {@code OVERDUE_SCAN_CRON} ile ölçüm penceresine denk getirilir.
+ */
+final class OverdueRunScenario implements Scenario {
+
+    @Override
+    public String name() {
+        return "overdue";
+    }
+
+    @Override
+    public void iterate(ApiClient client, ApiClient.Session session) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        client.get(session, "notifications.unread-count", "/api/notifications/unread/count");
+        ApiClient.Response feed = client.get(session, "notifications.feed", "/api/notifications?limit=20");
+        if (feed.isSuccess() && feed.nextCursor != null && random.nextInt(4) == 0) {
+            client.get(session, "notifications.feed.next", "/api/notifications?limit=20&before="
+                + URLEncoder.encode(feed.nextCursor, StandardCharsets.UTF_8));
+        }
+        client.get(session, "notifications.overdue", "/api/notifications?limit=20&type=TASK_OVERDUE");
+        client.get(session, "dashboard.me", "/api/dashboard/me");
+        if (random.nextInt(10) == 0) {
+            client.patch(session, "notifications.read-all", "/api/notifications/read-all");
+        }
+    }
+}
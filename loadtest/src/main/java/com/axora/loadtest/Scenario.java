@@ -0,0 +1,23 @@
+package com.axora.loadtest;
+
+import java.util.List;
+
+/**
+ * Bir sanal kullanıcının döngüde tekrarladığı istek dizisi. Uygulamalar birden fazla iş
+ * parçacığından aynı anda çağrılır; paylaşılan durum {@link #prepare} içinde kurulur.
+ */
+interface Scenario {
+
+    String name();
+
+    // Senaryonun ölçtüğü uçlar yönetici yetkisi istiyorsa sanal kullanıcılar yönetici hesaplarıyla girer
+    default boolean requiresAdmin() {
+        return false;
+    }
+
+    // sessions: sanal kullanıcıların giriş yaptığı hesaplar
+    default void prepare(ApiClient client, ApiClient.Session admin, List<ApiClient.Session> sessions) {
+    }
+
+    void iterate(ApiClient client, ApiClient.Session session);
+}
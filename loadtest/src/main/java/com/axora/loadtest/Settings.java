@@ -0,0 +1,65 @@
+package com.axora.loadtest;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Komut satırından -D ile verilen ayarlar. exec:java aynı JVM'de çalıştığı için Maven'a verilen
+ * sistem özellikleri doğrudan okunur.
+ */
+final class Settings {
+
+    private Settings() {
+    }
+
+    static String string(String name, String defaultValue) {
+        String value = System.getProperty(name);
+        return value == null || value.isBlank() ? defaultValue : value.trim();
+    }
+
+    static int integer(String name, int defaultValue) {
+        String value = System.getProperty(name);
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim().replace("_", ""));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Geçersiz sayı: " + name + "=" + value);
+        }
+    }
+
+    static double decimal(String name, double defaultValue) {
+        String value = System.getProperty(name);
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        try {
+            return Double.parseDouble(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Geçersiz sayı: " + name + "=" + value);
+        }
+    }
+
+    // ISO-8601 (PT2M) biçiminde
+    static Duration duration(String name, Duration defaultValue) {
+        String value = System.getProperty(name);
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        try {
+            return Duration.parse(value.trim());
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Geçersiz süre (ör. PT2M): " + name + "=" + value);
+        }
+    }
+
+    static List<String> list(String name, String defaultValue) {
+        return Arrays.stream(string(name, defaultValue).split(","))
+            .map(String::trim)
+            .filter(item -> !item.isEmpty())
+            .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,103 @@
+package com.axora.loadtest;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Görev listesi: rastgele filtre ve sıralama birleşimleriyle ilk sayfa, ardından imleçle birkaç
+ * sonraki sayfa. Aramalar ve başlık önerileri de aynı ekrandan geldiği için karışıma eklenir.
+ */
+final class TaskListScenario implements Scenario {
+
+    private static final String[] STATUSES = {"TODO", "IN_PROGRESS", "DONE"};
+    private static final String[] PRIORITIES = {"LOW", "MEDIUM", "HIGH"};
+    private static final int MAX_NEXT_PAGES = 3;
+
+    private final List<Long> categoryIds = new ArrayList<>();
+    private final List<Long> assigneeIds = new ArrayList<>();
+
+    @Override
+    public String name() {
+        return "tasks";
+    }
+
+    @Override
+    public boolean requiresAdmin() {
+        return true;
+    }
+
+    @Override
+    public void prepare(ApiClient client, ApiClient.Session admin, List<ApiClient.Session> sessions) {
+        client.get(admin, "prepare", "/categories").json()
+            .forEach(category -> categoryIds.add(category.get("id").asLong()));
+        for (JsonNode task : client.get(admin, "prepare", "/tasks?size=100").json()) {
+            if (task.hasNonNull("assignedUserId")) {
+                assigneeIds.add(task.get("assignedUserId").asLong());
+            }
+        }
+    }
+
+    @Override
+    public void iterate(ApiClient client, ApiClient.Session session) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int action = random.nextInt(10);
+        if (action < 2) {
+            client.get(session, "tasks.suggest", "/tasks/suggest?q=" + encode(prefix(random)));
+            return;
+        }
+        if (action < 3) {
+            client.get(session, "tasks.search", "/tasks/search?q=" + encode(word(random)));
+            return;
+        }
+
+        String filter = filter(random);
+        ApiClient.Response page = client.get(session, "tasks.list", "/tasks?" + filter);
+        int pages = random.nextInt(MAX_NEXT_PAGES + 1);
+        for (int i = 0; i < pages && page.isSuccess() && page.nextCursor != null; i++) {
+            page = client.get(session, "tasks.list.next", "/tasks?" + filter + "&cursor=" + encode(page.nextCursor));
+        }
+    }
+
+    private String filter(ThreadLocalRandom random) {
+        StringBuilder query = new StringBuilder();
+        int sort = random.nextInt(10);
+        query.append("sort=").append(sort < 6 ? "CREATED_AT" : sort < 9 ? "DUE_DATE" : "ID");
+        query.append("&direction=").append(random.nextInt(4) == 0 ? "ASC" : "DESC");
+        if (random.nextBoolean()) {
+            query.append("&status=").append(STATUSES[random.nextInt(STATUSES.length)]);
+        }
+        if (random.nextInt(10) < 3) {
+            query.append("&priority=").append(PRIORITIES[random.nextInt(PRIORITIES.length)]);
+        }
+        if (!categoryIds.isEmpty() && random.nextInt(10) < 3) {
+            query.append("&categoryId=").append(categoryIds.get(random.nextInt(categoryIds.size())));
+        }
+        if (!assigneeIds.isEmpty() && random.nextInt(10) < 3) {
+            query.append("&assignedUserId=").append(assigneeIds.get(random.nextInt(assigneeIds.size())));
+        }
+        if (random.nextInt(10) < 2) {
+            LocalDate start = LocalDate.now().minusDays(random.nextInt(90));
+            query.append("&startDate=").append(start).append("&endDate=").append(start.plusDays(30));
+        }
+        return query.toString();
+    }
+
+    private static String prefix(ThreadLocalRandom random) {
+        String word = word(random);
+        return word.substring(0, Math.min(word.length(), 2 + random.nextInt(4)));
+    }
+
+    private static String word(ThreadLocalRandom random) {
+        return DataGenerator.WORDS[random.nextInt(DataGenerator.WORDS.length)];
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}